@@ -0,0 +1,106 @@
+package com.example.moviejbackend.service;
+
+import com.example.moviejbackend.domain.ActorInfo;
+import com.example.moviejbackend.domain.GenreInfo;
+import com.example.moviejbackend.dto.request.TMDBMovieDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 후보 생성 비교: 카탈로그 전체 순회 + 정렬 vs MovieCatalogIndex (인기순 비트맵 합집합/교집합)
+ * 결과 단위: 후보 목록 한 번 만드는 데 걸린 시간(μs)
+ * 실행: ./gradlew jmh -Pjmh.includes=MovieCatalogIndexBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MovieCatalogIndexBenchmark {
+
+    private static final int MOVIES = 50_000;
+    private static final int LIMIT = 5000;
+    private static final long[] GENRE_IDS = {28, 12, 16, 35, 80, 99, 18, 10751, 14, 36, 27, 10402, 9648, 10749, 878, 10770, 53, 10752, 37};
+
+    private final List<TMDBMovieDto> catalog = new ArrayList<>();
+    private final List<Long> genreIds = List.of(28L, 878L, 12L, 53L);
+    private final List<Long> actorIds = new ArrayList<>();
+    private MovieCatalogIndex index;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        for (int i = 0; i < MOVIES; i++) {
+            TMDBMovieDto movie = new TMDBMovieDto();
+            movie.setTmdbId((long) i + 1);
+            movie.setPopularity(random.nextDouble() * 1000);
+            List<GenreInfo> genres = new ArrayList<>();
+            int genreCount = 1 + random.nextInt(3);
+            for (int g = 0; g < genreCount; g++) {
+                genres.add(GenreInfo.builder().genreId(GENRE_IDS[random.nextInt(GENRE_IDS.length)]).build());
+            }
+            movie.setGenres(genres);
+            if (random.nextInt(3) > 0) {
+                List<ActorInfo> actors = new ArrayList<>();
+                for (int a = 0; a < 5; a++) {
+                    actors.add(ActorInfo.builder().actorId(500L + random.nextInt(20_000)).build());
+                }
+                movie.setActors(actors);
+            }
+            catalog.add(movie);
+        }
+        for (int i = 0; i < 10; i++) {
+            actorIds.add(500L + random.nextInt(2000));
+        }
+
+        MovieCatalogService movieCatalogService = new MovieCatalogService(null) {
+            @Override
+            public List<TMDBMovieDto> findAllMovies() {
+                return catalog;
+            }
+        };
+        index = new MovieCatalogIndex(movieCatalogService);
+        ReflectionTestUtils.setField(index, "enabled", true);
+        index.rebuild();
+    }
+
+    @Benchmark
+    public List<TMDBMovieDto> linearScan() {
+        Set<Long> genres = new HashSet<>(genreIds);
+        Set<Long> actors = new HashSet<>(actorIds);
+        List<TMDBMovieDto> both = new ArrayList<>();
+        List<TMDBMovieDto> either = new ArrayList<>();
+        for (TMDBMovieDto movie : catalog) {
+            boolean genreMatch = movie.getGenres().stream().anyMatch(genre -> genres.contains(genre.getGenreId()));
+            boolean actorMatch = movie.getActors() != null
+                    && movie.getActors().stream().anyMatch(actor -> actors.contains(actor.getActorId()));
+            if (genreMatch && actorMatch) {
+                both.add(movie);
+            } else if (genreMatch || actorMatch) {
+                either.add(movie);
+            }
+        }
+        Comparator<TMDBMovieDto> byPopularity = Comparator.comparing(TMDBMovieDto::getPopularity).reversed();
+        both.sort(byPopularity);
+        either.sort(byPopularity);
+        both.addAll(either);
+        return both.subList(0, Math.min(LIMIT, both.size()));
+    }
+
+    @Benchmark
+    public List<TMDBMovieDto> invertedIndex() {
+        return index.candidates(genreIds, actorIds, LIMIT);
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.moviejbackend.service;
+
+import com.example.moviejbackend.domain.ActorInfo;
+import com.example.moviejbackend.domain.GenreInfo;
+import com.example.moviejbackend.dto.request.TMDBMovieDto;
+import com.example.moviejbackend.util.HnswIndex;
+import com.example.moviejbackend.util.TopK;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 추천 후보: 전체 카탈로그 TasteProfile 점수 계산 후 top-K(brute force) vs 임베딩 HNSW 검색 (후보 CANDIDATES 편)
+ * 결과 단위: 유저 한 명당 시간(μs)
+ * 재현율(brute force top-K 중 후보에 들어간 비율)은 설정 단계에서 출력
+ * - HNSW 만 / HNSW + 선호 배우 출연작 (RecommendationService 처럼 MovieCatalogIndex 배우 목록과 합친 경우)
+ * 실행: java -jar build/libs/*-jmh.jar MovieEmbeddingBenchmark (./gradlew jmhJar 후)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MovieEmbeddingBenchmark {
+
+    private static final int MOVIES = 50_000;
+    private static final int USERS = 100;
+    private static final int K = 100;
+    private static final int CANDIDATES = 500;
+    private static final long[] GENRE_IDS = {28, 12, 16, 35, 80, 99, 18, 10751, 14, 36, 27, 10402, 9648, 10749, 878, 10770, 53, 10752, 37};
+
+    @Param({"500", "1000"})
+    public int efSearch;
+
+    private final List<TMDBMovieDto> catalog = new ArrayList<>();
+    private final List<TasteProfile> profiles = new ArrayList<>();
+    private final List<float[]> queries = new ArrayList<>();
+    private HnswIndex index;
+    private int user;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        index = new HnswIndex(MovieEmbeddings.DIMENSIONS, 16, 100);
+        for (int i = 0; i < MOVIES; i++) {
+            TMDBMovieDto movie = new TMDBMovieDto();
+            movie.setTmdbId((long) i + 1);
+            movie.setRating(random.nextInt(10) == 0 ? 0.0 : 4.0 + random.nextInt(50) / 10.0);
+            List<GenreInfo> genres = new ArrayList<>();
+            for (int g = 0, count = 1 + random.nextInt(3); g < count; g++) {
+                genres.add(GenreInfo.builder().genreId(GENRE_IDS[random.nextInt(GENRE_IDS.length)]).build());
+            }
+            movie.setGenres(genres);
+            List<ActorInfo> actors = new ArrayList<>();
+            for (int a = 0; a < 5; a++) {
+                actors.add(ActorInfo.builder().actorId(500L + random.nextInt(5000)).build());
+            }
+            movie.setActors(actors);
+            catalog.add(movie);
+            index.add(movie.getTmdbId(), MovieEmbeddings.normalize(MovieEmbeddings.movie(movie)));
+        }
+        for (int u = 0; u < USERS; u++) {
+            List<GenreInfo> genres = new ArrayList<>();
+            for (int g = 0; g < 3; g++) {
+                genres.add(GenreInfo.builder().genreId(GENRE_IDS[random.nextInt(GENRE_IDS.length)]).build());
+            }
+            List<ActorInfo> actors = new ArrayList<>();
+            for (int a = 0; a < 5; a++) {
+                actors.add(ActorInfo.builder().actorId(500L + random.nextInt(5000)).build());
+            }
+            TasteProfile profile = TasteProfile.of(genres, actors);
+            profiles.add(profile);
+            queries.add(MovieEmbeddings.normalize(MovieEmbeddings.user(profile, List.of(), 0f)));
+        }
+
+        int annHits = 0;
+        int unionHits = 0;
+        for (int u = 0; u < USERS; u++) {
+            TasteProfile profile = profiles.get(u);
+            Set<Long> candidates = new HashSet<>();
+            for (HnswIndex.Result result : index.search(queries.get(u), CANDIDATES, efSearch)) {
+                candidates.add(result.id());
+            }
+            Set<Long> withActors = new HashSet<>(candidates);
+            Set<Long> preferredActors = new HashSet<>(profile.preferredActorIds());
+            for (TMDBMovieDto movie : catalog) {
+                if (movie.getActors().stream().anyMatch(actor -> preferredActors.contains(actor.getActorId()))) {
+                    withActors.add(movie.getTmdbId());
+                }
+            }
+            for (Long tmdbId : bruteForce(profile)) {
+                if (candidates.contains(tmdbId)) annHits++;
+                if (withActors.contains(tmdbId)) unionHits++;
+            }
+        }
+        System.out.printf("%nrecall@%d (ef-search=%d, 후보 %d): HNSW %.3f, HNSW + 배우 목록 %.3f%n",
+                K, efSearch, CANDIDATES, (double) annHits / (USERS * K), (double) unionHits / (USERS * K));
+    }
+
+    @Benchmark
+    public List<Long> bruteForceScoring() {
+        return bruteForce(profiles.get(nextUser()));
+    }
+
+    @Benchmark
+    public List<HnswIndex.Result> hnswSearch() {
+        return index.search(queries.get(nextUser()), CANDIDATES, efSearch);
+    }
+
+    private int nextUser() {
+        user = (user + 1) % USERS;
+        return user;
+    }
+
+    private List<Long> bruteForce(TasteProfile profile) {
+        double[] scores = new double[catalog.size()];
+        long[] ids = new long[catalog.size()];
+        for (int i = 0; i < scores.length; i++) {
+            TMDBMovieDto movie = catalog.get(i);
+            ids[i] = movie.getTmdbId();
+            scores[i] = profile.score(movie.getGenres(), movie.getActors(), movie.getRating());
+        }
+        List<Long> top = new ArrayList<>(K);
+        for (int index : TopK.select(scores, ids, K)) {
+            top.add(ids[index]);
+        }
+        return top;
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.moviejbackend.service;
+
+import com.example.moviejbackend.domain.ActorInfo;
+import com.example.moviejbackend.domain.GenreInfo;
+import com.example.moviejbackend.dto.request.TMDBMovieDto;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TMDB 응답 파싱 비교: 기존 String + readTree 방식 vs 스트리밍 파서
+ * 처리량(ops/ms)과 호출당 할당량(gc.alloc.rate.norm)을 비교
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TMDBResponseParserBenchmark {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private TMDBResponseParser parser;
+
+    private byte[] moviePage;
+    private byte[] credits;
+
+    @Setup
+    public void setUp() {
+        parser = new TMDBResponseParser(objectMapper.getFactory(), genreId -> "장르" + genreId);
+        moviePage = buildMoviePage(20).getBytes(StandardCharsets.UTF_8);
+        credits = buildCredits(60, 80).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public List<TMDBMovieDto> moviePageReadTree() throws Exception {
+        // 기존 방식: 응답 전체를 String 으로 받은 뒤 JsonNode 트리 생성
+        JsonNode root = objectMapper.readTree(new String(moviePage, StandardCharsets.UTF_8));
+        List<TMDBMovieDto> movies = new ArrayList<>();
+        for (JsonNode movieNode : root.get("results")) {
+            TMDBMovieDto movie = new TMDBMovieDto();
+            movie.setTmdbId(movieNode.get("id").asLong());
+            movie.setTitle(movieNode.get("title").asText());
+            movie.setOverview(movieNode.has("overview") ? movieNode.get("overview").asText() : "");
+            movie.setPosterPath(movieNode.has("poster_path") ? movieNode.get("poster_path").asText() : "");
+            movie.setReleaseDate(movieNode.has("release_date") ? movieNode.get("release_date").asText() : "");
+            movie.setRating(movieNode.has("vote_average") ? movieNode.get("vote_average").asDouble() : 0.0);
+            List<GenreInfo> genres = new ArrayList<>();
+            for (JsonNode genreId : movieNode.get("genre_ids")) {
+                GenreInfo genre = new GenreInfo();
+                genre.setGenreId(genreId.asLong());
+                genre.setGenreName("장르" + genreId.asLong());
+                genres.add(genre);
+            }
+            movie.setGenres(genres);
+            movies.add(movie);
+        }
+        return movies;
+    }
+
+    @Benchmark
+    public List<TMDBMovieDto> moviePageStreaming() throws Exception {
+        return parser.parseMoviePage(new ByteArrayInputStream(moviePage));
+    }
+
+    @Benchmark
+    public List<ActorInfo> creditsReadTree() throws Exception {
+        JsonNode root = objectMapper.readTree(new String(credits, StandardCharsets.UTF_8));
+        JsonNode cast = root.get("cast");
+        List<ActorInfo> actors = new ArrayList<>();
+        int limit = Math.min(5, cast.size());
+        for (int i = 0; i < limit; i++) {
+            JsonNode actorNode = cast.get(i);
+            ActorInfo actor = new ActorInfo();
+            actor.setActorId(actorNode.get("id").asLong());
+            actor.setActorName(actorNode.get("name").asText());
+            actors.add(actor);
+        }
+        return actors;
+    }
+
+    @Benchmark
+    public List<ActorInfo> creditsStreaming() throws Exception {
+        return parser.parseCast(new ByteArrayInputStream(credits), 5);
+    }
+
+    /**
+     * discover/popular 응답과 같은 형태의 페이지 (사용하지 않는 필드 포함)
+     */
+    private static String buildMoviePage(int size) {
+        StringBuilder json = new StringBuilder("{\"page\":1,\"results\":[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) json.append(',');
+            json.append("{\"adult\":false,\"backdrop_path\":\"/backdrop").append(i).append(".jpg\",")
+                    .append("\"genre_ids\":[28,12,878],\"id\":").append(1000 + i).append(',')
+                    .append("\"original_language\":\"en\",\"original_title\":\"Original Title ").append(i).append("\",")
+                    .append("\"overview\":\"").append("줄거리 설명 문장입니다. ".repeat(20)).append("\",")
+                    .append("\"popularity\":").append(1500.5 - i).append(',')
+                    .append("\"poster_path\":\"/poster").append(i).append(".jpg\",")
+                    .append("\"release_date\":\"2024-05-01\",\"title\":\"영화 제목 ").append(i).append("\",")
+                    .append("\"video\":false,\"vote_average\":7.3,\"vote_count\":4521}");
+        }
+        return json.append("],\"total_pages\":500,\"total_results\":10000}").toString();
+    }
+
+    /**
+     * credits 응답과 같은 형태 (cast, crew 포함)
+     */
+    private static String buildCredits(int castSize, int crewSize) {
+        StringBuilder json = new StringBuilder("{\"id\":1000,\"cast\":[");
+        for (int i = 0; i < castSize; i++) {
+            if (i > 0) json.append(',');
+            json.append("{\"adult\":false,\"gender\":2,\"id\":").append(5000 + i)
+                    .append(",\"known_for_department\":\"Acting\",\"name\":\"배우 ").append(i)
+                    .append("\",\"original_name\":\"Actor ").append(i)
+                    .append("\",\"popularity\":35.2,\"profile_path\":\"/profile").append(i)
+                    .append(".jpg\",\"cast_id\":").append(i)
+                    .append(",\"character\":\"Character ").append(i)
+                    .append("\",\"credit_id\":\"52fe4").append(i).append("\",\"order\":").append(i).append('}');
+        }
+        json.append("],\"crew\":[");
+        for (int i = 0; i < crewSize; i++) {
+            if (i > 0) json.append(',');
+            json.append("{\"adult\":false,\"gender\":1,\"id\":").append(9000 + i)
+                    .append(",\"known_for_department\":\"Crew\",\"name\":\"Crew ").append(i)
+                    .append("\",\"department\":\"Production\",\"job\":\"Producer\"}");
+        }
+        return json.append("]}").toString();
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.moviejbackend.service;
+
+import com.example.moviejbackend.domain.ActorInfo;
+import com.example.moviejbackend.domain.GenreInfo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 매칭 점수 계산 비교: 기존 stream 중첩 탐색 vs TasteProfile (비트마스크 + 정렬 배열)
+ * 결과 단위: 초당 점수 계산한 영화 수, gc.alloc.rate.norm 은 영화 한 편당 할당량
+ * 실행: ./gradlew jmh -Pjmh.includes=TasteProfileBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class TasteProfileBenchmark {
+
+    private static final int MOVIES = 1000;
+    private static final long[] GENRE_IDS = {28, 12, 16, 35, 80, 99, 18, 10751, 14, 36, 27, 10402, 9648, 10749, 878, 10770, 53, 10752, 37};
+
+    private List<GenreInfo> userGenres;
+    private List<ActorInfo> userActors;
+    private TasteProfile profile;
+
+    private final List<List<GenreInfo>> movieGenres = new ArrayList<>();
+    private final List<List<ActorInfo>> movieActors = new ArrayList<>();
+    private final List<Double> ratings = new ArrayList<>();
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        // 선호 장르 6개(중복 포함), 선호 배우 10명 - 여러 번 선호를 저장한 사용자
+        userGenres = new ArrayList<>();
+        for (long genreId : new long[]{28, 878, 12, 18, 28, 53}) {
+            userGenres.add(genre(genreId));
+        }
+        userActors = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            userActors.add(actor(500L + random.nextInt(40)));
+        }
+        profile = TasteProfile.of(userGenres, userActors);
+
+        for (int i = 0; i < MOVIES; i++) {
+            List<GenreInfo> genres = new ArrayList<>();
+            int genreCount = 1 + random.nextInt(4);
+            for (int g = 0; g < genreCount; g++) {
+                genres.add(genre(GENRE_IDS[random.nextInt(GENRE_IDS.length)]));
+            }
+            List<ActorInfo> actors = new ArrayList<>();
+            for (int a = 0; a < 5; a++) {
+                actors.add(actor(500L + random.nextInt(400)));
+            }
+            movieGenres.add(genres);
+            movieActors.add(actors);
+            ratings.add(random.nextInt(10) == 0 ? 0.0 : 4.0 + random.nextInt(50) / 10.0);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MOVIES)
+    public double streamScorer() {
+        double sum = 0;
+        for (int i = 0; i < MOVIES; i++) {
+            sum += legacyScore(userGenres, userActors, movieGenres.get(i), movieActors.get(i), ratings.get(i));
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MOVIES)
+    public double tasteProfileScorer() {
+        double sum = 0;
+        for (int i = 0; i < MOVIES; i++) {
+            sum += profile.score(movieGenres.get(i), movieActors.get(i), ratings.get(i));
+        }
+        return sum;
+    }
+
+    /**
+     * 기존 MatchingScoreService.score 구현 (비교 기준)
+     */
+    static double legacyScore(List<GenreInfo> allGenres, List<ActorInfo> allActors,
+                              List<GenreInfo> movieGenres, List<ActorInfo> movieActors, Double rating) {
+        List<GenreInfo> genres = movieGenres != null ? movieGenres : List.of();
+        List<ActorInfo> actors = movieActors != null ? movieActors : List.of();
+
+        long matchGenreCount = allGenres.stream()
+                .filter(g -> genres.stream()
+                        .anyMatch(mg -> mg.getGenreId() != null && mg.getGenreId().equals(g.getGenreId())))
+                .count();
+        double genreScore = allGenres.isEmpty() ? 0.0 : (matchGenreCount * 100.0 / allGenres.size());
+
+        long matchActorCount = allActors.stream()
+                .filter(a -> actors.stream()
+                        .anyMatch(ma -> ma.getActorId() != null && ma.getActorId().equals(a.getActorId())))
+                .count();
+        double actorScore = allActors.isEmpty() ? 0.0 : (matchActorCount * 100.0 / allActors.size());
+
+        double publicScore = (rating == null || rating == 0.0) ? 65.0 : rating * 10.0;
+        double matchingScore = (genreScore * 1.4) + (actorScore * 1.5);
+        double finalScore = (20.0 * 0.15) + (publicScore * 0.6) + (matchingScore * 0.25);
+        if (finalScore > 100.0) finalScore = 100.0;
+        return Math.round(finalScore);
+    }
+
+    private static GenreInfo genre(long genreId) {
+        GenreInfo genre = new GenreInfo();
+        genre.setGenreId(genreId);
+        return genre;
+    }
+
+    private static ActorInfo actor(long actorId) {
+        ActorInfo actor = new ActorInfo();
+        actor.setActorId(actorId);
+        return actor;
+    }
+}
@@ -4,12 +4,14 @@ import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 import io.github.cdimascio.dotenv.Dotenv;
 
 @SpringBootApplication(scanBasePackages = "com.example.moviejbackend")
 @EntityScan("com.example.moviejbackend.domain")
 @EnableJpaRepositories("com.example.moviejbackend.repository")
+@EnableScheduling
 public class MoviejBackendApplication {
 
     public static void main(String[] args) {
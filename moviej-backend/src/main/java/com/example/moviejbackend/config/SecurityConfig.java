@@ -45,6 +45,8 @@ public class SecurityConfig {
         ));
         configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "OPTIONS", "PATCH"));
         configuration.setAllowedHeaders(Arrays.asList("*"));
+        // 프론트엔드에서 읽을 수 있는 응답 헤더 (추천 부분 결과, 미리 계산 여부와 경과 시간)
+        configuration.setExposedHeaders(Arrays.asList("X-Recommendation-Partial", "X-Recommendation-Source", "X-Recommendation-Age", "ETag"));
         configuration.setAllowCredentials(true);
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
         source.registerCorsConfiguration("/**", configuration);
@@ -0,0 +1,88 @@
+package com.example.moviejbackend.config;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * 외부 API(TMDB 등) 호출용 HTTP 전송 계층
+ * - 커넥션 풀 공유 (keep-alive 재사용, 유휴/만료 커넥션 정리)
+ * - gzip/deflate 응답 압축 자동 처리
+ * - 연결/읽기/풀 대기 타임아웃 명시
+ * - 풀 상태(httpcomponents.httpclient.pool.*)와 요청별 지표(http.client.requests) 기록
+ * 다른 외부 API 클라이언트도 upstreamRequestFactory 로 RestTemplate 을 만들어 사용
+ */
+@Configuration
+public class UpstreamHttpConfig {
+
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager upstreamConnectionManager(
+            @Value("${upstream.http.max-connections:50}") int maxConnections,
+            @Value("${upstream.http.max-connections-per-route:20}") int maxConnectionsPerRoute,
+            @Value("${upstream.http.connect-timeout-ms:1000}") long connectTimeoutMs,
+            @Value("${upstream.http.read-timeout-ms:2500}") long readTimeoutMs) {
+        return PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnectionsPerRoute)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+                        .setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                        .setTimeToLive(TimeValue.ofMinutes(5))
+                        .build())
+                .build();
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient upstreamHttpClient(
+            PoolingHttpClientConnectionManager upstreamConnectionManager,
+            @Value("${upstream.http.pool-acquire-timeout-ms:500}") long poolAcquireTimeoutMs,
+            @Value("${upstream.http.read-timeout-ms:2500}") long readTimeoutMs) {
+        return HttpClients.custom()
+                .setConnectionManager(upstreamConnectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(poolAcquireTimeoutMs))
+                        .setResponseTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofSeconds(30))
+                .build();
+    }
+
+    @Bean
+    public ClientHttpRequestFactory upstreamRequestFactory(CloseableHttpClient upstreamHttpClient) {
+        return new HttpComponentsClientHttpRequestFactory(upstreamHttpClient);
+    }
+
+    /**
+     * TMDB 전용 RestTemplate (tmdb.api.base-url 기준 상대 경로로 호출)
+     */
+    @Bean
+    public RestTemplate tmdbRestTemplate(
+            RestTemplateBuilder restTemplateBuilder,
+            ClientHttpRequestFactory upstreamRequestFactory,
+            @Value("${tmdb.api.base-url}") String baseUrl) {
+        return restTemplateBuilder
+                .rootUri(baseUrl)
+                .requestFactory(() -> upstreamRequestFactory)
+                .build();
+    }
+
+    @Bean
+    public MeterBinder upstreamConnectionPoolMetrics(PoolingHttpClientConnectionManager upstreamConnectionManager) {
+        return new PoolingHttpClientConnectionManagerMetricsBinder(upstreamConnectionManager, "upstream");
+    }
+}
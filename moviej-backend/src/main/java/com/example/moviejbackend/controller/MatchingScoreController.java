@@ -6,11 +6,16 @@ import lombok.RequiredArgsConstructor;
 
 import com.example.moviejbackend.service.MatchingScoreService;
 
+import java.util.List;
+import java.util.Map;
+
 @RestController
 @RequestMapping("/users")
 @RequiredArgsConstructor
 public class MatchingScoreController {
 
+    private static final int MAX_BATCH_SIZE = 100;
+
     private final MatchingScoreService recommendationService;
 
 
@@ -23,5 +28,18 @@ public class MatchingScoreController {
         return ResponseEntity.ok().body(new ScoreResponse(score));
     }
 
+    // 여러 영화 매칭 점수 한 번에 조회 (응답: tmdbId → 점수)
+    @PostMapping("/matching-score/batch")
+    public ResponseEntity<?> getMatchingScores(
+            @RequestParam String email,
+            @RequestBody List<com.example.moviejbackend.dto.request.TMDBMovieDto> movies
+    ) {
+        if (movies.size() > MAX_BATCH_SIZE) {
+            return ResponseEntity.badRequest().body(Map.of("error", "한 번에 최대 " + MAX_BATCH_SIZE + "개까지 조회할 수 있습니다."));
+        }
+        Map<Long, Double> scores = recommendationService.calculateMatchingScores(email, movies);
+        return ResponseEntity.ok().body(scores);
+    }
+
     private record ScoreResponse(double score) {}
 }
\ No newline at end of file
@@ -1,95 +1,102 @@
 package com.example.moviejbackend.controller;
 
 import com.example.moviejbackend.dto.request.TMDBMovieDto;
-import com.example.moviejbackend.domain.UserPreference;
-import com.example.moviejbackend.domain.User;
-import com.example.moviejbackend.repository.UserRepository;
-import com.example.moviejbackend.repository.UserPreferenceRepository;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import lombok.RequiredArgsConstructor;
-import com.example.moviejbackend.service.TMDBService;
+import com.example.moviejbackend.service.RecommendationMaterializer;
+import com.example.moviejbackend.service.RecommendationResponseCache;
+import com.example.moviejbackend.service.RecommendationService;
+import com.example.moviejbackend.service.TasteProfileCache;
+
+import java.time.Instant;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/recommendations")
 @RequiredArgsConstructor
 public class RecommendationController {
-	private final com.example.moviejbackend.service.MatchingScoreService matchingScoreService;
-	private final TMDBService tmdbService;
-	private final UserRepository userRepository;
-	private final UserPreferenceRepository userPreferenceRepository;
+	public static final String PARTIAL_HEADER = "X-Recommendation-Partial";
+	public static final String SOURCE_HEADER = "X-Recommendation-Source";
+	public static final String AGE_HEADER = "X-Recommendation-Age";
+
+	// 브라우저가 저장은 하되 매번 ETag 로 재검증 (유저별 응답이므로 공유 캐시 금지)
+	private static final CacheControl CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
+	private final RecommendationService recommendationService;
+	private final RecommendationMaterializer recommendationMaterializer;
+	private final RecommendationResponseCache recommendationResponseCache;
+	private final TasteProfileCache tasteProfileCache;
 
 	// 추천 영화 목록 API (사용자 선호 기반 TMDB 검색)
+	// 미리 계산한 결과가 있으면 바로 반환, 없으면 실시간 계산 (X-Recommendation-Source: materialized | live)
+	// X-Recommendation-Age: 결과를 계산한 지 몇 초 지났는지
+	// budgetMs: 실시간 계산의 응답 시간 예산 (없으면 recommendation.budget.default-ms), 예산 안에 끝나지 않은 후보 소스는 제외
+	// 제외된 소스는 X-Recommendation-Partial 헤더로 알림 (예: "actor:500,credits")
+	// 응답은 (유저, 선호도/리뷰/찜 버전, count) 별로 잠시 캐시, If-None-Match 가 ETag 와 같으면 304 (본문 없음)
 	@GetMapping("/movies")
 	public ResponseEntity<List<TMDBMovieDto>> getRecommendedMovies(
 					@RequestParam String email,
-					@RequestParam(defaultValue = "5") int count) {
-
-			System.out.println("🎬 추천 영화 API 호출: email=" + email + ", count=" + count);
-
-			// 1. 사용자 선호도 조회
-			User user = userRepository.findByEmail(email)
-							.orElseThrow(() -> new IllegalArgumentException("유저를 찾을 수 없습니다. email=" + email));
-
-			List<UserPreference> preferences = userPreferenceRepository.findByUserId(user.getId());
-			System.out.println("📊 UserPreference 개수: " + preferences.size());
-			
-			if (preferences.isEmpty()) {
-					System.out.println("⚠️ UserPreference가 비어있습니다!");
-					return ResponseEntity.ok(Collections.emptyList());
+					@RequestParam(defaultValue = "5") int count,
+					@RequestParam(required = false) Long budgetMs,
+					@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+
+			System.out.println("🎬 추천 영화 API 호출: email=" + email + ", count=" + count + ", budgetMs=" + budgetMs);
+
+			RecommendationResponseCache.Key key = recommendationResponseCache.key(tasteProfileCache.userId(email), count);
+			RecommendationResponseCache.Entry entry = recommendationResponseCache.get(key);
+			if (entry == null) {
+				RecommendationMaterializer.Served served = recommendationMaterializer.find(email, count);
+				if (served != null) {
+					if (!served.partialSources().isEmpty()) {
+						return partial(served.movies(), "materialized", served.ageSeconds(), served.partialSources());
+					}
+					entry = recommendationResponseCache.put(key, served.movies(), served.computedAt(), "materialized", served.partialSources());
+				} else {
+					RecommendationService.RecommendationResult result = recommendationService.recommend(email, count, budgetMs);
+					if (!result.partialSources().isEmpty()) {
+						return partial(result.movies(), "live", 0L, result.partialSources());
+					}
+					entry = recommendationResponseCache.put(key, result.movies(), Instant.now(), "live", result.partialSources());
+				}
 			}
 
-			// 2. 선호 장르/배우 ID 추출
-			Set<Long> genreIds = preferences.stream()
-							.flatMap(p -> p.getGenres().stream())
-							.filter(g -> g.getGenreId() != null && g.getGenreId() > 0)
-							.map(g -> g.getGenreId())
-							.collect(Collectors.toSet());
-
-			Set<Long> actorIds = preferences.stream()
-							.flatMap(p -> p.getActors().stream())
-							.filter(a -> a.getActorId() != null && a.getActorId() > 0)
-							.map(a -> a.getActorId())
-							.collect(Collectors.toSet());
-
-			System.out.println("🎭 추출된 장르 ID: " + genreIds);
-			System.out.println("👥 추출된 배우 ID: " + actorIds);
-
-			// 3. TMDB에서 장르/배우별 영화 검색 (각각 1~2페이지, 중복 제거)
-			Set<TMDBMovieDto> candidateMovies = new HashSet<>();
-			
-			// 장르별 검색 (최대 3개 장르, 각 1페이지)
-			genreIds.stream().limit(3).forEach(genreId -> {
-					List<TMDBMovieDto> genreMovies = tmdbService.searchMoviesByGenre(genreId, 1);
-					System.out.println("🎬 장르 " + genreId + " 검색 결과: " + genreMovies.size() + "개");
-					candidateMovies.addAll(genreMovies);
-			});
-
-			// 배우별 검색 (최대 3명 배우, 각 1페이지)
-			actorIds.stream().limit(3).forEach(actorId -> {
-					List<TMDBMovieDto> actorMovies = tmdbService.searchMoviesByActor(actorId, 1);
-					System.out.println("👤 배우 " + actorId + " 검색 결과: " + actorMovies.size() + "개");
-					candidateMovies.addAll(actorMovies);
-			});
-
-			System.out.println("📦 후보 영화 총 개수: " + candidateMovies.size());
+			if (entry.matches(ifNoneMatch)) {
+				return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+								.eTag(entry.eTag())
+								.cacheControl(CACHE_CONTROL)
+								.build();
+			}
+			return respond(entry);
+	}
 
-			// 4. 각 영화마다 매칭 점수 계산
-			List<TMDBMovieDto> scoredMovies = candidateMovies.stream()
-							.map(movie -> {
-									double score = matchingScoreService.calculateMatchingScore(email, movie);
-									movie.setMatchingScore(score);
-									return movie;
-							})
-							.sorted((m1, m2) -> Double.compare(m2.getMatchingScore(), m1.getMatchingScore()))
-							.limit(count)
-							.collect(Collectors.toList());
+	// 일부 소스가 빠진 결과는 캐시하지 않음 (응답 캐시/브라우저 모두, 다음 요청에서 전체 결과를 받을 수 있도록)
+	private static ResponseEntity<List<TMDBMovieDto>> partial(List<TMDBMovieDto> movies, String source, long ageSeconds,
+															  List<String> partialSources) {
+			return withPartialHeader(ResponseEntity.ok()
+							.header(SOURCE_HEADER, source)
+							.header(AGE_HEADER, String.valueOf(ageSeconds))
+							.cacheControl(CacheControl.noStore()), partialSources)
+							.body(movies);
+	}
 
-			System.out.println("✅ 최종 추천 영화: " + scoredMovies.size() + "개");
+	private static ResponseEntity<List<TMDBMovieDto>> respond(RecommendationResponseCache.Entry entry) {
+			return withPartialHeader(ResponseEntity.ok()
+							.header(SOURCE_HEADER, entry.source())
+							.header(AGE_HEADER, String.valueOf(entry.ageSeconds()))
+							.eTag(entry.eTag())
+							.cacheControl(CACHE_CONTROL), entry.partialSources())
+							.body(entry.movies());
+	}
 
-			return ResponseEntity.ok(scoredMovies);
+	private static ResponseEntity.BodyBuilder withPartialHeader(ResponseEntity.BodyBuilder response, List<String> partialSources) {
+			if (!partialSources.isEmpty()) {
+				response.header(PARTIAL_HEADER, String.join(",", partialSources));
+			}
+			return response;
 	}
 }
\ No newline at end of file
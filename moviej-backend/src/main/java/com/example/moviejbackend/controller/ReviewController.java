@@ -1,71 +1,141 @@
 package com.example.moviejbackend.controller;
 
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
 
 import org.springframework.data.domain.Pageable;
 import com.example.moviejbackend.dto.response.PagedReviewResponseDto;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import com.example.moviejbackend.domain.Review;
 import com.example.moviejbackend.dto.request.ReviewRequestDto;
 import com.example.moviejbackend.dto.response.ReviewResponseDto;
 import com.example.moviejbackend.service.ReviewService;
+import jakarta.servlet.http.HttpServletRequest;
 
 @RestController
 @RequestMapping("/reviews")
 public class ReviewController {
 
+    private static final int DEFAULT_CURSOR_PAGE_SIZE = 20;
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    private static final int FULL_STREAM_RETRY_AFTER_SECONDS = 5;
+    private static final String FULL_STREAM_RELEASE_KEY = ReviewController.class.getName() + ".fullStreamRelease";
+
     @Autowired
     private ReviewService reviewService;
 
+     // 전체 리뷰 조회 (page, size, cursor 없음) - 전체를 메모리에 올리지 않고 스트리밍
+     // Accept: application/x-ndjson 이면 한 줄에 리뷰 하나, 그 외에는 JSON 배열 (기존 응답과 같은 형태)
+     // 동시 전체 조회 수를 넘으면 기다리지 않고 바로 503 (응답을 시작하기 전에 판단)
+     // 허가는 본문이 끝날 때 반납, 본문이 실행되지 못한 채 요청이 끝나도(타임아웃/연결 끊김/오류) 요청 완료 시 반납
+    @GetMapping(params = {"!page", "!size", "!cursor"})
+    public ResponseEntity<StreamingResponseBody> streamAllReviews(
+            @RequestParam(value = "email", required = false) String email, // 선택적 파라미터
+            @RequestParam(value = "summary", required = false, defaultValue = "false") boolean summary, // true: content 제외
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            HttpServletRequest request) {
+        Runnable release = reviewService.tryAcquireFullStream();
+        if (release == null) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(FULL_STREAM_RETRY_AFTER_SECONDS))
+                .build();
+        }
+        WebAsyncUtils.getAsyncManager(request).registerCallableInterceptor(FULL_STREAM_RELEASE_KEY,
+            new CallableProcessingInterceptor() {
+                @Override
+                public <T> void afterCompletion(NativeWebRequest webRequest, Callable<T> task) {
+                    release.run();
+                }
+            });
+        boolean ndjson = isNdjson(accept);
+        return streaming(ndjson, out -> {
+            try {
+                reviewService.streamAllReviews(email, summary, ndjson, out);
+            } finally {
+                release.run();
+            }
+        });
+    }
+
      // 전체 리뷰 조회 (페이지네이션) - 로그인 없이도 조회 가능
+     // cursor 가 있으면 커서 페이지네이션 (첫 페이지는 cursor=, 다음 페이지는 응답의 nextCursor)
     @GetMapping
     public ResponseEntity<?> getAllReviews(
             @RequestParam(value = "email", required = false) String email, // 선택적 파라미터
-            @RequestParam(value = "page", required = false) Integer page,
             @RequestParam(value = "size", required = false) Integer size,
+            @RequestParam(value = "summary", required = false, defaultValue = "false") boolean summary, // true: content 제외
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "withTotal", required = false, defaultValue = "false") boolean withTotal, // true: 전체 개수 포함
             Pageable pageable) {
 
-        if (page != null || size != null) {
-            // 페이지네이션 요청
-            PagedReviewResponseDto pagedReviews = reviewService.getAllReviewsPagedWithLike(email, pageable);
-            return ResponseEntity.ok(pagedReviews);
-        } else {
-            // 전체 리스트 요청
-            List<ReviewResponseDto> reviews = reviewService.getAllReviewsWithLike(email);
-            return ResponseEntity.ok(reviews);
+        if (cursor != null) {
+            try {
+                return ResponseEntity.ok(reviewService.getAllReviewsByCursor(
+                    email, cursor, size != null ? size : DEFAULT_CURSOR_PAGE_SIZE, summary, withTotal));
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+            }
         }
+        // 페이지네이션 요청
+        PagedReviewResponseDto pagedReviews = reviewService.getAllReviewsPagedWithLike(email, pageable, summary);
+        return ResponseEntity.ok(pagedReviews);
     }
 
     // 전체 리뷰 좋아요순 조회 (메인페이지용 - 이메일 불필요)
     @GetMapping("/popular")
     public ResponseEntity<List<ReviewResponseDto>> getPopularReviews(
-            @RequestParam(value = "limit", required = false, defaultValue = "5") Integer limit) {
+            @RequestParam(value = "limit", required = false, defaultValue = "5") Integer limit,
+            @RequestParam(value = "summary", required = false, defaultValue = "false") boolean summary) { // true: content 제외
 
-        List<ReviewResponseDto> reviews = reviewService.getAllReviewsByLikes(limit);
+        List<ReviewResponseDto> reviews = reviewService.getAllReviewsByLikes(limit, summary);
         return ResponseEntity.ok(reviews);
     }
 
+    // 특정 영화 리뷰 조회 (page, size, cursor 없음) - 스트리밍 (형식은 전체 리뷰 스트리밍과 같음)
+    @GetMapping(value = "/movie/{tmdbMovieId}", params = {"!page", "!size", "!cursor"})
+    public ResponseEntity<StreamingResponseBody> streamMovieReviews(
+            @PathVariable String tmdbMovieId,
+            @RequestParam(value = "email", required = false) String email, // 선택적 파라미터
+            @RequestParam(value = "summary", required = false, defaultValue = "false") boolean summary, // true: content 제외
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        boolean ndjson = isNdjson(accept);
+        return streaming(ndjson, out -> reviewService.streamMovieReviews(tmdbMovieId, email, summary, ndjson, out));
+    }
+
     // 특정 영화 리뷰 조회 (페이지네이션) - 로그인 없이도 조회 가능
+    // cursor 가 있으면 커서 페이지네이션
     @GetMapping("/movie/{tmdbMovieId}")
     public ResponseEntity<?> getMovieReviews(
             @PathVariable String tmdbMovieId,
             @RequestParam(value = "email", required = false) String email, // 선택적 파라미터
-            @RequestParam(value = "page", required = false) Integer page,
             @RequestParam(value = "size", required = false) Integer size,
-            Pageable pageable) {  
+            @RequestParam(value = "summary", required = false, defaultValue = "false") boolean summary, // true: content 제외
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "withTotal", required = false, defaultValue = "false") boolean withTotal, // true: 전체 개수 포함
+            Pageable pageable) {
         
-        if (page != null || size != null) {
-            // 페이지네이션 요청
-            PagedReviewResponseDto pagedReviews = reviewService.getMovieReviewsPagedWithLike(tmdbMovieId, email, pageable);
-            return ResponseEntity.ok(pagedReviews);
-        } else {
-            // 전체 리스트 요청 (기존 방식)
-            List<ReviewResponseDto> reviews = reviewService.getMovieReviewsWithLike(tmdbMovieId, email);
-            return ResponseEntity.ok(reviews);
+        if (cursor != null) {
+            try {
+                return ResponseEntity.ok(reviewService.getMovieReviewsByCursor(
+                    tmdbMovieId, email, cursor, size != null ? size : DEFAULT_CURSOR_PAGE_SIZE, summary, withTotal));
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+            }
         }
+        // 페이지네이션 요청
+        PagedReviewResponseDto pagedReviews = reviewService.getMovieReviewsPagedWithLike(tmdbMovieId, email, pageable, summary);
+        return ResponseEntity.ok(pagedReviews);
     }
 
     // 리뷰 작성
@@ -89,10 +159,32 @@ public class ReviewController {
         return ResponseEntity.ok(updatedReview);  // 최신 isLiked, likes 포함된 DTO 반환
     }
 
-    // 자신이 쓴 리뷰만 조회
+    // 자신이 쓴 리뷰만 조회 (cursor 가 있으면 커서 페이지네이션)
     @GetMapping("/my")
-    public ResponseEntity<List<ReviewResponseDto>> getMyReviews(@RequestParam("email") String email) {
+    public ResponseEntity<?> getMyReviews(
+            @RequestParam("email") String email,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false, defaultValue = "20") int size,
+            @RequestParam(value = "withTotal", required = false, defaultValue = "false") boolean withTotal) {
+        if (cursor != null) {
+            try {
+                return ResponseEntity.ok(reviewService.getReviewsByUserByCursor(email, cursor, size, withTotal));
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+            }
+        }
         List<ReviewResponseDto> reviews = reviewService.getReviewsByUser(email);
         return ResponseEntity.ok(reviews);
     }
-}
\ No newline at end of file
+
+    private static boolean isNdjson(String accept) {
+        return accept != null && accept.contains(NDJSON.toString());
+    }
+
+    // 청크 단위로 바로 전송 (버퍼링 없이, 느린 클라이언트면 DB 커서도 그만큼 천천히 읽음)
+    private static ResponseEntity<StreamingResponseBody> streaming(boolean ndjson, StreamingResponseBody body) {
+        return ResponseEntity.ok()
+            .contentType(ndjson ? NDJSON : MediaType.APPLICATION_JSON)
+            .body(body);
+    }
+}
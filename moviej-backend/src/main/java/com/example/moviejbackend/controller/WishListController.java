@@ -57,9 +57,21 @@ public class WishListController {
     /**
      * 찜 목록 조회
      * GET /wishlist?email=test@example.com
+     * 커서 페이지네이션: GET /wishlist?email=...&cursor=&size=20 (다음 페이지는 응답의 nextCursor)
      */
     @GetMapping
-    public ResponseEntity<List<WishListResponseDto>> getWishList(@RequestParam String email) {
+    public ResponseEntity<?> getWishList(
+            @RequestParam String email,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean withTotal) {
+        if (cursor != null) {
+            try {
+                return ResponseEntity.ok(wishListService.getWishListByCursor(email, cursor, size, withTotal));
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+            }
+        }
         List<WishListResponseDto> wishList = wishListService.getWishList(email);
         return ResponseEntity.ok(wishList);
     }
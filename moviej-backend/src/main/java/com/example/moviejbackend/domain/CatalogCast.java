@@ -0,0 +1,22 @@
+package com.example.moviejbackend.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.*;
+
+/**
+ * 카탈로그 영화의 출연 배우
+ */
+@Embeddable
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CatalogCast {
+
+    @Column(name = "actor_id", nullable = false)
+    private Long actorId;    // 배우 고유 ID
+
+    @Column(name = "actor_name")
+    private String actorName;
+}
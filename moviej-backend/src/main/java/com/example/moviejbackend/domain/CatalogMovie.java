@@ -0,0 +1,67 @@
+package com.example.moviejbackend.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 로컬 영화 카탈로그 (TMDB 영화 메타데이터, 장르, 주요 출연진)
+ * TMDB 대량 가져오기 + /movie/changes 증분 동기화로 유지
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "movie_catalog")
+public class CatalogMovie {
+
+    @Id
+    private Long tmdbId;      // TMDB 영화 ID
+
+    @Column(nullable = false)
+    private String title;     // 영화 제목
+
+    @Column(columnDefinition = "TEXT")
+    private String overview;  // 영화 설명
+
+    private String posterPath;// 포스터 이미지 경로
+    private String releaseDate;// 개봉일
+    private Double rating;    // TMDB 평점
+    private Double popularity;// TMDB 인기도 (역색인 순서)
+
+    // 장르 ID (이름은 TMDBService 장르 매핑 사용)
+    @ElementCollection(fetch = FetchType.LAZY)
+    @CollectionTable(name = "movie_catalog_genre",
+            joinColumns = @JoinColumn(name = "tmdb_id"),
+            indexes = {@Index(columnList = "tmdb_id"), @Index(columnList = "genre_id")})
+    @Column(name = "genre_id")
+    @Fetch(FetchMode.SUBSELECT)
+    @Builder.Default
+    private Set<Long> genreIds = new LinkedHashSet<>();
+
+    // 주요 출연진 (출연 순서대로)
+    @ElementCollection(fetch = FetchType.LAZY)
+    @CollectionTable(name = "movie_catalog_cast",
+            joinColumns = @JoinColumn(name = "tmdb_id"),
+            indexes = {@Index(columnList = "tmdb_id"), @Index(columnList = "actor_id")})
+    @OrderColumn(name = "cast_order")
+    @Fetch(FetchMode.SUBSELECT)
+    @Builder.Default
+    private List<CatalogCast> cast = new ArrayList<>();
+
+    // 출연진을 TMDB credits 에서 가져왔는지 (false 면 cast 가 비어 있어도 미확인 상태)
+    @Column(nullable = false)
+    private boolean castLoaded;
+
+    // 마지막으로 TMDB 데이터를 반영한 시각
+    private LocalDateTime syncedAt;
+}
@@ -9,6 +9,11 @@ import java.time.LocalDateTime;
 @Entity
 @Table(name = "reviews", uniqueConstraints = {
     @UniqueConstraint(columnNames = {"tmdbMovieId", "user_id"})  // 같은 영화에 같은 사용자가 리뷰 중복 방지
+}, indexes = {
+    // 커서 페이지네이션 (최신순, createdAt 같으면 id)
+    @Index(name = "idx_reviews_created_at_id", columnList = "createdAt, id"),
+    @Index(name = "idx_reviews_movie_created_at_id", columnList = "tmdbMovieId, createdAt, id"),
+    @Index(name = "idx_reviews_user_created_at_id", columnList = "user_id, createdAt, id")
 })
 @Getter
 @Setter
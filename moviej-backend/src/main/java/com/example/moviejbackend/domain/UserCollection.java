@@ -13,6 +13,8 @@ import java.time.LocalDateTime;
 @Builder
 @Table(name = "user_collections", uniqueConstraints = {
     @UniqueConstraint(columnNames = {"user_id", "movie_id"})  // 한 사용자가 같은 영화를 중복으로 찜할 수 없음
+}, indexes = {
+    @Index(name = "idx_user_collections_user_created_at_id", columnList = "user_id, createdAt, id")  // 커서 페이지네이션
 })
 public class UserCollection {
 
@@ -2,6 +2,7 @@ package com.example.moviejbackend.dto.request;
 
 import com.example.moviejbackend.domain.GenreInfo;
 import com.example.moviejbackend.domain.ActorInfo;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Getter;
 import lombok.Setter;
 import java.util.List;
@@ -19,6 +20,24 @@ public class TMDBMovieDto {
     private List<GenreInfo> genres;
     private List<ActorInfo> actors;
     private Double matchingScore;  // 매칭 점수
+    @JsonIgnore
+    private Double popularity;     // TMDB 인기도 (카탈로그 색인 순서용, 응답에는 포함하지 않음)
+
+    // 캐시에 공유된 인스턴스를 수정하지 않도록 복사본 생성 (목록은 공유)
+    public TMDBMovieDto copy() {
+        TMDBMovieDto copy = new TMDBMovieDto();
+        copy.setTmdbId(tmdbId);
+        copy.setTitle(title);
+        copy.setOverview(overview);
+        copy.setPosterPath(posterPath);
+        copy.setReleaseDate(releaseDate);
+        copy.setRating(rating);
+        copy.setGenres(genres);
+        copy.setActors(actors);
+        copy.setMatchingScore(matchingScore);
+        copy.setPopularity(popularity);
+        return copy;
+    }
 
     // tmdbId 기준으로 중복 제거
     @Override
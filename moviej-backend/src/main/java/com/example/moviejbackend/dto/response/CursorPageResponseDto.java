@@ -0,0 +1,33 @@
+package com.example.moviejbackend.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서 페이지 응답 (nextCursor 를 다음 요청의 cursor 로 전달, 마지막 페이지면 null)
+ * totalElements: 요청한 경우에만 (withTotal=true), totalApproximate=true 이면 추정치
+ */
+@Getter
+@AllArgsConstructor
+public class CursorPageResponseDto<T> {
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+    private Long totalElements;
+    private boolean totalApproximate;
+
+    /**
+     * size + 1 개까지 조회한 결과로 페이지 생성 (넘치는 1개로 다음 페이지 여부 판단)
+     */
+    public static <T> CursorPageResponseDto<T> of(List<T> rows, int size, Function<T, String> cursorOf,
+                                                  Long totalElements, boolean totalApproximate) {
+        boolean hasNext = rows.size() > size;
+        List<T> content = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? cursorOf.apply(content.get(content.size() - 1)) : null;
+        return new CursorPageResponseDto<>(content, size, hasNext, nextCursor, totalElements, totalApproximate);
+    }
+}
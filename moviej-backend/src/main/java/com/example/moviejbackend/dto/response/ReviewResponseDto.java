@@ -31,6 +31,20 @@ public class ReviewResponseDto {
         this.isLiked = isLiked;
     }
 
+    // 조회 쿼리 프로젝션용 (ReviewRepository, isLiked 는 조회 후 설정)
+    public ReviewResponseDto(Long id, String tmdbMovieId, String movieTitle, String title,
+                            String nickname, String profileImage, Integer rating, String content,
+                            Integer likes, LocalDateTime createdAt) {
+        this(id, tmdbMovieId, movieTitle, title, nickname, profileImage, rating, content, likes, createdAt, false);
+    }
+
+    // 요약 프로젝션용 (content 제외)
+    public ReviewResponseDto(Long id, String tmdbMovieId, String movieTitle, String title,
+                            String nickname, String profileImage, Integer rating,
+                            Integer likes, LocalDateTime createdAt) {
+        this(id, tmdbMovieId, movieTitle, title, nickname, profileImage, rating, null, likes, createdAt, false);
+    }
+
     // Getters (필요 시 Setters 추가)
     public Long getId() { return id; }
     public String getTmdbMovieId() { return tmdbMovieId; }
@@ -0,0 +1,23 @@
+package com.example.moviejbackend.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import com.example.moviejbackend.domain.CatalogMovie;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface CatalogMovieRepository extends JpaRepository<CatalogMovie, Long> {
+
+    // 카탈로그에 있는 ID 만 조회 (증분 동기화 대상 선별)
+    @Query("select c.tmdbId from CatalogMovie c where c.tmdbId in :tmdbIds")
+    List<Long> findExistingIds(@Param("tmdbIds") Collection<Long> tmdbIds);
+
+    // 마지막 동기화 시각 (재시작 후 증분 동기화 시작점)
+    @Query("select max(c.syncedAt) from CatalogMovie c")
+    LocalDateTime findLatestSyncedAt();
+}
@@ -1,6 +1,11 @@
 package com.example.moviejbackend.repository;
 
+import java.util.Collection;
+import java.util.List;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import com.example.moviejbackend.domain.ReviewLike;
 import com.example.moviejbackend.domain.Review;
 import com.example.moviejbackend.domain.User;
@@ -10,4 +15,12 @@ public interface ReviewLikeRepository extends JpaRepository<ReviewLike, Long> {
   // 이미 좋아요 했는지 체크하는 메서드
     boolean existsByReviewAndUser(Review review, User user);
     void deleteByReviewAndUser(Review review, User user);  // 추가: 좋아요 취소용
+
+    // 유저가 좋아요한 리뷰 ID 전체 (LikedReviewCache 로딩용)
+    @Query("select rl.review.id from ReviewLike rl where rl.user.id = :userId")
+    List<Long> findReviewIdsByUserId(@Param("userId") Long userId);
+
+    // 주어진 리뷰 중 유저가 좋아요한 리뷰 ID (페이지 단위로 한 번에 조회)
+    @Query("select rl.review.id from ReviewLike rl where rl.user.id = :userId and rl.review.id in :reviewIds")
+    List<Long> findReviewIdsByUserIdAndReviewIdIn(@Param("userId") Long userId, @Param("reviewIds") Collection<Long> reviewIds);
 }
\ No newline at end of file
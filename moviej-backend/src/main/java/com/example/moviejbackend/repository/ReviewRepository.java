@@ -1,14 +1,24 @@
 package com.example.moviejbackend.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import com.example.moviejbackend.domain.Review;
 import com.example.moviejbackend.domain.User;
+import com.example.moviejbackend.dto.response.ReviewResponseDto;
 
 @Repository
 public interface ReviewRepository extends JpaRepository<Review, Long> {
@@ -27,4 +37,111 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
     
     // 특정 사용자가 작성한 리뷰 조회 (User ID 기반)
     List<Review> findByUserIdOrderByCreatedAtDesc(Long userId);
+
+    // 평점 minRating 이상 리뷰의 (작성자 ID, 영화 ID) - 아이템 유사도 계산용
+    @Query("select r.user.id, r.tmdbMovieId from Review r where r.rating >= :minRating")
+    List<Object[]> findUserMoviePairsByRatingAtLeast(@Param("minRating") int minRating);
+
+    // 특정 사용자가 평점 minRating 이상 준 영화 ID (최신순)
+    @Query("select r.tmdbMovieId from Review r where r.user.id = :userId and r.rating >= :minRating order by r.createdAt desc")
+    List<String> findMovieIdsByUserIdAndRatingAtLeast(@Param("userId") Long userId, @Param("minRating") int minRating);
+
+    // 응답 DTO 로 바로 조회 (작성자 join 한 번, 리뷰마다 User 지연 로딩 없음)
+    // Summary: content(TEXT) 제외한 목록용
+    String FULL_RESPONSE = "select new com.example.moviejbackend.dto.response.ReviewResponseDto(r.id, r.tmdbMovieId, r.movieTitle, r.title, u.nickname, u.profileImage, r.rating, r.content, r.likes, r.createdAt) from Review r join r.user u";
+    String SUMMARY_RESPONSE = "select new com.example.moviejbackend.dto.response.ReviewResponseDto(r.id, r.tmdbMovieId, r.movieTitle, r.title, u.nickname, u.profileImage, r.rating, r.likes, r.createdAt) from Review r join r.user u";
+    // 스트리밍 조회 시 DB 에서 한 번에 가져오는 행 수
+    int STREAM_FETCH_SIZE = 500;
+
+    // 스트리밍 조회 (서버 측 커서로 fetch-size 개씩 읽음, 트랜잭션 안에서 사용 후 닫아야 함)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + STREAM_FETCH_SIZE))
+    @Query(FULL_RESPONSE + " order by r.createdAt desc, r.id desc")
+    Stream<ReviewResponseDto> streamAllResponses();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + STREAM_FETCH_SIZE))
+    @Query(SUMMARY_RESPONSE + " order by r.createdAt desc, r.id desc")
+    Stream<ReviewResponseDto> streamAllSummaries();
+
+    @Query(value = FULL_RESPONSE + " order by r.createdAt desc", countQuery = "select count(r) from Review r")
+    Page<ReviewResponseDto> findAllResponses(Pageable pageable);
+
+    @Query(value = SUMMARY_RESPONSE + " order by r.createdAt desc", countQuery = "select count(r) from Review r")
+    Page<ReviewResponseDto> findAllSummaries(Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + STREAM_FETCH_SIZE))
+    @Query(FULL_RESPONSE + " where r.tmdbMovieId = :tmdbMovieId order by r.createdAt desc, r.id desc")
+    Stream<ReviewResponseDto> streamResponsesByTmdbMovieId(@Param("tmdbMovieId") String tmdbMovieId);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + STREAM_FETCH_SIZE))
+    @Query(SUMMARY_RESPONSE + " where r.tmdbMovieId = :tmdbMovieId order by r.createdAt desc, r.id desc")
+    Stream<ReviewResponseDto> streamSummariesByTmdbMovieId(@Param("tmdbMovieId") String tmdbMovieId);
+
+    @Query(value = FULL_RESPONSE + " where r.tmdbMovieId = :tmdbMovieId order by r.createdAt desc",
+            countQuery = "select count(r) from Review r where r.tmdbMovieId = :tmdbMovieId")
+    Page<ReviewResponseDto> findResponsesByTmdbMovieId(@Param("tmdbMovieId") String tmdbMovieId, Pageable pageable);
+
+    @Query(value = SUMMARY_RESPONSE + " where r.tmdbMovieId = :tmdbMovieId order by r.createdAt desc",
+            countQuery = "select count(r) from Review r where r.tmdbMovieId = :tmdbMovieId")
+    Page<ReviewResponseDto> findSummariesByTmdbMovieId(@Param("tmdbMovieId") String tmdbMovieId, Pageable pageable);
+
+    @Query(FULL_RESPONSE + " where u.id = :userId order by r.createdAt desc")
+    List<ReviewResponseDto> findResponsesByUserId(@Param("userId") Long userId);
+
+    // 좋아요 많은순 → 같으면 오래된순
+    @Query(FULL_RESPONSE + " order by r.likes desc, r.createdAt asc, r.id asc")
+    List<ReviewResponseDto> findAllResponsesByLikes();
+
+    @Query(SUMMARY_RESPONSE + " order by r.likes desc, r.createdAt asc, r.id asc")
+    List<ReviewResponseDto> findAllSummariesByLikes();
+
+    // 커서 페이지네이션: (createdAt, id) 가 커서보다 앞선(오래된) 리뷰, 최신순
+    // (createdAt, id) 인덱스를 따라 읽으므로 몇 번째 페이지든 비용이 같음 (Pageable 은 개수 제한용)
+    @Query(FULL_RESPONSE + " where (r.createdAt, r.id) < (:createdAt, :id) order by r.createdAt desc, r.id desc")
+    List<ReviewResponseDto> findResponsesBefore(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable limit);
+
+    @Query(SUMMARY_RESPONSE + " where (r.createdAt, r.id) < (:createdAt, :id) order by r.createdAt desc, r.id desc")
+    List<ReviewResponseDto> findSummariesBefore(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable limit);
+
+    @Query(FULL_RESPONSE + " where r.tmdbMovieId = :tmdbMovieId and (r.createdAt, r.id) < (:createdAt, :id) order by r.createdAt desc, r.id desc")
+    List<ReviewResponseDto> findResponsesByTmdbMovieIdBefore(@Param("tmdbMovieId") String tmdbMovieId,
+                                                             @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable limit);
+
+    @Query(SUMMARY_RESPONSE + " where r.tmdbMovieId = :tmdbMovieId and (r.createdAt, r.id) < (:createdAt, :id) order by r.createdAt desc, r.id desc")
+    List<ReviewResponseDto> findSummariesByTmdbMovieIdBefore(@Param("tmdbMovieId") String tmdbMovieId,
+                                                             @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable limit);
+
+    @Query(FULL_RESPONSE + " where u.id = :userId and (r.createdAt, r.id) < (:createdAt, :id) order by r.createdAt desc, r.id desc")
+    List<ReviewResponseDto> findResponsesByUserIdBefore(@Param("userId") Long userId,
+                                                        @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable limit);
+
+    long countByTmdbMovieId(String tmdbMovieId);
+
+    long countByUserId(Long userId);
+
+    // 전체 리뷰 수 추정치 (PostgreSQL 통계, 테이블을 읽지 않음 - 통계가 없으면 -1 또는 0)
+    @Query(value = "select cast(reltuples as bigint) from pg_class where relname = 'reviews'", nativeQuery = true)
+    Long estimateCount();
+
+    // 영화별 공감 수 1위 리뷰 (공감 수 같으면 먼저 작성된 것) - ReviewLeaderboard 생성용
+    @Query(value = "select distinct on (tmdb_movie_id) id as \"id\", tmdb_movie_id as \"tmdbMovieId\", likes as \"likes\", created_at as \"createdAt\""
+            + " from reviews order by tmdb_movie_id, likes desc, created_at asc, id asc", nativeQuery = true)
+    List<ReviewLikesRow> findBestReviewPerMovie();
+
+    @Query("select r.id as id, r.tmdbMovieId as tmdbMovieId, r.likes as likes, r.createdAt as createdAt from Review r"
+            + " where r.tmdbMovieId = :tmdbMovieId order by r.likes desc, r.createdAt asc, r.id asc limit 1")
+    Optional<ReviewLikesRow> findBestReviewOfMovie(@Param("tmdbMovieId") String tmdbMovieId);
+
+    // 주어진 ID 의 리뷰 (순서는 호출 측에서 맞춤)
+    @Query(FULL_RESPONSE + " where r.id in :ids")
+    List<ReviewResponseDto> findResponsesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query(SUMMARY_RESPONSE + " where r.id in :ids")
+    List<ReviewResponseDto> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    interface ReviewLikesRow {
+        Long getId();
+        String getTmdbMovieId();
+        Integer getLikes();
+        LocalDateTime getCreatedAt();
+    }
 }
\ No newline at end of file
@@ -1,8 +1,12 @@
 package com.example.moviejbackend.repository;
 
 import com.example.moviejbackend.domain.UserCollection;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -11,4 +15,19 @@ public interface UserCollectionRepository extends JpaRepository<UserCollection,
     boolean existsByUserIdAndMovieId(Long userId, Long movieId);  // 찜 여부 확인
     Optional<UserCollection> findByUserIdAndMovieId(Long userId, Long movieId);  // 특정 찜 찾기
     void deleteByUserIdAndMovieId(Long userId, Long movieId);  // 찜 삭제
-}
+
+    // 전체 찜의 (사용자 ID, 영화 ID) - 아이템 유사도 계산용
+    @Query("select c.user.id, c.movieId from UserCollection c")
+    List<Object[]> findAllUserMoviePairs();
+
+    // 특정 사용자가 찜한 영화 ID (최신순)
+    @Query("select c.movieId from UserCollection c where c.user.id = :userId order by c.createdAt desc")
+    List<Long> findMovieIdsByUserId(@Param("userId") Long userId);
+
+    // 커서 페이지네이션: (createdAt, id) 가 커서보다 앞선(오래된) 찜, 최신순 (Pageable 은 개수 제한용)
+    @Query("select c from UserCollection c where c.user.id = :userId and (c.createdAt, c.id) < (:createdAt, :id) order by c.createdAt desc, c.id desc")
+    List<UserCollection> findByUserIdBefore(@Param("userId") Long userId,
+                                            @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable limit);
+
+    long countByUserId(Long userId);
+}
\ No newline at end of file
@@ -0,0 +1,344 @@
+package com.example.moviejbackend.service;
+
+import com.example.moviejbackend.repository.ReviewRepository;
+import com.example.moviejbackend.repository.UserCollectionRepository;
+import com.example.moviejbackend.util.TopK;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 아이템 기반 협업 필터링 ("이 영화를 좋아한 사람들이 좋아한 영화")
+ * - 유저가 좋아한 영화: 찜한 영화 + 평점 min-rating 이상 리뷰
+ * - 영화 쌍마다 함께 좋아한 유저 수(동시 출현)를 희소 행렬로 유지, 유사도 = 동시 출현 / √(영화별 유저 수 곱)
+ * - 영화마다 유사도 상위 M개 이웃만 미리 계산해 두고 요청에서는 조회만 (잠금 없음)
+ * - 리뷰/찜 변경(커밋 후)은 해당 유저만 다시 읽어 증분 반영, 전체 재계산은 rebuild-interval 마다
+ */
+@Component
+@RequiredArgsConstructor
+public class ItemSimilarityIndex {
+
+    private final ReviewRepository reviewRepository;
+    private final UserCollectionRepository userCollectionRepository;
+
+    @Value("${recommendation.similar.enabled:true}")
+    private boolean enabled;
+
+    // 영화별로 보관할 이웃 수 (M)
+    @Value("${recommendation.similar.neighbors:50}")
+    private int maxNeighbors;
+
+    // 좋아한 영화로 보는 리뷰 평점 (1~5)
+    @Value("${recommendation.similar.min-rating:4}")
+    private int minRating;
+
+    // 유저당 반영할 최대 영화 수 (한 유저가 만드는 영화 쌍 수 제한)
+    @Value("${recommendation.similar.max-items-per-user:200}")
+    private int maxItemsPerUser;
+
+    // 영화별 동시 출현 목록 최대 크기 (두 배가 되면 횟수가 적은 쌍부터 삭제)
+    @Value("${recommendation.similar.max-row-size:2000}")
+    private int maxRowSize;
+
+    // 유저 ID → 좋아한 영화 (불변 Set 으로 교체, 요청 경로에서 조회, 전체 재계산은 새 맵을 만든 뒤 교체)
+    private volatile Map<Long, Set<Long>> userItems = new ConcurrentHashMap<>();
+    // 영화 ID → (다른 영화 ID → 함께 좋아한 유저 수), 영화 ID → 좋아한 유저 수 (synchronized 안에서만 사용)
+    private final Map<Long, Map<Long, Integer>> cooccurrence = new HashMap<>();
+    private final Map<Long, Integer> itemUsers = new HashMap<>();
+    // 리뷰/찜이 바뀌어 다시 읽어야 하는 유저
+    private final Set<Long> dirtyUsers = ConcurrentHashMap.newKeySet();
+
+    // 영화 ID → 유사도 상위 이웃
+    private volatile Map<Long, Neighbors> neighbors = new ConcurrentHashMap<>();
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onActivityChanged(UserActivityChangedEvent event) {
+        dirtyUsers.add(event.userId());
+    }
+
+    /**
+     * 전체 재계산 (리뷰/찜 전체 조회)
+     */
+    @Scheduled(initialDelayString = "${recommendation.similar.initial-delay-ms:10000}",
+            fixedDelayString = "${recommendation.similar.rebuild-interval-ms:21600000}")
+    public synchronized void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            long start = System.nanoTime();
+            Map<Long, Set<Long>> loaded = new HashMap<>();
+            for (Object[] pair : userCollectionRepository.findAllUserMoviePairs()) {
+                addLoaded(loaded, (Long) pair[0], (Long) pair[1]);
+            }
+            for (Object[] pair : reviewRepository.findUserMoviePairsByRatingAtLeast(minRating)) {
+                addLoaded(loaded, (Long) pair[0], parseMovieId((String) pair[1]));
+            }
+
+            // 동시 출현 수는 synchronized 안에서만 쓰므로 비우고 다시 채움, 유저 목록은 교체 전까지 기존 맵을 계속 제공
+            Map<Long, Set<Long>> builtUsers = new ConcurrentHashMap<>();
+            cooccurrence.clear();
+            itemUsers.clear();
+            Set<Long> touched = new HashSet<>();
+            loaded.forEach((userId, items) -> update(builtUsers, userId, items, touched));
+
+            Map<Long, Neighbors> built = new ConcurrentHashMap<>();
+            for (Long movieId : touched) {
+                Neighbors computed = computeNeighbors(movieId);
+                if (computed != null) {
+                    built.put(movieId, computed);
+                }
+            }
+            userItems = builtUsers;
+            neighbors = built;
+            System.out.println("🤝 아이템 유사도 생성: 유저 " + builtUsers.size() + "명, 영화 " + built.size() + "편 ("
+                    + (System.nanoTime() - start) / 1_000_000 + "ms)");
+        } catch (Exception e) {
+            System.err.println("아이템 유사도 생성 실패: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 리뷰/찜이 바뀐 유저만 다시 읽어 동시 출현 수와 관련 영화의 이웃 갱신
+     */
+    @Scheduled(initialDelayString = "${recommendation.similar.initial-delay-ms:10000}",
+            fixedDelayString = "${recommendation.similar.update-interval-ms:2000}")
+    public synchronized void applyChanges() {
+        if (!enabled || dirtyUsers.isEmpty()) {
+            return;
+        }
+        try {
+            Set<Long> touched = new HashSet<>();
+            for (Long userId : new ArrayList<>(dirtyUsers)) {
+                dirtyUsers.remove(userId);
+                update(userItems, userId, loadUser(userId), touched);
+            }
+            for (Long movieId : touched) {
+                Neighbors computed = computeNeighbors(movieId);
+                if (computed != null) {
+                    neighbors.put(movieId, computed);
+                } else {
+                    neighbors.remove(movieId);
+                }
+            }
+        } catch (Exception e) {
+            System.err.println("아이템 유사도 갱신 실패: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 유저가 좋아한 영화 (없으면 빈 Set)
+     */
+    public Set<Long> likedMovieIds(Long userId) {
+        return userItems.getOrDefault(userId, Set.of());
+    }
+
+    /**
+     * 영화의 유사도 상위 이웃 (없으면 null)
+     */
+    public Neighbors neighbors(Long movieId) {
+        return neighbors.get(movieId);
+    }
+
+    /**
+     * seed 영화들의 이웃 유사도를 합산해 상위 limit 편 (seed 는 제외, 합산 유사도 내림차순)
+     */
+    public Map<Long, Double> similarTo(Collection<Long> seedIds, int limit) {
+        Map<Long, Neighbors> current = neighbors;
+        Map<Long, Double> summed = new HashMap<>();
+        for (Long seedId : seedIds) {
+            Neighbors seed = current.get(seedId);
+            if (seed == null) continue;
+            for (int i = 0; i < seed.movieIds.length; i++) {
+                summed.merge(seed.movieIds[i], (double) seed.similarities[i], Double::sum);
+            }
+        }
+        seedIds.forEach(summed::remove);
+        if (summed.isEmpty()) {
+            return Map.of();
+        }
+
+        long[] ids = new long[summed.size()];
+        double[] scores = new double[summed.size()];
+        int index = 0;
+        for (Map.Entry<Long, Double> entry : summed.entrySet()) {
+            ids[index] = entry.getKey();
+            scores[index] = entry.getValue();
+            index++;
+        }
+        Map<Long, Double> result = new LinkedHashMap<>();
+        for (int top : TopK.select(scores, ids, limit)) {
+            result.put(ids[top], scores[top]);
+        }
+        return result;
+    }
+
+    private Set<Long> loadUser(Long userId) {
+        Set<Long> items = new LinkedHashSet<>(userCollectionRepository.findMovieIdsByUserId(userId));
+        for (String movieId : reviewRepository.findMovieIdsByUserIdAndRatingAtLeast(userId, minRating)) {
+            Long parsed = parseMovieId(movieId);
+            if (parsed != null) {
+                items.add(parsed);
+            }
+        }
+        return items;
+    }
+
+    private void addLoaded(Map<Long, Set<Long>> loaded, Long userId, Long movieId) {
+        if (userId != null && movieId != null) {
+            loaded.computeIfAbsent(userId, id -> new LinkedHashSet<>()).add(movieId);
+        }
+    }
+
+    /**
+     * users 에서 유저의 좋아한 영화를 current 로 바꾸고 동시 출현 수 반영 (수가 바뀐 영화는 touched 에 추가)
+     */
+    private void update(Map<Long, Set<Long>> users, Long userId, Set<Long> current, Set<Long> touched) {
+        Set<Long> limited = new LinkedHashSet<>();
+        for (Long movieId : current) {
+            if (limited.size() >= maxItemsPerUser) break;
+            limited.add(movieId);
+        }
+
+        Set<Long> items = new LinkedHashSet<>(users.getOrDefault(userId, Set.of()));
+        for (Long removed : new ArrayList<>(items)) {
+            if (!limited.contains(removed)) {
+                items.remove(removed);
+                for (Long other : items) {
+                    addPair(removed, other, -1);
+                    touched.add(other);
+                }
+                itemUsers.computeIfPresent(removed, (id, count) -> count > 1 ? count - 1 : null);
+                touched.add(removed);
+            }
+        }
+        for (Long added : limited) {
+            if (!items.contains(added)) {
+                for (Long other : items) {
+                    addPair(added, other, 1);
+                    touched.add(other);
+                }
+                items.add(added);
+                itemUsers.merge(added, 1, Integer::sum);
+                touched.add(added);
+            }
+        }
+
+        if (items.isEmpty()) {
+            users.remove(userId);
+        } else {
+            users.put(userId, Set.copyOf(items));
+        }
+    }
+
+    private void addPair(Long a, Long b, int delta) {
+        addCount(a, b, delta);
+        addCount(b, a, delta);
+    }
+
+    private void addCount(Long movieId, Long other, int delta) {
+        Map<Long, Integer> row = delta > 0
+                ? cooccurrence.computeIfAbsent(movieId, id -> new HashMap<>())
+                : cooccurrence.get(movieId);
+        if (row == null || (delta < 0 && !row.containsKey(other))) {
+            return;
+        }
+        row.merge(other, delta, (count, change) -> count + change > 0 ? count + change : null);
+        if (row.isEmpty()) {
+            cooccurrence.remove(movieId);
+        } else if (row.size() > 2 * maxRowSize) {
+            prune(row);
+        }
+    }
+
+    /**
+     * 동시 출현 목록을 횟수 상위 max-row-size 개만 남김 (메모리 제한, 삭제된 쌍은 다음 전체 재계산 때 복구)
+     */
+    private void prune(Map<Long, Integer> row) {
+        long[] ids = new long[row.size()];
+        double[] counts = new double[row.size()];
+        int index = 0;
+        for (Map.Entry<Long, Integer> entry : row.entrySet()) {
+            ids[index] = entry.getKey();
+            counts[index] = entry.getValue();
+            index++;
+        }
+        Map<Long, Integer> kept = new HashMap<>();
+        for (int top : TopK.select(counts, ids, maxRowSize)) {
+            kept.put(ids[top], (int) counts[top]);
+        }
+        row.clear();
+        row.putAll(kept);
+    }
+
+    private Neighbors computeNeighbors(Long movieId) {
+        Map<Long, Integer> row = cooccurrence.get(movieId);
+        if (row == null || row.isEmpty()) {
+            return null;
+        }
+        double users = itemUsers.getOrDefault(movieId, 1);
+        long[] ids = new long[row.size()];
+        double[] scores = new double[row.size()];
+        int index = 0;
+        for (Map.Entry<Long, Integer> entry : row.entrySet()) {
+            ids[index] = entry.getKey();
+            scores[index] = entry.getValue() / Math.sqrt(users * itemUsers.getOrDefault(entry.getKey(), 1));
+            index++;
+        }
+
+        int[] top = TopK.select(scores, ids, maxNeighbors);
+        long[] neighborIds = new long[top.length];
+        float[] similarities = new float[top.length];
+        for (int i = 0; i < top.length; i++) {
+            neighborIds[i] = ids[top[i]];
+            similarities[i] = (float) scores[top[i]];
+        }
+        return new Neighbors(neighborIds, similarities);
+    }
+
+    private static Long parseMovieId(String movieId) {
+        try {
+            return movieId == null ? null : Long.valueOf(movieId.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 영화 한 편의 이웃 (유사도 내림차순, 배열은 수정하지 말 것)
+     */
+    public static final class Neighbors {
+        private final long[] movieIds;
+        private final float[] similarities;
+
+        Neighbors(long[] movieIds, float[] similarities) {
+            this.movieIds = movieIds;
+            this.similarities = similarities;
+        }
+
+        public int size() {
+            return movieIds.length;
+        }
+
+        public long movieId(int index) {
+            return movieIds[index];
+        }
+
+        public float similarity(int index) {
+            return similarities[index];
+        }
+    }
+}
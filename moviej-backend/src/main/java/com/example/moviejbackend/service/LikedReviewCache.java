@@ -0,0 +1,121 @@
+package com.example.moviejbackend.service;
+
+import com.example.moviejbackend.repository.ReviewLikeRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 유저별 좋아요한 리뷰 ID 캐시 (정렬된 long[], 인스턴스별 메모리)
+ * - 리뷰 목록의 isLiked 를 리뷰마다 조회하지 않고 한 번에 판단 (같은 유저가 다시 보면 쿼리 없음)
+ * - 좋아요 토글이 커밋되면 캐시된 배열에 추가/삭제
+ * - 다른 인스턴스의 토글은 항목이 만료되어 다시 불러올 때 반영 (expireAfterWrite → 자주 조회하는 유저도 마지막 적재/토글 후 만료 시간이 지나면 다시 불러옴)
+ * - 좋아요가 max-per-user 를 넘는 유저는 캐시하지 않고 페이지의 리뷰 ID 로 한 번만 조회
+ */
+@Component
+public class LikedReviewCache {
+
+    private static final long[] EMPTY = new long[0];
+    // 좋아요가 너무 많아 캐시하지 않는 유저 표시 (EMPTY 와 참조로 구분)
+    private static final long[] TOO_MANY = new long[0];
+
+    private final ReviewLikeRepository reviewLikeRepository;
+
+    // 유저 ID → 좋아요한 리뷰 ID (정렬)
+    private final Cache<Long, long[]> likedReviewIds;
+
+    @Value("${review.liked-cache.max-per-user:5000}")
+    private int maxPerUser;
+
+    public LikedReviewCache(ReviewLikeRepository reviewLikeRepository,
+                            MeterRegistry meterRegistry,
+                            @Value("${review.liked-cache.spec:maximumSize=10000,expireAfterWrite=10m}") String spec) {
+        this.reviewLikeRepository = reviewLikeRepository;
+        this.likedReviewIds = Caffeine.from(spec).recordStats().build();
+        CaffeineCacheMetrics.monitor(meterRegistry, likedReviewIds, "liked-review");
+    }
+
+    /**
+     * 주어진 리뷰 중 유저가 좋아요한 리뷰 (userId 가 null 이면 비어 있음)
+     */
+    public LikedReviews likedAmong(Long userId, Collection<Long> reviewIds) {
+        if (userId == null || reviewIds.isEmpty()) {
+            return LikedReviews.NONE;
+        }
+        long[] cached = likedReviewIds.get(userId, this::load);
+        if (cached != TOO_MANY) {
+            return new LikedReviews(cached);
+        }
+        return new LikedReviews(sorted(reviewLikeRepository.findReviewIdsByUserIdAndReviewIdIn(userId, reviewIds)));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLikeToggled(ReviewLikeToggledEvent event) {
+        // 캐시에 없는 유저는 다음 조회 때 DB 에서 불러옴
+        likedReviewIds.asMap().computeIfPresent(event.userId(), (userId, ids) -> {
+            if (ids == TOO_MANY) {
+                return ids;
+            }
+            long[] updated = event.liked() ? add(ids, event.reviewId()) : remove(ids, event.reviewId());
+            return updated.length > maxPerUser ? TOO_MANY : updated;
+        });
+    }
+
+    private long[] load(Long userId) {
+        List<Long> ids = reviewLikeRepository.findReviewIdsByUserId(userId);
+        if (ids.size() > maxPerUser) {
+            return TOO_MANY;
+        }
+        return ids.isEmpty() ? EMPTY : sorted(ids);
+    }
+
+    private static long[] sorted(Collection<Long> ids) {
+        long[] array = ids.stream().mapToLong(Long::longValue).toArray();
+        Arrays.sort(array);
+        return array;
+    }
+
+    // 배열은 공유되므로 복사해서 변경
+    private static long[] add(long[] ids, long reviewId) {
+        int index = Arrays.binarySearch(ids, reviewId);
+        if (index >= 0) {
+            return ids;
+        }
+        int insertAt = -index - 1;
+        long[] updated = new long[ids.length + 1];
+        System.arraycopy(ids, 0, updated, 0, insertAt);
+        updated[insertAt] = reviewId;
+        System.arraycopy(ids, insertAt, updated, insertAt + 1, ids.length - insertAt);
+        return updated;
+    }
+
+    private static long[] remove(long[] ids, long reviewId) {
+        int index = Arrays.binarySearch(ids, reviewId);
+        if (index < 0) {
+            return ids;
+        }
+        long[] updated = new long[ids.length - 1];
+        System.arraycopy(ids, 0, updated, 0, index);
+        System.arraycopy(ids, index + 1, updated, index, ids.length - index - 1);
+        return updated;
+    }
+
+    /**
+     * 좋아요한 리뷰 ID 집합 (정렬된 배열, 이진 탐색)
+     */
+    public record LikedReviews(long[] sortedIds) {
+        public static final LikedReviews NONE = new LikedReviews(EMPTY);
+
+        public boolean contains(Long reviewId) {
+            return reviewId != null && Arrays.binarySearch(sortedIds, reviewId) >= 0;
+        }
+    }
+}
@@ -1,22 +1,20 @@
 package com.example.moviejbackend.service;
 
 import com.example.moviejbackend.domain.*;
-import com.example.moviejbackend.repository.UserPreferenceRepository;
-import com.example.moviejbackend.repository.UserRepository;
 import com.example.moviejbackend.repository.MovieInfoRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 public class MatchingScoreService {
-    private final UserRepository userRepository;
-    private final UserPreferenceRepository userPreferenceRepository;
     private final MovieInfoRepository movieInfoRepository;
+    private final TasteProfileCache tasteProfileCache;
 
     @Transactional
     public Long saveMovieInfo(MovieInfo movieInfo) {
@@ -24,69 +22,30 @@ public class MatchingScoreService {
         return saved.getId();
     }
 
-    @Transactional(readOnly = true)
+    /**
+     * 매칭 점수 (취향은 TasteProfileCache 에서 조회, 선호도가 바뀌지 않았으면 DB 조회 없음)
+     */
     public double calculateMatchingScore(String email, com.example.moviejbackend.dto.request.TMDBMovieDto tmdbMovieDto) {
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalArgumentException("유저를 찾을 수 없습니다. email=" + email));
-
-        List<UserPreference> preferences = userPreferenceRepository.findByUserId(user.getId());
-        if (preferences.isEmpty()) {
+        TasteProfile profile = tasteProfileCache.get(email).profile();
+        if (profile == null) {
             return 0.0;
         }
+        return profile.score(tmdbMovieDto.getGenres(), tmdbMovieDto.getActors(), tmdbMovieDto.getRating());
+    }
 
-        // ⭐ LAZY 로딩 명시적 초기화 (MultipleBagFetchException 방지)
-        preferences.forEach(pref -> {
-            if (pref.getGenres() != null) pref.getGenres().size();
-            if (pref.getActors() != null) pref.getActors().size();
-            if (pref.getMovies() != null) pref.getMovies().size();
-        });
-
-        List<GenreInfo> allGenres = preferences.stream()
-                .flatMap(p -> p.getGenres().stream())
-                .filter(g -> g.getGenreId() != null && g.getGenreId() > 0)
-                .collect(Collectors.toList());
-
-        List<ActorInfo> allActors = preferences.stream()
-                .flatMap(p -> p.getActors().stream())
-                .filter(a -> a.getActorId() != null && a.getActorId() > 0)
-                .collect(Collectors.toList());
-
-        long matchGenreCount = allGenres.stream()
-                .filter(g -> tmdbMovieDto.getGenres().stream()
-                        .anyMatch(mg -> mg.getGenreId() != null && mg.getGenreId().equals(g.getGenreId())))
-                .count();
-
-        double genreScore = allGenres.isEmpty()
-                ? 0.0
-                : (matchGenreCount * 100.0 / allGenres.size());
-
-        long matchActorCount = allActors.stream()
-                .filter(a -> tmdbMovieDto.getActors().stream()
-                        .anyMatch(ma -> ma.getActorId() != null && ma.getActorId().equals(a.getActorId())))
-                .count();
-
-        double actorScore = allActors.isEmpty()
-                ? 0.0
-                : (matchActorCount * 100.0 / allActors.size());
-
-        double baseScore = 20.0;
-        double matchingWeight = 0.25;
-        double publicWeight = 0.6;
-        double baseWeight = 0.15;
-        double publicScore;
-        if (tmdbMovieDto.getRating() == null || tmdbMovieDto.getRating() == 0.0) {
-                publicScore = 65.0; // 기본값(예: 5.0 * 10)
-        } else {
-                publicScore = tmdbMovieDto.getRating() * 10.0;
+    /**
+     * 여러 영화의 매칭 점수를 한 번에 계산 (취향 조회 1회)
+     * 반환: tmdbId → 점수 (입력 순서 유지, tmdbId 없는 영화는 제외)
+     */
+    public Map<Long, Double> calculateMatchingScores(String email, List<com.example.moviejbackend.dto.request.TMDBMovieDto> movies) {
+        TasteProfile profile = tasteProfileCache.get(email).profile();
+        Map<Long, Double> scores = new LinkedHashMap<>();
+        for (com.example.moviejbackend.dto.request.TMDBMovieDto movie : movies) {
+            if (movie.getTmdbId() == null) continue;
+            scores.put(movie.getTmdbId(), profile == null
+                    ? 0.0
+                    : profile.score(movie.getGenres(), movie.getActors(), movie.getRating()));
         }
-        double matchingScore = (genreScore * 1.4) + (actorScore * 1.5);
-        double finalScore =
-            (baseScore * baseWeight) +
-            (publicScore * publicWeight) +
-            (matchingScore * matchingWeight);
-
-        if (finalScore > 100.0) finalScore = 100.0;
-
-        return Math.round(finalScore);
+        return scores;
     }
 }
\ No newline at end of file
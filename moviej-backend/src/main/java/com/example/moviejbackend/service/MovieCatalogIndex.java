@@ -0,0 +1,185 @@
+package com.example.moviejbackend.service;
+
+import com.example.moviejbackend.domain.ActorInfo;
+import com.example.moviejbackend.domain.GenreInfo;
+import com.example.moviejbackend.dto.request.TMDBMovieDto;
+import lombok.RequiredArgsConstructor;
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.PeekableIntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 로컬 카탈로그 역색인 (장르 ID → 영화, 배우 ID → 영화)
+ * - 영화마다 인기도 순위로 문서 번호(0 = 가장 인기)를 매기고, 목록은 RoaringBitmap 으로 저장
+ *   → 비트맵을 순서대로 읽으면 인기순
+ * - 유저의 모든 선호 장르/배우 목록을 합집합/교집합해 TMDB 호출 없이 후보 생성
+ * - 카탈로그(TMDB 응답이 저장됨)로 주기적으로 다시 만들고, 만든 색인은 통째로 교체 (읽기는 잠금 없음)
+ */
+@Component
+@RequiredArgsConstructor
+public class MovieCatalogIndex {
+
+    private final MovieCatalogService movieCatalogService;
+
+    @Value("${catalog.index.enabled:true}")
+    private boolean enabled;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+    // 색인을 새로 만들 때마다 증가 (MovieEmbeddingIndex 가 변경 여부 확인)
+    private volatile long generation;
+
+    @Scheduled(initialDelayString = "${catalog.index.initial-delay-ms:20000}",
+            fixedDelayString = "${catalog.index.rebuild-interval-ms:600000}")
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            long start = System.nanoTime();
+            Snapshot built = build(movieCatalogService.findAllMovies());
+            snapshot = built;
+            generation++;
+            System.out.println("🗂️ 카탈로그 색인 생성: 영화 " + built.movies.length + "편, 장르 " + built.genres.size()
+                    + "개, 배우 " + built.actors.size() + "명 (" + (System.nanoTime() - start) / 1_000_000 + "ms)");
+        } catch (Exception e) {
+            System.err.println("카탈로그 색인 생성 실패: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 영화 목록으로 색인 생성 (인기도 내림차순, 같으면 tmdbId 오름차순으로 문서 번호 부여)
+     */
+    static Snapshot build(List<TMDBMovieDto> catalog) {
+        List<TMDBMovieDto> ranked = new ArrayList<>(catalog);
+        ranked.removeIf(movie -> movie.getTmdbId() == null);
+        ranked.sort(Comparator.comparing((TMDBMovieDto movie) -> movie.getPopularity() != null ? movie.getPopularity() : 0.0)
+                .reversed()
+                .thenComparing(TMDBMovieDto::getTmdbId));
+
+        Map<Long, Integer> docIds = new HashMap<>();
+        Map<Long, RoaringBitmap> genres = new HashMap<>();
+        Map<Long, RoaringBitmap> actors = new HashMap<>();
+        TMDBMovieDto[] movies = ranked.toArray(new TMDBMovieDto[0]);
+        for (int doc = 0; doc < movies.length; doc++) {
+            TMDBMovieDto movie = movies[doc];
+            docIds.put(movie.getTmdbId(), doc);
+            if (movie.getGenres() != null) {
+                for (GenreInfo genre : movie.getGenres()) {
+                    if (genre.getGenreId() != null) {
+                        genres.computeIfAbsent(genre.getGenreId(), id -> new RoaringBitmap()).add(doc);
+                    }
+                }
+            }
+            if (movie.getActors() != null) {
+                for (ActorInfo actor : movie.getActors()) {
+                    if (actor.getActorId() != null) {
+                        actors.computeIfAbsent(actor.getActorId(), id -> new RoaringBitmap()).add(doc);
+                    }
+                }
+            }
+        }
+        genres.values().forEach(RoaringBitmap::runOptimize);
+        actors.values().forEach(RoaringBitmap::runOptimize);
+        return new Snapshot(movies, docIds, genres, actors);
+    }
+
+    public boolean isReady() {
+        return snapshot.movies.length > 0;
+    }
+
+    public long generation() {
+        return generation;
+    }
+
+    /**
+     * 색인의 전체 영화 (인기순, 반환 영화는 수정하지 말 것)
+     */
+    public List<TMDBMovieDto> movies() {
+        return Collections.unmodifiableList(Arrays.asList(snapshot.movies));
+    }
+
+    /**
+     * 선호 장르/배우 중 하나라도 해당하는 영화를 최대 limit 편 반환
+     * 장르와 배우가 모두 맞는 영화 → 나머지 순, 각각 인기순
+     * 반환 영화는 색인과 공유되므로 수정하지 말 것 (출연진을 가져온 영화는 actors 포함, 아니면 null)
+     */
+    public List<TMDBMovieDto> candidates(Collection<Long> genreIds, Collection<Long> actorIds, int limit) {
+        Snapshot current = snapshot;
+        RoaringBitmap genreUnion = current.union(current.genres, genreIds);
+        RoaringBitmap actorUnion = current.union(current.actors, actorIds);
+
+        List<TMDBMovieDto> result = new ArrayList<>(Math.min(limit, current.movies.length));
+        RoaringBitmap both = RoaringBitmap.and(genreUnion, actorUnion);
+        current.collect(both, limit, result);
+        if (result.size() < limit) {
+            RoaringBitmap either = RoaringBitmap.or(genreUnion, actorUnion);
+            either.andNot(both);
+            current.collect(either, limit, result);
+        }
+        return result;
+    }
+
+    /**
+     * tmdbId 로 카탈로그 영화 조회 (입력 순서, 카탈로그에 없는 영화는 제외, 반환 영화는 수정하지 말 것)
+     */
+    public List<TMDBMovieDto> find(Collection<Long> tmdbIds) {
+        Snapshot current = snapshot;
+        List<TMDBMovieDto> result = new ArrayList<>(tmdbIds.size());
+        for (Long tmdbId : tmdbIds) {
+            Integer doc = current.docIds.get(tmdbId);
+            if (doc != null) {
+                result.add(current.movies[doc]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 색인 한 벌 (생성 후 수정하지 않음)
+     */
+    static final class Snapshot {
+        static final Snapshot EMPTY = new Snapshot(new TMDBMovieDto[0], Map.of(), Map.of(), Map.of());
+
+        private final TMDBMovieDto[] movies;          // 문서 번호 → 영화
+        private final Map<Long, Integer> docIds;       // tmdbId → 문서 번호
+        private final Map<Long, RoaringBitmap> genres; // 장르 ID → 문서 번호
+        private final Map<Long, RoaringBitmap> actors; // 배우 ID → 문서 번호
+
+        Snapshot(TMDBMovieDto[] movies, Map<Long, Integer> docIds, Map<Long, RoaringBitmap> genres, Map<Long, RoaringBitmap> actors) {
+            this.movies = movies;
+            this.docIds = docIds;
+            this.genres = genres;
+            this.actors = actors;
+        }
+
+        private RoaringBitmap union(Map<Long, RoaringBitmap> postings, Collection<Long> ids) {
+            List<RoaringBitmap> lists = new ArrayList<>(ids.size());
+            for (Long id : ids) {
+                RoaringBitmap posting = postings.get(id);
+                if (posting != null) {
+                    lists.add(posting);
+                }
+            }
+            return lists.isEmpty() ? new RoaringBitmap() : FastAggregation.or(lists.iterator());
+        }
+
+        private void collect(RoaringBitmap docs, int limit, List<TMDBMovieDto> result) {
+            PeekableIntIterator iterator = docs.getIntIterator();
+            while (iterator.hasNext() && result.size() < limit) {
+                result.add(movies[iterator.next()]);
+            }
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.example.moviejbackend.service;
+
+import com.example.moviejbackend.domain.ActorInfo;
+import com.example.moviejbackend.domain.CatalogCast;
+import com.example.moviejbackend.domain.CatalogMovie;
+import com.example.moviejbackend.domain.GenreInfo;
+import com.example.moviejbackend.dto.request.TMDBMovieDto;
+import com.example.moviejbackend.repository.CatalogMovieRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 로컬 영화 카탈로그 조회/저장 (movie_catalog)
+ * TMDBService 가 TMDB 호출 전에 먼저 조회하고, TMDB 응답을 저장함
+ */
+@Service
+@RequiredArgsConstructor
+public class MovieCatalogService {
+
+    private final CatalogMovieRepository catalogMovieRepository;
+
+    /**
+     * 카탈로그에 있는 영화 조회 (출연진을 가져온 적 없는 영화는 actors=null)
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, TMDBMovieDto> findMovies(Collection<Long> tmdbIds) {
+        Map<Long, TMDBMovieDto> movies = new LinkedHashMap<>();
+        if (tmdbIds.isEmpty()) {
+            return movies;
+        }
+        for (CatalogMovie catalogMovie : catalogMovieRepository.findAllById(tmdbIds)) {
+            movies.put(catalogMovie.getTmdbId(), toDto(catalogMovie));
+        }
+        return movies;
+    }
+
+    /**
+     * 출연진을 가져온 영화의 출연진만 조회
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, List<ActorInfo>> findCast(Collection<Long> tmdbIds) {
+        Map<Long, List<ActorInfo>> castByMovie = new LinkedHashMap<>();
+        if (tmdbIds.isEmpty()) {
+            return castByMovie;
+        }
+        for (CatalogMovie catalogMovie : catalogMovieRepository.findAllById(tmdbIds)) {
+            if (catalogMovie.isCastLoaded()) {
+                castByMovie.put(catalogMovie.getTmdbId(), toActors(catalogMovie.getCast()));
+            }
+        }
+        return castByMovie;
+    }
+
+    /**
+     * 카탈로그 전체 조회 (역색인 생성용, 출연진을 가져온 적 없는 영화는 actors=null)
+     */
+    @Transactional(readOnly = true)
+    public List<TMDBMovieDto> findAllMovies() {
+        return catalogMovieRepository.findAll().stream().map(this::toDto).collect(Collectors.toList());
+    }
+
+    @Transactional(readOnly = true)
+    public List<Long> findExistingIds(Collection<Long> tmdbIds) {
+        return tmdbIds.isEmpty() ? new ArrayList<>() : catalogMovieRepository.findExistingIds(tmdbIds);
+    }
+
+    @Transactional(readOnly = true)
+    public boolean isEmpty() {
+        return catalogMovieRepository.count() == 0;
+    }
+
+    @Transactional(readOnly = true)
+    public LocalDateTime findLatestSyncedAt() {
+        return catalogMovieRepository.findLatestSyncedAt();
+    }
+
+    /**
+     * TMDB 영화 정보 저장 (tmdbId 기준 추가/갱신)
+     * actors 가 null 인 영화는 기존 출연진을 유지
+     */
+    @Transactional
+    public int saveMovies(Collection<TMDBMovieDto> movies) {
+        Map<Long, TMDBMovieDto> byId = movies.stream()
+                .filter(movie -> movie.getTmdbId() != null && movie.getTitle() != null)
+                .collect(Collectors.toMap(TMDBMovieDto::getTmdbId, Function.identity(), (a, b) -> b.getActors() != null ? b : a, LinkedHashMap::new));
+        if (byId.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, CatalogMovie> existing = catalogMovieRepository.findAllById(byId.keySet()).stream()
+                .collect(Collectors.toMap(CatalogMovie::getTmdbId, Function.identity()));
+
+        LocalDateTime now = LocalDateTime.now();
+        List<CatalogMovie> toSave = new ArrayList<>();
+        byId.forEach((tmdbId, movie) -> {
+            CatalogMovie catalogMovie = existing.getOrDefault(tmdbId, CatalogMovie.builder().tmdbId(tmdbId).build());
+            catalogMovie.setTitle(movie.getTitle());
+            catalogMovie.setOverview(movie.getOverview());
+            catalogMovie.setPosterPath(movie.getPosterPath());
+            catalogMovie.setReleaseDate(movie.getReleaseDate());
+            catalogMovie.setRating(movie.getRating());
+            if (movie.getPopularity() != null) {
+                catalogMovie.setPopularity(movie.getPopularity());
+            }
+            if (movie.getGenres() != null) {
+                catalogMovie.getGenreIds().clear();
+                movie.getGenres().forEach(genre -> catalogMovie.getGenreIds().add(genre.getGenreId()));
+            }
+            if (movie.getActors() != null) {
+                catalogMovie.getCast().clear();
+                movie.getActors().forEach(actor -> catalogMovie.getCast().add(new CatalogCast(actor.getActorId(), actor.getActorName())));
+                catalogMovie.setCastLoaded(true);
+            }
+            catalogMovie.setSyncedAt(now);
+            toSave.add(catalogMovie);
+        });
+        catalogMovieRepository.saveAll(toSave);
+        return toSave.size();
+    }
+
+    private TMDBMovieDto toDto(CatalogMovie catalogMovie) {
+        TMDBMovieDto movie = new TMDBMovieDto();
+        movie.setTmdbId(catalogMovie.getTmdbId());
+        movie.setTitle(catalogMovie.getTitle());
+        movie.setOverview(catalogMovie.getOverview());
+        movie.setPosterPath(catalogMovie.getPosterPath());
+        movie.setReleaseDate(catalogMovie.getReleaseDate());
+        movie.setRating(catalogMovie.getRating());
+        movie.setPopularity(catalogMovie.getPopularity());
+        movie.setGenres(catalogMovie.getGenreIds().stream().map(genreId -> {
+            GenreInfo genre = new GenreInfo();
+            genre.setGenreId(genreId);
+            genre.setGenreName(TMDBService.genreName(genreId));
+            return genre;
+        }).collect(Collectors.toList()));
+        movie.setActors(catalogMovie.isCastLoaded() ? toActors(catalogMovie.getCast()) : null);
+        return movie;
+    }
+
+    private static List<ActorInfo> toActors(List<CatalogCast> cast) {
+        return cast.stream().map(member -> {
+            ActorInfo actor = new ActorInfo();
+            actor.setActorId(member.getActorId());
+            actor.setActorName(member.getActorName());
+            return actor;
+        }).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,159 @@
+package com.example.moviejbackend.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 로컬 영화 카탈로그 채우기/동기화
+ * - 카탈로그가 비어 있으면 인기 영화 catalog.import.pages 페이지를 상세 정보(장르, 출연진)와 함께 가져옴
+ * - 이후에는 TMDB /movie/changes 로 마지막 동기화 이후 바뀐 영화 중 카탈로그에 있는 것만 다시 가져옴
+ * TMDB 호출은 TMDBService(호출 수 제한, 재시도, 서킷 브레이커)를 거침
+ */
+@Component
+@RequiredArgsConstructor
+public class MovieCatalogSync {
+
+    // TMDB /movie/changes 조회 가능 기간
+    private static final int MAX_CHANGES_DAYS = 14;
+
+    private final TMDBService tmdbService;
+    private final MovieCatalogService movieCatalogService;
+
+    @Value("${catalog.sync.enabled:true}")
+    private boolean enabled;
+
+    // 대량 가져오기 시 인기 영화 페이지 수 (페이지당 20편)
+    @Value("${catalog.import.pages:25}")
+    private int importPages;
+
+    // 상세 조회/저장 단위
+    @Value("${catalog.sync.batch-size:50}")
+    private int batchSize;
+
+    // 1회 동기화에서 다시 가져올 최대 영화 수 (넘으면 다음 주기에 이어서)
+    @Value("${catalog.sync.max-movies-per-run:500}")
+    private int maxMoviesPerRun;
+
+    // 상세 조회에 실패한 변경 영화를 다시 시도할 횟수 (삭제된 영화 등 계속 실패하는 영화는 포기)
+    @Value("${catalog.sync.max-attempts:3}")
+    private int maxAttempts;
+
+    // 마지막으로 변경 목록을 확인한 날짜 (null 이면 카탈로그의 마지막 저장 시각 기준)
+    private LocalDate lastSyncedDate;
+
+    // 한도를 넘었거나 조회에 실패해 아직 다시 가져오지 못한 변경 영화 (다음 주기에 먼저 처리)
+    private final Set<Long> pendingIds = new LinkedHashSet<>();
+    // 변경 영화 ID → 상세 조회 실패 횟수
+    private final Map<Long, Integer> failedAttempts = new HashMap<>();
+
+    @Scheduled(initialDelayString = "${catalog.sync.initial-delay-ms:30000}",
+            fixedDelayString = "${catalog.sync.interval-ms:3600000}")
+    public void sync() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            if (movieCatalogService.isEmpty()) {
+                importPopular();
+            } else {
+                syncChanges();
+            }
+        } catch (Exception e) {
+            System.err.println("영화 카탈로그 동기화 실패: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 인기 영화 대량 가져오기, 반환: 저장한 영화 수
+     */
+    public int importPopular() {
+        List<Long> movieIds = tmdbService.fetchPopularMovieIds(importPages);
+        int imported = fetchAndSave(movieIds).size();
+        lastSyncedDate = LocalDate.now();
+        System.out.println("📥 영화 카탈로그 가져오기: " + imported + "/" + movieIds.size() + "편");
+        return imported;
+    }
+
+    /**
+     * 변경 목록 기반 증분 동기화, 반환: 다시 가져온 영화 수
+     */
+    public int syncChanges() {
+        LocalDate today = LocalDate.now();
+        LocalDate startDate = lastSyncedDate;
+        if (startDate == null) {
+            LocalDateTime latest = movieCatalogService.findLatestSyncedAt();
+            startDate = latest != null ? latest.toLocalDate() : today.minusDays(1);
+        }
+        LocalDate earliest = today.minusDays(MAX_CHANGES_DAYS - 1);
+        if (startDate.isBefore(earliest)) {
+            startDate = earliest;
+        }
+
+        List<Long> changedIds = tmdbService.fetchChangedMovieIds(startDate, today);
+        pendingIds.addAll(movieCatalogService.findExistingIds(changedIds));
+
+        List<Long> catalogIds = new ArrayList<>();
+        for (Iterator<Long> it = pendingIds.iterator(); it.hasNext() && catalogIds.size() < maxMoviesPerRun; ) {
+            catalogIds.add(it.next());
+            it.remove();
+        }
+
+        Set<Long> updatedIds;
+        try {
+            updatedIds = fetchAndSave(catalogIds);
+        } catch (RuntimeException e) {
+            // 이번 주기에 꺼낸 영화는 다시 대기열로 (변경 목록 기준 날짜도 그대로 두고 다음 주기에 재시도)
+            pendingIds.addAll(catalogIds);
+            throw e;
+        }
+        requeueFailed(catalogIds, updatedIds);
+        tmdbService.evictMovieActors(updatedIds);
+        lastSyncedDate = today;
+        System.out.println("🔄 영화 카탈로그 동기화: " + startDate + " ~ " + today + ", 변경 " + changedIds.size()
+                + "편 중 카탈로그 " + updatedIds.size() + "편 갱신" + (pendingIds.isEmpty() ? "" : " (남은 " + pendingIds.size() + "편은 다음 주기에)"));
+        return updatedIds.size();
+    }
+
+    /**
+     * 상세 조회에 실패한 영화는 max-attempts 번까지 다음 주기에 다시 시도
+     */
+    private void requeueFailed(List<Long> requestedIds, Set<Long> updatedIds) {
+        for (Long movieId : requestedIds) {
+            if (updatedIds.contains(movieId)) {
+                failedAttempts.remove(movieId);
+                continue;
+            }
+            int attempts = failedAttempts.merge(movieId, 1, Integer::sum);
+            if (attempts < maxAttempts) {
+                pendingIds.add(movieId);
+            } else {
+                failedAttempts.remove(movieId);
+                System.err.println("카탈로그 동기화 포기 (movieId: " + movieId + ", " + attempts + "회 실패)");
+            }
+        }
+    }
+
+    /**
+     * batchSize 단위로 상세 조회 후 저장 (TMDBService 가 카탈로그 저장 스레드로 전달), 반환: 가져온 영화 ID
+     */
+    private Set<Long> fetchAndSave(List<Long> movieIds) {
+        Set<Long> saved = new LinkedHashSet<>();
+        for (int from = 0; from < movieIds.size(); from += batchSize) {
+            List<Long> batch = movieIds.subList(from, Math.min(from + batchSize, movieIds.size()));
+            tmdbService.fetchMovieDetails(batch).forEach(movie -> saved.add(movie.getTmdbId()));
+        }
+        return saved;
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.moviejbackend.service;
+
+import com.example.moviejbackend.dto.request.TMDBMovieDto;
+import com.example.moviejbackend.util.HnswIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 영화 임베딩 근사 최근접 색인 (HNSW, 파일로 저장해 재시작 후에도 다시 만들지 않음)
+ * - 카탈로그 색인(MovieCatalogIndex)이 새로 만들어지면 새 영화/바뀐 영화만 추가 (증분)
+ * - 추천 요청에서는 유저 벡터와 내적이 큰 영화 top-K 만 후보로 가져옴 (전체 카탈로그 점수 계산 없이)
+ * - 교체로 삭제 표시된 노드가 max-deleted-ratio 를 넘으면 새 색인을 만들어 통째로 교체
+ */
+@Component
+@RequiredArgsConstructor
+public class MovieEmbeddingIndex {
+
+    private final MovieCatalogIndex movieCatalogIndex;
+
+    @Value("${recommendation.ann.enabled:true}")
+    private boolean enabled;
+
+    @Value("${recommendation.ann.path:data/movie-embeddings.hnsw}")
+    private String path;
+
+    // 노드당 이웃 수, 추가 시 탐색 후보 수, 검색 시 탐색 후보 수 (클수록 정확하고 느림)
+    @Value("${recommendation.ann.m:16}")
+    private int m;
+
+    @Value("${recommendation.ann.ef-construction:100}")
+    private int efConstruction;
+
+    @Value("${recommendation.ann.ef-search:500}")
+    private int efSearch;
+
+    @Value("${recommendation.ann.max-deleted-ratio:0.3}")
+    private double maxDeletedRatio;
+
+    // 유저 벡터에 더할 좋아한 영화(리뷰/찜) 평균의 가중치
+    @Value("${recommendation.ann.liked-weight:20}")
+    private float likedWeight;
+
+    private volatile HnswIndex index;
+    private long syncedGeneration = -1;
+
+    /**
+     * 카탈로그 색인이 바뀌었으면 새 영화/바뀐 영화 벡터 추가 후 파일 저장
+     * 처음 실행 시 저장된 파일이 있으면 불러옴
+     */
+    @Scheduled(initialDelayString = "${recommendation.ann.initial-delay-ms:30000}",
+            fixedDelayString = "${recommendation.ann.sync-interval-ms:60000}")
+    public synchronized void sync() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            if (index == null) {
+                index = loadOrCreate();
+            }
+            long generation = movieCatalogIndex.generation();
+            if (generation == syncedGeneration) {
+                return;
+            }
+
+            long start = System.nanoTime();
+            HnswIndex target = index.deletedRatio() > maxDeletedRatio ? newIndex() : index;
+            int added = 0;
+            for (TMDBMovieDto movie : movieCatalogIndex.movies()) {
+                float[] vector = MovieEmbeddings.normalize(MovieEmbeddings.movie(movie));
+                float[] existing = target.vector(movie.getTmdbId());
+                if (existing == null || !Arrays.equals(existing, vector)) {
+                    target.add(movie.getTmdbId(), vector);
+                    added++;
+                }
+            }
+            boolean replaced = target != index;
+            index = target;
+            syncedGeneration = generation;
+
+            if (added > 0 || replaced) {
+                target.save(Path.of(path));
+                System.out.println("🧭 임베딩 색인 갱신: 추가/변경 " + added + "편, 전체 " + target.size() + "편"
+                        + (replaced ? " (새로 생성)" : "") + " (" + (System.nanoTime() - start) / 1_000_000 + "ms)");
+            }
+        } catch (Exception e) {
+            System.err.println("임베딩 색인 갱신 실패: " + e.getMessage());
+        }
+    }
+
+    public boolean isReady() {
+        HnswIndex current = index;
+        return current != null && current.size() > 0;
+    }
+
+    /**
+     * 유저 취향 + 좋아한 영화 벡터와 가장 가까운 영화 ID 최대 k 개 (가까운 순, 색인이 없으면 빈 목록)
+     */
+    public List<Long> nearest(TasteProfile profile, List<TMDBMovieDto> likedMovies, int k) {
+        HnswIndex current = index;
+        if (current == null || k <= 0) {
+            return List.of();
+        }
+        float[] query = MovieEmbeddings.normalize(MovieEmbeddings.user(profile, likedMovies, likedWeight));
+        List<HnswIndex.Result> results = current.search(query, k, Math.max(efSearch, k));
+        List<Long> movieIds = new ArrayList<>(results.size());
+        for (HnswIndex.Result result : results) {
+            movieIds.add(result.id());
+        }
+        return movieIds;
+    }
+
+    private HnswIndex loadOrCreate() {
+        Path file = Path.of(path);
+        if (Files.exists(file)) {
+            try {
+                HnswIndex loaded = HnswIndex.load(file, MovieEmbeddings.DIMENSIONS);
+                System.out.println("🧭 임베딩 색인 불러옴: " + loaded.size() + "편 (" + file + ")");
+                return loaded;
+            } catch (Exception e) {
+                System.err.println("임베딩 색인 파일을 읽지 못해 새로 만듭니다: " + e.getMessage());
+            }
+        }
+        return newIndex();
+    }
+
+    private HnswIndex newIndex() {
+        return new HnswIndex(MovieEmbeddings.DIMENSIONS, m, efConstruction);
+    }
+}
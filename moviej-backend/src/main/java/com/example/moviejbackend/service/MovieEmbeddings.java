@@ -0,0 +1,107 @@
+package com.example.moviejbackend.service;
+
+import com.example.moviejbackend.domain.GenreInfo;
+import com.example.moviejbackend.dto.request.TMDBMovieDto;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 영화/유저 임베딩 (MovieEmbeddingIndex 근사 최근접 검색용 고정 길이 벡터)
+ * - 영화: 장르 19칸(있으면 1) + 평점/10 + 길이 보정 1칸
+ * - 유저: 장르 칸에 매칭 점수 가중치, 평점 칸에 60 → 내적 = TasteProfile.score 의 장르 + 평점 부분
+ *   좋아한 영화(리뷰/찜)가 있으면 그 영화들의 장르 평균을 liked-weight 만큼 더함
+ * - 배우는 넣지 않음: 배우 수만큼의 칸을 해시로 줄이면 충돌로 엉뚱한 영화가 올라옴
+ *   배우 일치 영화는 MovieCatalogIndex 의 배우 목록이 정확히 찾으므로 두 후보를 합쳐 사용
+ * - 영화 벡터 길이를 모두 √MAX_NORM_SQUARED 로 맞춰(마지막 칸) 내적 최대 검색 = 코사인 검색이 되도록
+ */
+public final class MovieEmbeddings {
+
+    private static final long[] GENRE_IDS = TMDBService.genreIds().stream().mapToLong(Long::longValue).sorted().toArray();
+    private static final int RATING = GENRE_IDS.length;
+    private static final int NORM = RATING + 1;
+    public static final int DIMENSIONS = NORM + 1;
+
+    // 영화 벡터 길이² 상한 (장르 8개 + 평점 1 까지 정확히 보정)
+    private static final float MAX_NORM_SQUARED = 9f;
+
+    // TasteProfile.score: 0.25 × 1.4 × 장르 점수, 0.6 × 평점 × 10
+    private static final float GENRE_POINTS = 35f;
+    private static final float RATING_POINTS = 60f;
+    private static final float DEFAULT_RATING = 6.5f;
+
+    private MovieEmbeddings() {
+    }
+
+    /**
+     * 영화 벡터
+     */
+    public static float[] movie(TMDBMovieDto movie) {
+        float[] vector = new float[DIMENSIONS];
+        if (movie.getGenres() != null) {
+            for (GenreInfo genre : movie.getGenres()) {
+                int slot = genreSlot(genre.getGenreId());
+                if (slot >= 0) {
+                    vector[slot] = 1f;
+                }
+            }
+        }
+        Double rating = movie.getRating();
+        vector[RATING] = (rating == null || rating == 0.0 ? DEFAULT_RATING : rating.floatValue()) / 10f;
+
+        float normSquared = 0f;
+        for (int i = 0; i < NORM; i++) {
+            normSquared += vector[i] * vector[i];
+        }
+        vector[NORM] = (float) Math.sqrt(Math.max(0f, MAX_NORM_SQUARED - normSquared));
+        return vector;
+    }
+
+    /**
+     * 유저 벡터 (취향 + 좋아한 영화 평균 × likedWeight)
+     */
+    public static float[] user(TasteProfile profile, List<TMDBMovieDto> likedMovies, float likedWeight) {
+        float[] vector = new float[DIMENSIONS];
+        for (Long genreId : profile.preferredGenreIds()) {
+            int slot = genreSlot(genreId);
+            if (slot >= 0) {
+                vector[slot] += (float) (GENRE_POINTS * profile.genreWeight(genreId));
+            }
+        }
+        vector[RATING] = RATING_POINTS;
+
+        if (!likedMovies.isEmpty() && likedWeight > 0f) {
+            float share = likedWeight / likedMovies.size();
+            for (TMDBMovieDto liked : likedMovies) {
+                float[] likedVector = movie(liked);
+                for (int i = 0; i < RATING; i++) {
+                    vector[i] += share * likedVector[i];
+                }
+            }
+        }
+        return vector;
+    }
+
+    /**
+     * 정규화 (벡터 길이 1, 근사 검색 그래프의 코사인 비교용)
+     */
+    public static float[] normalize(float[] vector) {
+        double normSquared = 0.0;
+        for (float value : vector) {
+            normSquared += value * value;
+        }
+        if (normSquared == 0.0) {
+            return vector.clone();
+        }
+        float inverse = (float) (1.0 / Math.sqrt(normSquared));
+        float[] normalized = Arrays.copyOf(vector, vector.length);
+        for (int i = 0; i < normalized.length; i++) {
+            normalized[i] *= inverse;
+        }
+        return normalized;
+    }
+
+    private static int genreSlot(Long genreId) {
+        return genreId == null ? -1 : Arrays.binarySearch(GENRE_IDS, genreId);
+    }
+}
@@ -0,0 +1,209 @@
+package com.example.moviejbackend.service;
+
+import com.example.moviejbackend.dto.request.TMDBMovieDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 유저별 추천 결과 미리 계산 (인스턴스별 메모리 저장소)
+ * - 최근 active-window 안에 추천을 요청한 유저만 대상
+ * - 선호도/리뷰/찜 변경 시(커밋 후) 재계산 대상으로 표시, 그 외에는 refresh-interval 마다 재계산
+ * - 주기마다 처리하는 유저 수를 users-per-second 로 제한 (요청 처리용 TMDB 호출 한도를 잠식하지 않도록)
+ * 저장된 결과가 없거나 선호도/리뷰/찜 버전이 바뀐 유저는 요청 시 실시간 계산 (RecommendationController)
+ */
+@Component
+@RequiredArgsConstructor
+public class RecommendationMaterializer {
+
+    private final RecommendationService recommendationService;
+    private final TasteProfileCache tasteProfileCache;
+
+    @Value("${recommendation.materialize.enabled:true}")
+    private boolean enabled;
+
+    // 유저당 저장할 추천 수 (요청 count 가 이보다 크면 실시간 계산)
+    @Value("${recommendation.materialize.count:20}")
+    private int materializeCount;
+
+    // 백그라운드 계산의 시간 예산 (요청 경로보다 넉넉하게)
+    @Value("${recommendation.materialize.budget-ms:5000}")
+    private long budgetMs;
+
+    @Value("${recommendation.materialize.users-per-second:5}")
+    private int usersPerSecond;
+
+    @Value("${recommendation.materialize.tick-ms:1000}")
+    private long tickMs;
+
+    @Value("${recommendation.materialize.refresh-interval-ms:1800000}")
+    private long refreshIntervalMs;
+
+    // 이 기간 동안 추천을 요청하지 않은 유저는 대상에서 제외하고 저장 결과 삭제
+    @Value("${recommendation.materialize.active-window-ms:604800000}")
+    private long activeWindowMs;
+
+    @Value("${recommendation.materialize.max-users:10000}")
+    private int maxUsers;
+
+    // 유저 ID → 미리 계산한 추천
+    private final Map<Long, Materialized> store = new ConcurrentHashMap<>();
+    // 유저 ID → 이메일, 마지막 요청 시각
+    private final Map<Long, ActiveUser> activeUsers = new ConcurrentHashMap<>();
+    // 변경 이벤트로 재계산이 필요한 유저 (정기 재계산보다 먼저 처리)
+    private final Set<Long> dirtyUsers = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 미리 계산한 추천 조회 (없거나, 요청 수가 저장 수보다 크거나, 계산 후 선호도/리뷰/찜이 바뀌었으면 null)
+     * 조회한 유저는 미리 계산 대상으로 등록
+     */
+    public Served find(String email, int count) {
+        Long userId = tasteProfileCache.userId(email);
+        track(userId, email);
+
+        Materialized materialized = store.get(userId);
+        if (materialized == null
+                || materialized.version() != tasteProfileCache.version(userId)
+                || materialized.activityVersion() != tasteProfileCache.activityVersion(userId)) {
+            markDirty(userId);
+            return null;
+        }
+        if (count > materializeCount) {
+            return null;
+        }
+        List<TMDBMovieDto> movies = materialized.movies();
+        return new Served(movies.subList(0, Math.min(count, movies.size())),
+                materialized.computedAt(), materialized.partialSources());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPreferenceChanged(UserPreferenceChangedEvent event) {
+        markDirty(event.userId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onActivityChanged(UserActivityChangedEvent event) {
+        markDirty(event.userId());
+    }
+
+    @Scheduled(initialDelayString = "${recommendation.materialize.initial-delay-ms:15000}",
+            fixedDelayString = "${recommendation.materialize.tick-ms:1000}")
+    public void materialize() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            Instant now = Instant.now();
+            removeInactiveUsers(now);
+
+            // 1. 변경된 유저 → 2. 저장 결과가 없거나 오래된 유저
+            int limit = (int) Math.max(1, usersPerSecond * Math.max(tickMs, 1000) / 1000);
+            Set<Long> due = new LinkedHashSet<>();
+            for (Long userId : dirtyUsers) {
+                if (due.size() >= limit) break;
+                due.add(userId);
+            }
+            Instant staleBefore = now.minusMillis(refreshIntervalMs);
+            for (Map.Entry<Long, ActiveUser> entry : activeUsers.entrySet()) {
+                if (due.size() >= limit) break;
+                Materialized materialized = store.get(entry.getKey());
+                if (materialized == null || materialized.computedAt().isBefore(staleBefore)) {
+                    due.add(entry.getKey());
+                }
+            }
+
+            int computed = 0;
+            for (Long userId : due) {
+                if (compute(userId)) {
+                    computed++;
+                }
+            }
+            if (computed > 0) {
+                System.out.println("🧮 추천 미리 계산: " + computed + "명 (대기 " + dirtyUsers.size() + "명, 대상 " + activeUsers.size() + "명)");
+            }
+        } catch (Exception e) {
+            System.err.println("추천 미리 계산 실패: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 유저 한 명의 추천 계산 후 저장 (계산 중 선호도/리뷰/찜이 바뀌거나 일부 소스가 빠지면 다음 주기에 다시 계산)
+     */
+    boolean compute(Long userId) {
+        dirtyUsers.remove(userId);
+        ActiveUser user = activeUsers.get(userId);
+        if (user == null) {
+            return false;
+        }
+        try {
+            long version = tasteProfileCache.version(userId);
+            long activityVersion = tasteProfileCache.activityVersion(userId);
+            RecommendationService.RecommendationResult result =
+                    recommendationService.recommend(user.email(), materializeCount, budgetMs);
+            store.put(userId, new Materialized(List.copyOf(result.movies()), version, activityVersion, Instant.now(),
+                    List.copyOf(result.partialSources())));
+            if (!result.partialSources().isEmpty()) {
+                // 일부 소스가 빠진 결과는 다음 주기에 다시 계산 (그동안은 캐시하지 않고 제공)
+                dirtyUsers.add(userId);
+            }
+            return true;
+        } catch (Exception e) {
+            System.err.println("추천 미리 계산 실패 (userId: " + userId + "): " + e.getMessage());
+            return false;
+        }
+    }
+
+    private void track(Long userId, String email) {
+        long now = System.currentTimeMillis();
+        if (activeUsers.containsKey(userId) || activeUsers.size() < maxUsers) {
+            activeUsers.put(userId, new ActiveUser(email, now));
+        }
+    }
+
+    private void markDirty(Long userId) {
+        if (activeUsers.containsKey(userId)) {
+            dirtyUsers.add(userId);
+        }
+    }
+
+    private void removeInactiveUsers(Instant now) {
+        long inactiveBefore = now.toEpochMilli() - activeWindowMs;
+        List<Long> inactive = new ArrayList<>();
+        activeUsers.forEach((userId, user) -> {
+            if (user.lastRequestedAt() < inactiveBefore) {
+                inactive.add(userId);
+            }
+        });
+        for (Long userId : inactive) {
+            activeUsers.remove(userId);
+            store.remove(userId);
+            dirtyUsers.remove(userId);
+        }
+    }
+
+    private record ActiveUser(String email, long lastRequestedAt) {
+    }
+
+    private record Materialized(List<TMDBMovieDto> movies, long version, long activityVersion, Instant computedAt, List<String> partialSources) {
+    }
+
+    /**
+     * 저장소에서 꺼낸 추천 (목록은 공유되므로 수정하지 말 것)
+     */
+    public record Served(List<TMDBMovieDto> movies, Instant computedAt, List<String> partialSources) {
+        public long ageSeconds() {
+            return Math.max(0L, Duration.between(computedAt, Instant.now()).getSeconds());
+        }
+    }
+}
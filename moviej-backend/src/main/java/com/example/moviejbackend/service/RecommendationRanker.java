@@ -0,0 +1,120 @@
+package com.example.moviejbackend.service;
+
+import com.example.moviejbackend.dto.request.TMDBMovieDto;
+import com.example.moviejbackend.util.TopK;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 추천 후보 순위 결정
+ * - 후보가 많으면(recommendation.ranking.parallel-threshold 이상) 전용 ForkJoinPool 에서 나눠서 점수 계산
+ * - 전체 정렬 대신 크기 K 힙으로 상위 K개만 선택 (TopK)
+ * - 점수는 요청별 배열에만 기록, 캐시에서 공유되는 TMDBMovieDto 는 수정하지 않음
+ * - 점수가 같으면 tmdbId 오름차순 (tmdbId 없으면 마지막)
+ */
+@Component
+public class RecommendationRanker {
+
+    // 작업 하나가 계산할 최소 후보 수
+    private static final int CHUNK_SIZE = 512;
+
+    private final ForkJoinPool pool;
+    private final int parallelThreshold;
+
+    public RecommendationRanker(
+            @Value("${recommendation.ranking.parallelism:0}") int parallelism,
+            @Value("${recommendation.ranking.parallel-threshold:2000}") int parallelThreshold) {
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.pool = new ForkJoinPool(threads, forkJoinPool -> {
+            var thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(forkJoinPool);
+            thread.setName("recommendation-rank-" + thread.getPoolIndex());
+            thread.setDaemon(true);
+            return thread;
+        }, null, false);
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * 후보를 점수화해 상위 k개를 순위 순서대로 반환
+     * scorer 는 여러 스레드에서 동시에 호출될 수 있으므로 상태를 바꾸지 않아야 함
+     */
+    public List<Ranked> topK(List<TMDBMovieDto> candidates, ToDoubleFunction<TMDBMovieDto> scorer, int k) {
+        int n = candidates.size();
+        TMDBMovieDto[] movies = candidates.toArray(new TMDBMovieDto[0]);
+        double[] scores = new double[n];
+        long[] tieKeys = new long[n];
+
+        if (n >= parallelThreshold && pool.getParallelism() > 1) {
+            pool.invoke(new ScoreTask(movies, scorer, scores, tieKeys, 0, n));
+        } else {
+            score(movies, scorer, scores, tieKeys, 0, n);
+        }
+
+        int[] top = TopK.select(scores, tieKeys, k);
+        List<Ranked> ranked = new ArrayList<>(top.length);
+        for (int index : top) {
+            ranked.add(new Ranked(movies[index], scores[index]));
+        }
+        return ranked;
+    }
+
+    private static void score(TMDBMovieDto[] movies, ToDoubleFunction<TMDBMovieDto> scorer,
+                              double[] scores, long[] tieKeys, int from, int to) {
+        for (int i = from; i < to; i++) {
+            TMDBMovieDto movie = movies[i];
+            scores[i] = scorer.applyAsDouble(movie);
+            tieKeys[i] = movie.getTmdbId() != null ? movie.getTmdbId() : Long.MAX_VALUE;
+        }
+    }
+
+    /**
+     * 구간을 반씩 나눠 병렬로 점수 계산 (각 작업은 자기 구간의 배열 칸에만 기록)
+     */
+    private static final class ScoreTask extends RecursiveAction {
+        private final TMDBMovieDto[] movies;
+        private final ToDoubleFunction<TMDBMovieDto> scorer;
+        private final double[] scores;
+        private final long[] tieKeys;
+        private final int from;
+        private final int to;
+
+        ScoreTask(TMDBMovieDto[] movies, ToDoubleFunction<TMDBMovieDto> scorer,
+                  double[] scores, long[] tieKeys, int from, int to) {
+            this.movies = movies;
+            this.scorer = scorer;
+            this.scores = scores;
+            this.tieKeys = tieKeys;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= CHUNK_SIZE) {
+                score(movies, scorer, scores, tieKeys, from, to);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new ScoreTask(movies, scorer, scores, tieKeys, from, mid),
+                    new ScoreTask(movies, scorer, scores, tieKeys, mid, to));
+        }
+    }
+
+    /**
+     * 순위가 매겨진 후보 (movie 는 원본 그대로, 점수는 이 요청에서만 사용)
+     */
+    public record Ranked(TMDBMovieDto movie, double score) {
+    }
+}
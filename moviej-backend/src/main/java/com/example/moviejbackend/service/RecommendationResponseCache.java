@@ -0,0 +1,121 @@
+package com.example.moviejbackend.service;
+
+import com.example.moviejbackend.dto.request.TMDBMovieDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 추천 API 응답 캐시 (인스턴스별 메모리, 짧은 TTL)
+ * - 키: (유저 ID, 선호도 버전, 리뷰/찜 버전, count) → 선호도 저장/리뷰 작성/찜 변경이 커밋되면 버전이 바뀌어 이전 응답은 쓰지 않음
+ *   (두 버전 모두 TasteProfileCache 가 관리)
+ * - 응답 JSON 해시를 ETag 로 저장 → If-None-Match 가 같으면 점수 계산 없이 304 (RecommendationController)
+ * 계산 중에 변경이 커밋되면 계산 시작 전 버전 키로 저장되므로 오래된 결과가 새 버전으로 제공되지 않음
+ */
+@Component
+public class RecommendationResponseCache {
+
+    private final TasteProfileCache tasteProfileCache;
+    private final ObjectMapper objectMapper;
+
+    private final Cache<Key, Entry> responses;
+
+    public RecommendationResponseCache(TasteProfileCache tasteProfileCache,
+                                       ObjectMapper objectMapper,
+                                       MeterRegistry meterRegistry,
+                                       @Value("${recommendation.response-cache.spec:maximumSize=10000,expireAfterWrite=5m}") String spec) {
+        this.tasteProfileCache = tasteProfileCache;
+        this.objectMapper = objectMapper;
+        this.responses = Caffeine.from(spec).recordStats().build();
+        CaffeineCacheMetrics.monitor(meterRegistry, responses, "recommendation-response");
+    }
+
+    /**
+     * 현재 버전의 캐시 키 (응답 계산 전에 구해 두고 저장할 때 그대로 사용)
+     */
+    public Key key(Long userId, int count) {
+        return new Key(userId, tasteProfileCache.version(userId), tasteProfileCache.activityVersion(userId), count);
+    }
+
+    /**
+     * 캐시된 응답 (없으면 null)
+     */
+    public Entry get(Key key) {
+        return responses.getIfPresent(key);
+    }
+
+    /**
+     * 응답 저장 후 반환 (ETag 계산 포함)
+     */
+    public Entry put(Key key, List<TMDBMovieDto> movies, Instant computedAt, String source, List<String> partialSources) {
+        List<TMDBMovieDto> copied = List.copyOf(movies);
+        Entry entry = new Entry(copied, eTag(key.userId(), copied), computedAt, source, List.copyOf(partialSources));
+        responses.put(key, entry);
+        return entry;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPreferenceChanged(UserPreferenceChangedEvent event) {
+        invalidate(event.userId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onActivityChanged(UserActivityChangedEvent event) {
+        invalidate(event.userId());
+    }
+
+    private void invalidate(Long userId) {
+        responses.asMap().keySet().removeIf(key -> key.userId().equals(userId));
+    }
+
+    // 응답 본문 그대로의 해시 (같은 결과를 다시 계산해도 ETag 가 같음)
+    private String eTag(Long userId, List<TMDBMovieDto> movies) {
+        try {
+            return "\"" + userId + "-" + DigestUtils.md5DigestAsHex(objectMapper.writeValueAsBytes(movies)) + "\"";
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("추천 응답 직렬화 실패: " + e.getMessage(), e);
+        }
+    }
+
+    public record Key(Long userId, long profileVersion, long activityVersion, int count) {
+    }
+
+    /**
+     * 캐시된 응답 (목록은 공유되므로 수정하지 말 것), source: materialized | live
+     */
+    public record Entry(List<TMDBMovieDto> movies, String eTag, Instant computedAt, String source, List<String> partialSources) {
+        public long ageSeconds() {
+            return Math.max(0L, Duration.between(computedAt, Instant.now()).getSeconds());
+        }
+
+        /**
+         * If-None-Match 헤더와 ETag 비교 (여러 값, W/ 약한 비교, * 허용)
+         */
+        public boolean matches(String ifNoneMatch) {
+            if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+                return false;
+            }
+            for (String candidate : ifNoneMatch.split(",")) {
+                String tag = candidate.trim();
+                if (tag.startsWith("W/")) {
+                    tag = tag.substring(2);
+                }
+                if (tag.equals("*") || tag.equals(eTag)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package com.example.moviejbackend.service;
+
+import com.example.moviejbackend.domain.ActorInfo;
+import com.example.moviejbackend.dto.request.TMDBMovieDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자 선호 기반 영화 추천 (요청마다 시간 예산 budgetMs 적용)
+ * 후보 단계: 로컬 카탈로그 색인(모든 선호 장르/배우) + 함께 좋아한 영화(아이템 유사도) + 임베딩 근사 최근접
+ *           + 장르/배우/선호 영화 TMDB 소스를 동시에 검색, TMDB 소스는 예산의 candidate-ratio 까지 도착한 결과만 사용
+ * 1단계: 검색 결과만으로 전체 후보를 가볍게 점수화 (장르 일치 + 평점)
+ * 2단계: 상위 후보(shortlist)만 배우 정보를 조회해 최종 매칭 점수 계산 (예산 초과 시 1단계 점수 사용)
+ * 순위 결정은 RecommendationRanker (병렬 점수 계산 + 상위 K 힙), 함께 좋아한 영화는 유사도만큼 순위 가산점
+ * (응답의 matchingScore 에는 가산점 미포함)
+ */
+@Service
+@RequiredArgsConstructor
+public class RecommendationService {
+
+    // 예산 안에 끝나지 않은 배우 정보 조회 단계의 소스 키
+    public static final String SOURCE_CREDITS = "credits";
+
+    private final TMDBService tmdbService;
+    private final TasteProfileCache tasteProfileCache;
+    private final RecommendationRanker recommendationRanker;
+    private final RecommendationSourceExecutor sourceExecutor;
+    private final MovieCatalogIndex movieCatalogIndex;
+    private final ItemSimilarityIndex itemSimilarityIndex;
+    private final MovieEmbeddingIndex movieEmbeddingIndex;
+    private final MeterRegistry meterRegistry;
+
+    // 배우 정보를 조회할 후보 수 = count * shortlist-factor
+    @Value("${recommendation.enrich.shortlist-factor:3}")
+    private int shortlistFactor;
+
+    // 후보 검색에 사용할 선호 장르/배우/영화 수
+    @Value("${recommendation.search.max-genres:3}")
+    private int maxSearchGenres;
+
+    @Value("${recommendation.search.max-actors:3}")
+    private int maxSearchActors;
+
+    @Value("${recommendation.search.max-seed-movies:3}")
+    private int maxSeedMovies;
+
+    // 카탈로그 색인에서 가져올 최대 후보 수
+    @Value("${recommendation.index.max-candidates:5000}")
+    private int maxIndexCandidates;
+
+    // 임베딩 근사 최근접 후보 수
+    @Value("${recommendation.ann.max-candidates:500}")
+    private int maxAnnCandidates;
+
+    // 함께 좋아한 영화 후보 수, 순위 가산점 최대값 (가장 유사한 영화 = similar-boost 점)
+    @Value("${recommendation.similar.max-candidates:200}")
+    private int maxSimilarCandidates;
+
+    @Value("${recommendation.similar.boost:10}")
+    private double similarBoost;
+
+    // 시간 예산 (budgetMs 미지정 시 default-ms, 최대 max-ms), 후보 검색에 쓸 비율
+    @Value("${recommendation.budget.default-ms:800}")
+    private long defaultBudgetMs;
+
+    @Value("${recommendation.budget.max-ms:5000}")
+    private long maxBudgetMs;
+
+    @Value("${recommendation.budget.candidate-ratio:0.6}")
+    private double candidateRatio;
+
+    /**
+     * 추천 영화 목록 (budgetMs 가 null 이면 기본 예산)
+     * 예산 안에 끝나지 않은 소스는 제외하고 도착한 후보만으로 순위 결정, partialSources 로 알림
+     */
+    public RecommendationResult recommend(String email, int count, Long budgetMs) {
+        long budgetNanos = TimeUnit.MILLISECONDS.toNanos(clampBudget(budgetMs));
+        long startNanos = System.nanoTime();
+        long candidateDeadline = startNanos + (long) (budgetNanos * Math.min(1.0, Math.max(0.1, candidateRatio)));
+        long deadline = startNanos + budgetNanos;
+
+        // 1. 사용자 취향 조회 (TasteProfileCache, 선호도 변경 전까지 DB 조회 없음)
+        TasteProfileCache.CachedProfile cached = tasteProfileCache.get(email);
+        TasteProfile profile = cached.profile();
+
+        if (profile == null) {
+            System.out.println("⚠️ UserPreference가 비어있습니다!");
+            return new RecommendationResult(List.of(), List.of());
+        }
+
+        // 2. 선호 장르/배우/영화 ID (선호한 순서, 중복 제거)
+        List<Long> genreIds = profile.preferredGenreIds();
+        List<Long> actorIds = profile.preferredActorIds();
+        List<Long> seedMovieIds = cached.seedMovieIds();
+
+        System.out.println("🎭 추출된 장르 ID: " + genreIds);
+        System.out.println("👥 추출된 배우 ID: " + actorIds);
+
+        // 3. 후보 소스 동시 검색 (장르/배우 discover, 선호 영화 기반 추천 - 각 1페이지)
+        Map<String, Callable<List<TMDBMovieDto>>> sources = new LinkedHashMap<>();
+        genreIds.stream().limit(maxSearchGenres).forEach(genreId ->
+                sources.put("genre:" + genreId, () -> tmdbService.searchMoviesByGenre(genreId, 1)));
+        actorIds.stream().limit(maxSearchActors).forEach(actorId ->
+                sources.put("actor:" + actorId, () -> tmdbService.searchMoviesByActor(actorId, 1)));
+        seedMovieIds.stream().limit(maxSeedMovies).forEach(movieId ->
+                sources.put("movie:" + movieId, () -> tmdbService.searchMovieRecommendations(movieId)));
+
+        RecommendationSourceExecutor.Outcome<String, List<TMDBMovieDto>> outcome =
+                sourceExecutor.invokeUntil(sources, candidateDeadline);
+        List<String> partialSources = new ArrayList<>(outcome.partial());
+
+        Map<Long, TMDBMovieDto> candidates = new LinkedHashMap<>();
+        // 카탈로그 색인 후보 (모든 선호 장르/배우, TMDB 호출 없음, 출연진을 아는 영화는 actors 포함)
+        List<TMDBMovieDto> indexed = movieCatalogIndex.candidates(genreIds, actorIds, maxIndexCandidates);
+        indexed.forEach(movie -> candidates.put(movie.getTmdbId(), movie));
+        System.out.println("🗂️ 카탈로그 색인 후보: " + indexed.size() + "개");
+
+        // 함께 좋아한 영화 후보 (리뷰/찜으로 좋아한 영화 + 선호 영화의 이웃, 카탈로그에 있는 영화만)
+        Set<Long> seeds = new LinkedHashSet<>(itemSimilarityIndex.likedMovieIds(cached.userId()));
+        seeds.addAll(seedMovieIds);
+        Map<Long, Double> similar = itemSimilarityIndex.similarTo(seeds, maxSimilarCandidates);
+        double maxSimilarity = similar.values().stream().mapToDouble(Double::doubleValue).max().orElse(0.0);
+        Map<Long, Double> boosts = new HashMap<>();
+        similar.forEach((movieId, similarity) -> boosts.put(movieId, similarBoost * similarity / maxSimilarity));
+        List<TMDBMovieDto> similarMovies = movieCatalogIndex.find(similar.keySet());
+        similarMovies.forEach(movie -> candidates.putIfAbsent(movie.getTmdbId(), movie));
+        System.out.println("🤝 함께 좋아한 영화 후보: " + similarMovies.size() + "개");
+
+        // 임베딩 근사 최근접 후보 (취향 + 좋아한 영화 벡터와 내적이 큰 영화, 카탈로그 전체를 점수 계산하지 않음)
+        List<TMDBMovieDto> nearestMovies = movieCatalogIndex.find(
+                movieEmbeddingIndex.nearest(profile, movieCatalogIndex.find(seeds), maxAnnCandidates));
+        nearestMovies.forEach(movie -> candidates.putIfAbsent(movie.getTmdbId(), movie));
+        System.out.println("🧭 임베딩 근사 최근접 후보: " + nearestMovies.size() + "개");
+
+        // 배우 검색으로 찾은 영화는 해당 배우의 출연이 확실하므로 1단계 점수에 반영
+        Map<Long, List<ActorInfo>> knownActors = new LinkedHashMap<>();
+        outcome.completed().forEach((key, movies) -> {
+            System.out.println("🎬 " + key + " 검색 결과: " + movies.size() + "개");
+            ActorInfo searchedActor = key.startsWith("actor:")
+                    ? ActorInfo.builder().actorId(Long.valueOf(key.substring("actor:".length()))).build()
+                    : null;
+            for (TMDBMovieDto movie : movies) {
+                candidates.putIfAbsent(movie.getTmdbId(), movie);
+                if (searchedActor != null) {
+                    knownActors.computeIfAbsent(movie.getTmdbId(), id -> new ArrayList<>()).add(searchedActor);
+                }
+            }
+        });
+
+        System.out.println("📦 후보 영화 총 개수: " + candidates.size()
+                + (partialSources.isEmpty() ? "" : " (예산 초과/실패 소스: " + partialSources + ")"));
+
+        // 4-1. 1단계 점수 (배우 정보 조회 없음, 카탈로그에 출연진이 있으면 사용) - 상위 shortlist 만 선택
+        List<RecommendationRanker.Ranked> shortlist = recommendationRanker.topK(new ArrayList<>(candidates.values()),
+                movie -> profile.score(movie.getGenres(),
+                        movie.getActors() != null ? movie.getActors() : knownActors.get(movie.getTmdbId()),
+                        movie.getRating()) + boosts.getOrDefault(movie.getTmdbId(), 0.0),
+                count * Math.max(1, shortlistFactor));
+        List<TMDBMovieDto> shortlistMovies = shortlist.stream()
+                .map(RecommendationRanker.Ranked::movie)
+                .collect(Collectors.toList());
+
+        // 4-2. 남은 예산 안에서 상위 후보만 배우 정보 조회 후 최종 매칭 점수 계산
+        // withActors 는 요청별 복사본을 반환하므로 점수를 기록해도 캐시된 DTO 에는 영향 없음
+        List<TMDBMovieDto> enriched = shortlistMovies.isEmpty()
+                ? List.of()
+                : sourceExecutor.callUntil(() -> tmdbService.withActors(shortlistMovies), deadline);
+
+        List<TMDBMovieDto> scoredMovies;
+        if (enriched != null) {
+            // 일부 영화의 배우 정보를 가져오지 못함 (실패/대기열 초과) - 확인된 배우만으로 계산하고 부분 결과로 알림
+            boolean creditsMissing = false;
+            for (TMDBMovieDto movie : enriched) {
+                if (movie.getActors() == null) {
+                    movie.setActors(new ArrayList<>(knownActors.getOrDefault(movie.getTmdbId(), List.of())));
+                    creditsMissing = true;
+                }
+            }
+            if (creditsMissing) {
+                partialSources.add(SOURCE_CREDITS);
+            }
+            scoredMovies = recommendationRanker.topK(enriched,
+                            movie -> profile.score(movie.getGenres(), movie.getActors(), movie.getRating())
+                                    + boosts.getOrDefault(movie.getTmdbId(), 0.0),
+                            count).stream()
+                    .map(ranked -> {
+                        TMDBMovieDto movie = ranked.movie();
+                        movie.setMatchingScore(profile.score(movie.getGenres(), movie.getActors(), movie.getRating()));
+                        return movie;
+                    })
+                    .collect(Collectors.toList());
+        } else {
+            // 예산 초과 - 1단계 점수로 상위 count 개 반환 (배우 정보는 카탈로그 또는 배우 검색으로 확인된 배우만)
+            partialSources.add(SOURCE_CREDITS);
+            scoredMovies = shortlist.stream()
+                    .limit(count)
+                    .map(ranked -> {
+                        TMDBMovieDto movie = ranked.movie().copy();
+                        if (movie.getActors() == null) {
+                            movie.setActors(new ArrayList<>(knownActors.getOrDefault(movie.getTmdbId(), List.of())));
+                        }
+                        movie.setMatchingScore(profile.score(movie.getGenres(), movie.getActors(), movie.getRating()));
+                        return movie;
+                    })
+                    .collect(Collectors.toList());
+        }
+
+        partialSources.forEach(source -> meterRegistry.counter("recommendation.sources.partial",
+                "source", source.contains(":") ? source.substring(0, source.indexOf(':')) : source).increment());
+
+        System.out.println("✅ 최종 추천 영화: " + scoredMovies.size() + "개 (배우 정보 조회: " + shortlistMovies.size() + "개, "
+                + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos) + "ms)");
+
+        return new RecommendationResult(scoredMovies, partialSources);
+    }
+
+    private long clampBudget(Long budgetMs) {
+        if (budgetMs == null || budgetMs <= 0) {
+            return defaultBudgetMs;
+        }
+        return Math.min(budgetMs, maxBudgetMs);
+    }
+
+    /**
+     * 추천 결과 (partialSources: 예산 초과 또는 실패로 빠진 소스 - "genre:28", "actor:500", "movie:603", "credits")
+     */
+    public record RecommendationResult(List<TMDBMovieDto> movies, List<String> partialSources) {
+    }
+}
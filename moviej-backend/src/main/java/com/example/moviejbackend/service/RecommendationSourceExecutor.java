@@ -0,0 +1,119 @@
+package com.example.moviejbackend.service;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 추천 후보 소스(장르/배우/선호 영화 검색, 배우 정보 조회) 기한 실행기
+ * - 소스들을 동시에 실행하고 기한(deadline)까지 도착한 결과만 사용
+ * - 기한까지 끝나지 않은 소스는 취소(인터럽트, 대기 중이면 실행하지 않음) → 버려진 작업이 다음 요청 앞에 쌓이지 않음
+ * - 대기열은 recommendation.sources.queue-capacity 로 제한, 가득 차면 그 소스는 바로 partial
+ * - 소스 내부에서 TMDBFanOutExecutor 를 사용하므로 별도 스레드 풀에서 실행 (같은 풀에서 기다리면 교착)
+ */
+@Component
+public class RecommendationSourceExecutor {
+
+    private final ExecutorService executor;
+
+    public RecommendationSourceExecutor(@Value("${recommendation.sources.concurrency:32}") int concurrency,
+                                        @Value("${recommendation.sources.queue-capacity:64}") int queueCapacity) {
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                concurrency, concurrency,
+                60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "recommendation-source-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * 소스들을 동시에 실행하고 기한까지 기다림
+     * 기한 안에 성공한 소스는 completed, 실패하거나 기한을 넘기거나 대기열이 가득 차 실행하지 못한 소스는 partial 에 (입력 순서 유지)
+     */
+    public <K, T> Outcome<K, T> invokeUntil(Map<K, ? extends Callable<T>> sources, long deadlineNanos) {
+        Map<K, CompletableFuture<T>> futures = new LinkedHashMap<>();
+        Map<K, Future<?>> tasks = new LinkedHashMap<>();
+        sources.forEach((key, source) -> futures.put(key, submit(key, source, tasks)));
+
+        try {
+            CompletableFuture.allOf(futures.values().toArray(new CompletableFuture[0]))
+                    .get(Math.max(0L, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException | ExecutionException e) {
+            // 기한 초과 또는 일부 실패 - 끝난 소스만 사용
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        Map<K, T> completed = new LinkedHashMap<>();
+        List<K> partial = new ArrayList<>();
+        futures.forEach((key, future) -> {
+            if (future.isDone() && !future.isCompletedExceptionally()) {
+                completed.put(key, future.join());
+            } else {
+                partial.add(key);
+                Future<?> task = tasks.get(key);
+                if (task != null) {
+                    task.cancel(true);
+                }
+            }
+        });
+        return new Outcome<>(completed, partial);
+    }
+
+    /**
+     * 작업 하나를 기한까지 기다림 (실패하거나 기한을 넘기면 null)
+     */
+    public <T> T callUntil(Callable<T> call, long deadlineNanos) {
+        return invokeUntil(Map.of("call", call), deadlineNanos).completed().get("call");
+    }
+
+    private <K, T> CompletableFuture<T> submit(K key, Callable<T> source, Map<K, Future<?>> tasks) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        try {
+            tasks.put(key, executor.submit(() -> {
+                try {
+                    result.complete(source.call());
+                } catch (Exception e) {
+                    System.err.println("추천 후보 소스 실패: " + key + ", " + e.getMessage());
+                    result.completeExceptionally(e);
+                }
+            }));
+        } catch (RejectedExecutionException e) {
+            System.err.println("추천 후보 소스 생략 (대기열 초과): " + key);
+            result.completeExceptionally(e);
+        }
+        return result;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 기한 실행 결과 (completed: 소스 키 → 결과, partial: 실패 또는 기한 초과 소스 키)
+     */
+    public record Outcome<K, T>(Map<K, T> completed, List<K> partial) {
+    }
+}
@@ -0,0 +1,170 @@
+package com.example.moviejbackend.service;
+
+import com.example.moviejbackend.repository.ReviewRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * 영화별 베스트 리뷰 순위 (/reviews/popular, 인스턴스별 메모리)
+ * - 영화마다 공감 수 1위 리뷰만 보관, 전체는 (공감 수 내림차순, 작성일 오름차순, ID 오름차순) 정렬 집합
+ * - 리뷰 작성/좋아요 토글이 커밋되면 해당 영화만 갱신 → 조회는 앞에서 limit 개만 읽음 (테이블 조회 없음)
+ * - 1위 리뷰의 공감 수가 줄면 그 영화의 1위만 DB 에서 다시 조회 (조회는 잠금 밖, 그동안 그 영화의 1위가 바뀌었으면 버림)
+ * - 시작 시 및 rebuild-interval 마다 DB 에서 다시 생성 (다른 인스턴스의 변경 반영)
+ *   새 순위를 따로 만든 뒤 한 번에 교체 → 재생성 중에도 조회는 기존 순위를 그대로 읽음
+ */
+@Component
+@RequiredArgsConstructor
+public class ReviewLeaderboard {
+
+    static final Comparator<Entry> ORDER = Comparator.comparingInt(Entry::likes).reversed()
+            .thenComparing(Entry::createdAt, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(Entry::reviewId);
+
+    private final ReviewRepository reviewRepository;
+
+    // 현재 순위 (재생성 시 통째로 교체, 증분 변경은 synchronized 안에서 현재 순위에 적용, DB 조회는 잠금 밖)
+    private volatile Board board = new Board();
+    // 재생성 중 DB 를 읽는 동안 들어온 변경 (새 순위에 다시 적용, 재생성 중이 아니면 null)
+    private List<ReviewLikesChangedEvent> pendingDuringRebuild;
+    private volatile boolean ready;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 상위 limit 개 영화의 1위 리뷰 ID (순위 순서)
+     */
+    public List<Long> top(int limit) {
+        List<Long> reviewIds = new ArrayList<>(Math.max(limit, 0));
+        Iterator<Entry> iterator = board.ranking.iterator();
+        while (reviewIds.size() < limit && iterator.hasNext()) {
+            reviewIds.add(iterator.next().reviewId());
+        }
+        return reviewIds;
+    }
+
+    @Scheduled(initialDelayString = "${review.leaderboard.initial-delay-ms:0}",
+            fixedDelayString = "${review.leaderboard.rebuild-interval-ms:3600000}")
+    public void rebuild() {
+        synchronized (this) {
+            if (pendingDuringRebuild != null) {
+                return;
+            }
+            pendingDuringRebuild = new ArrayList<>();
+        }
+        try {
+            long start = System.nanoTime();
+            // DB 조회는 잠금 밖에서 (그동안 들어온 변경은 pendingDuringRebuild 에 모아 두었다가 다시 적용)
+            Board built = new Board();
+            for (ReviewRepository.ReviewLikesRow row : reviewRepository.findBestReviewPerMovie()) {
+                built.replace(null, entry(row));
+            }
+            List<Entry> toRefresh = new ArrayList<>();
+            synchronized (this) {
+                for (ReviewLikesChangedEvent event : pendingDuringRebuild) {
+                    Entry provisional = apply(built, event);
+                    if (provisional != null) {
+                        toRefresh.add(provisional);
+                    }
+                }
+                board = built;
+                ready = true;
+            }
+            toRefresh.forEach(this::refreshBest);
+            System.out.println("🏆 베스트 리뷰 순위 생성: 영화 " + built.bestByMovie.size() + "편 ("
+                    + (System.nanoTime() - start) / 1_000_000 + "ms)");
+        } catch (Exception e) {
+            System.err.println("베스트 리뷰 순위 생성 실패: " + e.getMessage());
+        } finally {
+            synchronized (this) {
+                pendingDuringRebuild = null;
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLikesChanged(ReviewLikesChangedEvent event) {
+        Entry provisional;
+        synchronized (this) {
+            provisional = apply(board, event);
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.add(event);
+            }
+        }
+        if (provisional != null) {
+            refreshBest(provisional);
+        }
+    }
+
+    // 1위의 공감 수가 줄었으면 줄어든 항목을 임시로 넣고 DB 에서 다시 조회할 항목으로 반환 (그 외에는 null)
+    private Entry apply(Board target, ReviewLikesChangedEvent event) {
+        Entry updated = new Entry(event.reviewId(), event.tmdbMovieId(), event.likes(), event.createdAt());
+        Entry best = target.bestByMovie.get(event.tmdbMovieId());
+        if (best == null) {
+            target.replace(null, updated);
+        } else if (best.reviewId().equals(updated.reviewId())) {
+            target.replace(best, updated);
+            if (updated.likes() < best.likes()) {
+                // 1위의 공감 수가 줄면 다른 리뷰가 1위가 될 수 있음
+                return updated;
+            }
+        } else if (ORDER.compare(updated, best) < 0) {
+            target.replace(best, updated);
+        }
+        return null;
+    }
+
+    // 영화의 1위를 DB 에서 다시 조회 (잠금 밖), 현재 순위에서 그 영화의 1위가 아직 임시 항목일 때만 교체
+    // (그 사이 다른 변경이 1위를 바꿨으면 그 변경이 더 최신이므로 조회 결과를 버림)
+    private void refreshBest(Entry provisional) {
+        Entry refreshed = reviewRepository.findBestReviewOfMovie(provisional.tmdbMovieId())
+                .map(ReviewLeaderboard::entry)
+                .orElse(null);
+        if (refreshed == null) {
+            return;
+        }
+        synchronized (this) {
+            Board current = board;
+            if (provisional.equals(current.bestByMovie.get(provisional.tmdbMovieId()))) {
+                current.replace(provisional, refreshed);
+            }
+        }
+    }
+
+    private static Entry entry(ReviewRepository.ReviewLikesRow row) {
+        return new Entry(row.getId(), row.getTmdbMovieId(), row.getLikes() != null ? row.getLikes() : 0, row.getCreatedAt());
+    }
+
+    record Entry(Long reviewId, String tmdbMovieId, int likes, LocalDateTime createdAt) {
+    }
+
+    /**
+     * 영화 ID → 1위 리뷰, 영화별 1위 리뷰 전체 순위 (변경은 synchronized 안에서만, ranking 조회는 잠금 없이)
+     */
+    private static final class Board {
+        private final Map<String, Entry> bestByMovie = new HashMap<>();
+        private final NavigableSet<Entry> ranking = new ConcurrentSkipListSet<>(ORDER);
+
+        // 이전 항목을 먼저 빼고 추가 (조회 중에도 한 영화가 두 번 보이지 않음)
+        private void replace(Entry previous, Entry next) {
+            if (previous != null) {
+                ranking.remove(previous);
+            }
+            bestByMovie.put(next.tmdbMovieId(), next);
+            ranking.add(next);
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.moviejbackend.service;
+
+/**
+ * 리뷰 좋아요/좋아요 취소 (커밋 후 LikedReviewCache 반영)
+ */
+public record ReviewLikeToggledEvent(Long userId, Long reviewId, boolean liked) {
+}
@@ -0,0 +1,9 @@
+package com.example.moviejbackend.service;
+
+import java.time.LocalDateTime;
+
+/**
+ * 리뷰 공감 수 변경 (작성 시 0, 좋아요 토글 시 최신 값) - 커밋 후 ReviewLeaderboard 반영
+ */
+public record ReviewLikesChangedEvent(Long reviewId, String tmdbMovieId, int likes, LocalDateTime createdAt) {
+}
@@ -1,28 +1,56 @@
 package com.example.moviejbackend.service;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import com.example.moviejbackend.domain.Review;
 import com.example.moviejbackend.domain.ReviewLike;
 import com.example.moviejbackend.domain.User;
+import com.example.moviejbackend.dto.response.CursorPageResponseDto;
 import com.example.moviejbackend.dto.response.PagedReviewResponseDto;
 import com.example.moviejbackend.dto.response.ReviewResponseDto;
 import com.example.moviejbackend.repository.ReviewLikeRepository;
 import com.example.moviejbackend.repository.ReviewRepository;
 import com.example.moviejbackend.repository.UserRepository;
+import com.example.moviejbackend.util.CursorToken;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 public class ReviewService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+    // 스트리밍 응답을 변환/전송하는 단위 (DB fetch size 와 같게)
+    private static final int STREAM_BATCH_SIZE = ReviewRepository.STREAM_FETCH_SIZE;
+
+    // 전체 리뷰 스트리밍은 끝날 때까지 DB 커넥션을 잡고 있으므로 동시 수를 커넥션 풀의 절반으로 제한
+    // (영화별 스트리밍은 짧게 끝나므로 제한하지 않음)
+    private final Semaphore fullStreamPermits;
+
     @Autowired
     private ReviewRepository reviewRepository;
 
@@ -32,163 +60,242 @@ public class ReviewService {
     @Autowired
     private ReviewLikeRepository reviewLikeRepository;
 
-    // 전체 리뷰 조회 (isLiked 포함) - 이메일 없이도 조회 가능
-    public List<ReviewResponseDto> getAllReviewsWithLike(String email) {
-        final User user = (email != null && !email.isEmpty()) 
-            ? userRepository.findByEmail(email).orElse(null) 
-            : null;
-        
-        List<Review> reviews = reviewRepository.findAllByOrderByCreatedAtDesc();
-        return reviews.stream().map(review -> {
-            boolean isLiked = false;
-            if (user != null) {
-                isLiked = reviewLikeRepository.existsByReviewAndUser(review, user);
+    @Autowired
+    private LikedReviewCache likedReviewCache;
+
+    @Autowired
+    private ReviewLeaderboard reviewLeaderboard;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    public ReviewService(@Value("${spring.datasource.hikari.maximum-pool-size:10}") int connectionPoolSize) {
+        this.fullStreamPermits = new Semaphore(Math.max(1, connectionPoolSize / 2));
+    }
+
+    // 전체 리뷰 스트리밍 허가 (대기 없음, null 이면 컨트롤러가 바로 503)
+    // 반환된 반납 작업은 여러 번 호출해도 한 번만 반납 → 본문 종료와 요청 종료(타임아웃/오류 포함) 양쪽에서 호출
+    public Runnable tryAcquireFullStream() {
+        if (!fullStreamPermits.tryAcquire()) {
+            return null;
+        }
+        AtomicBoolean released = new AtomicBoolean();
+        return () -> {
+            if (released.compareAndSet(false, true)) {
+                fullStreamPermits.release();
             }
-            return new ReviewResponseDto(
-                review.getId(),
-                review.getTmdbMovieId(),
-                review.getMovieTitle(),
-                review.getTitle(),
-                review.getNickname(),
-                review.getProfileImage(),
-                review.getRating(),
-                review.getContent(),
-                review.getLikes(),
-                review.getCreatedAt(),
-                isLiked
-            );
-        }).collect(Collectors.toList());
+        };
     }
 
-    // 전체 리뷰 페이지네이션 조회 (isLiked 포함) - 이메일 없이도 조회 가능
-    public PagedReviewResponseDto getAllReviewsPagedWithLike(String email, Pageable pageable) {
-        final User user = (email != null && !email.isEmpty()) 
-            ? userRepository.findByEmail(email).orElse(null) 
-            : null;
-            
-        Page<Review> reviewPage = reviewRepository.findAllByOrderByCreatedAtDesc(pageable);
-
-        List<ReviewResponseDto> content = reviewPage.getContent().stream()
-            .map(review -> {
-                boolean isLiked = false;
-                if (user != null) {
-                    isLiked = reviewLikeRepository.existsByReviewAndUser(review, user);
-                }
-                return new ReviewResponseDto(
-                    review.getId(),
-                    review.getTmdbMovieId(),
-                    review.getMovieTitle(),
-                    review.getTitle(),
-                    review.getNickname(),
-                    review.getProfileImage(),
-                    review.getRating(),
-                    review.getContent(),
-                    review.getLikes(),
-                    review.getCreatedAt(),
-                    isLiked
-                );
-            }).collect(Collectors.toList());
+    // 전체 리뷰 스트리밍 (isLiked 포함) - 이메일 없이도 조회 가능
+    // 서버 측 커서로 읽으며 STREAM_BATCH_SIZE 개씩 변환/전송 → 리뷰 수와 관계없이 메모리 사용량 일정
+    // ndjson=true 이면 한 줄에 리뷰 하나, 아니면 JSON 배열
+    // tryAcquireFullStream 으로 허가를 받은 뒤 호출 (반납은 호출한 쪽에서)
+    public void streamAllReviews(String email, boolean summary, boolean ndjson, OutputStream out) throws IOException {
+        stream(email, ndjson, out, () -> summary
+            ? reviewRepository.streamAllSummaries()
+            : reviewRepository.streamAllResponses());
+    }
 
-        return new PagedReviewResponseDto(
-            content,
-            reviewPage.getNumber(),
-            reviewPage.getSize(),
-            reviewPage.getTotalElements(),
-            reviewPage.getTotalPages(),
-            reviewPage.isFirst(),
-            reviewPage.isLast()
-        );
+    // 전체 리뷰 페이지네이션 조회 (isLiked 포함) - 이메일 없이도 조회 가능
+    // 페이지 크기와 관계없이 쿼리 수 고정 (목록 + 개수 + 좋아요 여부)
+    public PagedReviewResponseDto getAllReviewsPagedWithLike(String email, Pageable pageable, boolean summary) {
+        Page<ReviewResponseDto> reviewPage = summary
+            ? reviewRepository.findAllSummaries(pageable)
+            : reviewRepository.findAllResponses(pageable);
+        return toPagedResponse(withLiked(email, reviewPage.getContent()), reviewPage);
     }
 
     // 전체 리뷰 좋아요순 조회 (메인페이지용 - 영화별로 공감 많은 리뷰 1개만)
-    public List<ReviewResponseDto> getAllReviewsByLikes(int limit) {
-        List<Review> allReviews = reviewRepository.findAllByOrderByLikesDescCreatedAtAsc();
+    // 순위는 ReviewLeaderboard 에서 limit 개만 읽고 해당 리뷰만 조회 (순위 생성 전에는 전체 조회)
+    // 로그인 안 한 상태이므로 isLiked는 항상 false
+    public List<ReviewResponseDto> getAllReviewsByLikes(int limit, boolean summary) {
+        if (reviewLeaderboard.isReady()) {
+            List<Long> reviewIds = reviewLeaderboard.top(limit);
+            if (reviewIds.isEmpty()) {
+                return new ArrayList<>();
+            }
+            Map<Long, ReviewResponseDto> byId = (summary
+                ? reviewRepository.findSummariesByIdIn(reviewIds)
+                : reviewRepository.findResponsesByIdIn(reviewIds))
+                .stream()
+                .collect(Collectors.toMap(ReviewResponseDto::getId, review -> review));
+            return reviewIds.stream()
+                .map(byId::get)
+                .filter(review -> review != null)
+                .collect(Collectors.toList());
+        }
+
+        List<ReviewResponseDto> allReviews = summary
+            ? reviewRepository.findAllSummariesByLikes()
+            : reviewRepository.findAllResponsesByLikes();
         
         // 영화별로 가장 공감 많은 리뷰만 남기기 (공감 수 같으면 먼저 작성된 것)
-        Map<String, Review> movieBestReviewMap = new LinkedHashMap<>();
-        for (Review review : allReviews) {
-            String tmdbMovieId = review.getTmdbMovieId();
-            if (!movieBestReviewMap.containsKey(tmdbMovieId)) {
-                movieBestReviewMap.put(tmdbMovieId, review);
-            }
+        Map<String, ReviewResponseDto> movieBestReviewMap = new LinkedHashMap<>();
+        for (ReviewResponseDto review : allReviews) {
+            movieBestReviewMap.putIfAbsent(review.getTmdbMovieId(), review);
         }
         
-        // limit 적용 및 DTO 변환
         return movieBestReviewMap.values().stream()
             .limit(limit)
-            .map(review -> new ReviewResponseDto(
-                review.getId(),
-                review.getTmdbMovieId(),
-                review.getMovieTitle(),
-                review.getTitle(),
-                review.getNickname(),
-                review.getProfileImage(),
-                review.getRating(),
-                review.getContent(),
-                review.getLikes(),
-                review.getCreatedAt(),
-                false  // 로그인 안 한 상태이므로 isLiked는 항상 false
-            ))
             .collect(Collectors.toList());
     }
 
-    // 영화별 전체 리뷰 조회 (isLiked 포함) - 이메일 없이도 조회 가능
-    public List<ReviewResponseDto> getMovieReviewsWithLike(String tmdbMovieId, String email) {
-        final User user = (email != null && !email.isEmpty()) 
-            ? userRepository.findByEmail(email).orElse(null) 
-            : null;
-            
-        List<Review> reviews = reviewRepository.findByTmdbMovieIdOrderByCreatedAtDesc(tmdbMovieId);
-        return reviews.stream().map(review -> {
-            boolean isLiked = false;
-            if (user != null) {
-                isLiked = reviewLikeRepository.existsByReviewAndUser(review, user);
-            }
-            return new ReviewResponseDto(
-                review.getId(),
-                review.getTmdbMovieId(),
-                review.getMovieTitle(),
-                review.getTitle(),
-                review.getNickname(),
-                review.getProfileImage(),
-                review.getRating(),
-                review.getContent(),
-                review.getLikes(),
-                review.getCreatedAt(),
-                isLiked
-            );
-        }).collect(Collectors.toList());
+    // 영화별 리뷰 스트리밍 (isLiked 포함) - 이메일 없이도 조회 가능
+    public void streamMovieReviews(String tmdbMovieId, String email, boolean summary, boolean ndjson, OutputStream out) throws IOException {
+        stream(email, ndjson, out, () -> summary
+            ? reviewRepository.streamSummariesByTmdbMovieId(tmdbMovieId)
+            : reviewRepository.streamResponsesByTmdbMovieId(tmdbMovieId));
     }
 
     // 영화별 페이지네이션 리뷰 조회 (isLiked 포함) - 이메일 없이도 조회 가능
-    public PagedReviewResponseDto getMovieReviewsPagedWithLike(String tmdbMovieId, String email, Pageable pageable) {
-        final User user = (email != null && !email.isEmpty()) 
-            ? userRepository.findByEmail(email).orElse(null) 
+    public PagedReviewResponseDto getMovieReviewsPagedWithLike(String tmdbMovieId, String email, Pageable pageable, boolean summary) {
+        Page<ReviewResponseDto> reviewPage = summary
+            ? reviewRepository.findSummariesByTmdbMovieId(tmdbMovieId, pageable)
+            : reviewRepository.findResponsesByTmdbMovieId(tmdbMovieId, pageable);
+        return toPagedResponse(withLiked(email, reviewPage.getContent()), reviewPage);
+    }
+
+    // 전체 리뷰 커서 페이지네이션 (최신순, 깊은 페이지도 첫 페이지와 같은 비용)
+    // withTotal=true 일 때만 전체 개수 포함 (전체 리뷰는 PostgreSQL 통계 기반 추정치)
+    public CursorPageResponseDto<ReviewResponseDto> getAllReviewsByCursor(String email, String cursor, int size,
+                                                                         boolean summary, boolean withTotal) {
+        CursorToken.Position position = CursorToken.decode(cursor);
+        int limit = cursorPageSize(size);
+        List<ReviewResponseDto> rows = summary
+            ? reviewRepository.findSummariesBefore(position.createdAt(), position.id(), PageRequest.of(0, limit + 1))
+            : reviewRepository.findResponsesBefore(position.createdAt(), position.id(), PageRequest.of(0, limit + 1));
+
+        Long total = null;
+        boolean approximate = false;
+        if (withTotal) {
+            Long estimate = reviewRepository.estimateCount();
+            approximate = estimate != null && estimate > 0;
+            total = approximate ? estimate : reviewRepository.count();
+        }
+        return toCursorPage(email, rows, limit, total, approximate);
+    }
+
+    // 영화별 리뷰 커서 페이지네이션
+    public CursorPageResponseDto<ReviewResponseDto> getMovieReviewsByCursor(String tmdbMovieId, String email, String cursor, int size,
+                                                                           boolean summary, boolean withTotal) {
+        CursorToken.Position position = CursorToken.decode(cursor);
+        int limit = cursorPageSize(size);
+        List<ReviewResponseDto> rows = summary
+            ? reviewRepository.findSummariesByTmdbMovieIdBefore(tmdbMovieId, position.createdAt(), position.id(), PageRequest.of(0, limit + 1))
+            : reviewRepository.findResponsesByTmdbMovieIdBefore(tmdbMovieId, position.createdAt(), position.id(), PageRequest.of(0, limit + 1));
+        Long total = withTotal ? reviewRepository.countByTmdbMovieId(tmdbMovieId) : null;
+        return toCursorPage(email, rows, limit, total, false);
+    }
+
+    // 자신이 쓴 리뷰 커서 페이지네이션
+    public CursorPageResponseDto<ReviewResponseDto> getReviewsByUserByCursor(String email, String cursor, int size, boolean withTotal) {
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new IllegalArgumentException("로그인이 필요한 서비스입니다."));
+        CursorToken.Position position = CursorToken.decode(cursor);
+        int limit = cursorPageSize(size);
+        List<ReviewResponseDto> rows = reviewRepository.findResponsesByUserIdBefore(
+            user.getId(), position.createdAt(), position.id(), PageRequest.of(0, limit + 1));
+        rows.forEach(review -> review.setLiked(true));
+        Long total = withTotal ? reviewRepository.countByUserId(user.getId()) : null;
+        return CursorPageResponseDto.of(rows, limit, ReviewService::cursorOf, total, false);
+    }
+
+    private CursorPageResponseDto<ReviewResponseDto> toCursorPage(String email, List<ReviewResponseDto> rows, int limit,
+                                                                 Long total, boolean approximate) {
+        CursorPageResponseDto<ReviewResponseDto> page = CursorPageResponseDto.of(rows, limit, ReviewService::cursorOf, total, approximate);
+        withLiked(email, page.getContent());
+        return page;
+    }
+
+    private static String cursorOf(ReviewResponseDto review) {
+        return CursorToken.encode(review.getCreatedAt(), review.getId());
+    }
+
+    private static int cursorPageSize(int size) {
+        return Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+    }
+
+    // 읽기 전용 트랜잭션 안에서 서버 측 커서로 읽어 전송 (스트리밍 동안 DB 커넥션 1개 사용)
+    private void stream(String email, boolean ndjson, OutputStream out, Supplier<Stream<ReviewResponseDto>> query) throws IOException {
+        try {
+            TransactionTemplate readOnlyTransaction = new TransactionTemplate(transactionManager);
+            readOnlyTransaction.setReadOnly(true);
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<ReviewResponseDto> rows = query.get()) {
+                    writeStream(email, rows, ndjson, out);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    // 배치 단위로 isLiked 설정 후 바로 쓰고 flush (느린 클라이언트면 쓰기가 막혀 DB 커서도 멈춤)
+    private void writeStream(String email, Stream<ReviewResponseDto> rows, boolean ndjson, OutputStream out) throws IOException {
+        Long userId = (email != null && !email.isEmpty())
+            ? userRepository.findByEmail(email).map(User::getId).orElse(null)
             : null;
-            
-        Page<Review> reviewPage = reviewRepository.findByTmdbMovieIdOrderByCreatedAtDesc(tmdbMovieId, pageable);
-
-        List<ReviewResponseDto> content = reviewPage.getContent().stream()
-            .map(review -> {
-                boolean isLiked = false;
-                if (user != null) {
-                    isLiked = reviewLikeRepository.existsByReviewAndUser(review, user);
+
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        if (ndjson) {
+            generator.setRootValueSeparator(new SerializedString("\n"));
+        } else {
+            generator.writeStartArray();
+        }
+
+        List<ReviewResponseDto> batch = new ArrayList<>(STREAM_BATCH_SIZE);
+        Iterator<ReviewResponseDto> iterator = rows.iterator();
+        boolean written = false;
+        while (iterator.hasNext()) {
+            batch.add(iterator.next());
+            if (batch.size() == STREAM_BATCH_SIZE || !iterator.hasNext()) {
+                LikedReviewCache.LikedReviews liked = likedReviewCache.likedAmong(userId,
+                    batch.stream().map(ReviewResponseDto::getId).collect(Collectors.toList()));
+                for (ReviewResponseDto review : batch) {
+                    review.setLiked(liked.contains(review.getId()));
+                    generator.writeObject(review);
                 }
-                return new ReviewResponseDto(
-                    review.getId(),
-                    review.getTmdbMovieId(),
-                    review.getMovieTitle(),
-                    review.getTitle(),
-                    review.getNickname(),
-                    review.getProfileImage(),
-                    review.getRating(),
-                    review.getContent(),
-                    review.getLikes(),
-                    review.getCreatedAt(),
-                    isLiked
-                );
-            }).collect(Collectors.toList());
+                generator.flush();
+                batch.clear();
+                written = true;
+            }
+        }
+
+        if (ndjson) {
+            if (written) {
+                generator.writeRaw('\n');
+            }
+        } else {
+            generator.writeEndArray();
+        }
+        generator.flush();
+    }
+
+    // isLiked 설정 (리뷰마다 조회하지 않고 한 번에, LikedReviewCache)
+    private List<ReviewResponseDto> withLiked(String email, List<ReviewResponseDto> reviews) {
+        if (email == null || email.isEmpty() || reviews.isEmpty()) {
+            return reviews;
+        }
+        Long userId = userRepository.findByEmail(email).map(User::getId).orElse(null);
+        LikedReviewCache.LikedReviews liked = likedReviewCache.likedAmong(userId,
+            reviews.stream().map(ReviewResponseDto::getId).collect(Collectors.toList()));
+        for (ReviewResponseDto review : reviews) {
+            review.setLiked(liked.contains(review.getId()));
+        }
+        return reviews;
+    }
 
+    private static PagedReviewResponseDto toPagedResponse(List<ReviewResponseDto> content, Page<ReviewResponseDto> reviewPage) {
         return new PagedReviewResponseDto(
             content,
             reviewPage.getNumber(),
@@ -216,7 +323,13 @@ public class ReviewService {
         review.setLikes(0);
         review.setRating(rating);
         review.setContent(content);
-        return reviewRepository.save(review);
+        Review saved = reviewRepository.save(review);
+
+        // 추천 재계산 대상으로 표시 (RecommendationMaterializer)
+        eventPublisher.publishEvent(new UserActivityChangedEvent(user.getId()));
+        // 베스트 리뷰 순위 반영 (ReviewLeaderboard)
+        eventPublisher.publishEvent(new ReviewLikesChangedEvent(saved.getId(), saved.getTmdbMovieId(), 0, saved.getCreatedAt()));
+        return saved;
     }
 
     @Transactional
@@ -228,7 +341,8 @@ public class ReviewService {
             .orElseThrow(() -> new IllegalArgumentException("리뷰를 찾을 수 없습니다."));
         
         // 좋아요 토글
-        if (reviewLikeRepository.existsByReviewAndUser(review, user)) {
+        boolean isLiked = !reviewLikeRepository.existsByReviewAndUser(review, user);
+        if (!isLiked) {
             // 좋아요 취소
             reviewLikeRepository.deleteByReviewAndUser(review, user);
             review.setLikes(Math.max(0, review.getLikes() - 1));
@@ -242,9 +356,10 @@ public class ReviewService {
         }
         reviewRepository.save(review);
 
-        // 최신 isLiked 상태 계산
-        boolean isLiked = reviewLikeRepository.existsByReviewAndUser(review, user);
-        
+        // 커밋 후 좋아요 캐시에 반영 (LikedReviewCache)
+        eventPublisher.publishEvent(new ReviewLikeToggledEvent(user.getId(), review.getId(), isLiked));
+        eventPublisher.publishEvent(new ReviewLikesChangedEvent(review.getId(), review.getTmdbMovieId(), review.getLikes(), review.getCreatedAt()));
+
         // 업데이트된 DTO 반환
         return new ReviewResponseDto(
             review.getId(),
@@ -261,28 +376,15 @@ public class ReviewService {
         );
     }
 
-    // 자신이 쓴 리뷰만 조회 (최적화: User ID로 직접 조회)
+    // 자신이 쓴 리뷰만 조회 (최적화: User ID로 직접 조회, 응답 DTO 로 바로 조회)
     public List<ReviewResponseDto> getReviewsByUser(String email) {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new IllegalArgumentException("로그인이 필요한 서비스입니다."));
         
         // User ID로 직접 조회 (전체 리뷰를 가져와서 필터링하지 않음)
-        List<Review> reviews = reviewRepository.findByUserIdOrderByCreatedAtDesc(user.getId());
-        
-        return reviews.stream()
-            .map(review -> new ReviewResponseDto(
-                review.getId(),
-                review.getTmdbMovieId(),
-                review.getMovieTitle(),
-                review.getTitle(),
-                review.getNickname(),
-                review.getProfileImage(),
-                review.getRating(),
-                review.getContent(),
-                review.getLikes(),
-                review.getCreatedAt(),
-                true  // 자신이 쓴 리뷰이므로 항상 true (좋아요는 자신의 리뷰에 할 수 없다면 false)
-            ))
-            .collect(Collectors.toList());
+        List<ReviewResponseDto> reviews = reviewRepository.findResponsesByUserId(user.getId());
+        // 자신이 쓴 리뷰이므로 항상 true (좋아요는 자신의 리뷰에 할 수 없다면 false)
+        reviews.forEach(review -> review.setLiked(true));
+        return reviews;
     }
 }
\ No newline at end of file
@@ -0,0 +1,73 @@
+package com.example.moviejbackend.service;
+
+import com.example.moviejbackend.service.TMDBService.DiscoverQuery;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * TMDB discover 캐시 예열 (refresh-ahead)
+ * - 모든 장르 검색은 항상 캐시에 유지
+ * - 사용자 요청이 많은 장르/배우 검색은 만료 전에 미리 갱신
+ * - 주기마다 TMDB 호출 수는 tmdb.warmer.call-budget 이내
+ * 사용자 요청이 TMDB를 직접 기다리는 경우를 줄이기 위함
+ */
+@Component
+@RequiredArgsConstructor
+public class TMDBCacheWarmer {
+
+    private final TMDBService tmdbService;
+
+    @Value("${tmdb.warmer.enabled:true}")
+    private boolean enabled;
+
+    // 주기당 TMDB 호출 수 한도 (검색 1건 = 페이지 수만큼 호출)
+    @Value("${tmdb.warmer.call-budget:100}")
+    private int callBudget;
+
+    // 항상 예열할 장르 검색의 페이지 수 (추천에서 사용하는 값과 맞춤)
+    @Value("${tmdb.warmer.genre-page-count:1}")
+    private int genrePageCount;
+
+    // 요청 수 기준으로 함께 예열할 검색 수
+    @Value("${tmdb.warmer.hot-keys:50}")
+    private int hotKeys;
+
+    @Scheduled(initialDelayString = "${tmdb.warmer.initial-delay-ms:10000}",
+            fixedDelayString = "${tmdb.warmer.interval-ms:300000}")
+    public void warm() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            // 1. 전체 장르 → 2. 요청이 많은 순
+            Set<DiscoverQuery> candidates = new LinkedHashSet<>();
+            TMDBService.genreIds().forEach(genreId -> candidates.add(DiscoverQuery.genre(genreId, genrePageCount)));
+            candidates.addAll(tmdbService.hotDiscoverQueries(hotKeys));
+
+            List<DiscoverQuery> due = new ArrayList<>();
+            int calls = 0;
+            for (DiscoverQuery query : candidates) {
+                if (calls + query.pageCount() > callBudget) continue;
+                if (tmdbService.needsRefresh(query)) {
+                    due.add(query);
+                    calls += query.pageCount();
+                }
+            }
+            if (due.isEmpty()) {
+                return;
+            }
+
+            int refreshed = tmdbService.refreshDiscover(due);
+            System.out.println("🔥 TMDB 캐시 예열: " + refreshed + "/" + due.size() + "개 검색 갱신 (TMDB 호출 " + calls + "회)");
+        } catch (Exception e) {
+            System.err.println("TMDB 캐시 예열 실패: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.moviejbackend.service;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * TMDB 외부 호출 보호 (Resilience4j, 설정: application.properties 의 resilience4j.*.instances.tmdb)
+ * - RateLimiter: TMDB 호출 한도에 맞춘 초당 호출 수 제한
+ * - CircuitBreaker: 실패율/지연이 높으면 일정 시간 즉시 실패
+ * - Retry: 일시적 오류(연결 실패, 5xx, 429)만 지수 백오프 + 지터로 재시도
+ * 상태와 통계는 /actuator/metrics/resilience4j.* 로 확인
+ */
+@Component
+public class TMDBCallGuard {
+
+    private static final String INSTANCE = "tmdb";
+
+    private final RateLimiter rateLimiter;
+    private final CircuitBreaker circuitBreaker;
+    private final Retry retry;
+
+    public TMDBCallGuard(RateLimiterRegistry rateLimiterRegistry,
+                         CircuitBreakerRegistry circuitBreakerRegistry,
+                         RetryRegistry retryRegistry) {
+        this.rateLimiter = rateLimiterRegistry.rateLimiter(INSTANCE);
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(INSTANCE);
+        this.retry = retryRegistry.retry(INSTANCE);
+    }
+
+    /**
+     * 재시도 → 호출 수 제한 → 서킷 브레이커 순서로 감싸서 실행
+     * (재시도마다 호출 한도와 브레이커를 다시 거침)
+     * 호출 한도 대기와 한도 초과(RequestNotPermitted)는 브레이커 밖에서 처리 → 트래픽이 몰려도 TMDB 가 정상이면 브레이커가 열리지 않음
+     */
+    public <T> T call(Supplier<T> call) {
+        Supplier<T> guarded = CircuitBreaker.decorateSupplier(circuitBreaker, call);
+        Supplier<T> limited = RateLimiter.decorateSupplier(rateLimiter, guarded);
+        return Retry.decorateSupplier(retry, limited).get();
+    }
+}
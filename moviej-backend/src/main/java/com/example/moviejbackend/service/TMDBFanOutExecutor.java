@@ -0,0 +1,157 @@
+package com.example.moviejbackend.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * TMDB 호출 병렬 실행기
+ * - 요청 처리용 풀(tmdb.fanout.concurrency)과 백그라운드용 풀(tmdb.fanout.bulk-concurrency, 캐시 예열/카탈로그 동기화)을 분리
+ * - 대기열은 tmdb.fanout.queue-capacity 로 제한, 가득 차면 즉시 fallback
+ * - 호출마다 시작 시점부터 tmdb.fanout.call-timeout-ms 기한 적용, 기한을 넘기면 작업을 취소(인터럽트)해 스레드를 돌려받음
+ *   (대기열에서도 call-timeout-ms 안에 시작하지 못하면 fallback)
+ * - 대기열이 가득 차거나 시작하지 못한 호출은 tmdb.fanout.rejected 지표에 기록
+ * - 결과는 입력 순서대로 반환
+ */
+@Component
+public class TMDBFanOutExecutor {
+
+    private final ThreadPoolExecutor executor;
+    private final ThreadPoolExecutor bulkExecutor;
+    private final int bulkConcurrency;
+    private final long callTimeoutMs;
+    private final MeterRegistry meterRegistry;
+
+    public TMDBFanOutExecutor(
+            @Value("${tmdb.fanout.concurrency:8}") int concurrency,
+            @Value("${tmdb.fanout.queue-capacity:64}") int queueCapacity,
+            @Value("${tmdb.fanout.bulk-concurrency:4}") int bulkConcurrency,
+            @Value("${tmdb.fanout.call-timeout-ms:3000}") long callTimeoutMs,
+            MeterRegistry meterRegistry) {
+        this.executor = pool("tmdb-fanout-", concurrency, queueCapacity);
+        // 백그라운드 호출은 bulk-concurrency 개씩 나눠 제출 → 여러 작업이 동시에 호출해도 대기열이 넘치지 않음
+        this.bulkExecutor = pool("tmdb-fanout-bulk-", bulkConcurrency, bulkConcurrency * 3);
+        this.bulkConcurrency = bulkConcurrency;
+        this.callTimeoutMs = callTimeoutMs;
+        this.meterRegistry = meterRegistry;
+    }
+
+    private static ThreadPoolExecutor pool(String namePrefix, int concurrency, int queueCapacity) {
+        AtomicInteger threadCount = new AtomicInteger();
+        return new ThreadPoolExecutor(
+                concurrency, concurrency,
+                60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, namePrefix + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * 호출 목록을 병렬로 실행하고 입력 순서대로 결과를 모은다 (요청 처리용 풀).
+     * 실패하거나, 기한을 넘기거나, 대기열이 가득 차 실행하지 못한 호출의 자리에는 fallback 이 들어간다.
+     * (풀 내부 작업에서 다시 호출하면 교착될 수 있으므로 요청 스레드에서만 사용)
+     */
+    public <T> List<T> invokeAll(List<? extends Callable<T>> calls, T fallback) {
+        List<CompletableFuture<T>> futures = new ArrayList<>(calls.size());
+        for (Callable<T> call : calls) {
+            futures.add(submit(executor, "request", call, fallback));
+        }
+        return join(futures);
+    }
+
+    /**
+     * 백그라운드용 풀에서 bulk-concurrency 개씩 나눠 실행 (캐시 예열, 카탈로그 가져오기/동기화처럼 호출 수가 많은 작업)
+     * 요청 처리용 풀과 대기열을 차지하지 않음, 결과 규칙은 invokeAll 과 같음
+     */
+    public <T> List<T> invokeAllInBackground(List<? extends Callable<T>> calls, T fallback) {
+        List<T> results = new ArrayList<>(calls.size());
+        for (int from = 0; from < calls.size(); from += bulkConcurrency) {
+            List<CompletableFuture<T>> window = new ArrayList<>(bulkConcurrency);
+            for (Callable<T> call : calls.subList(from, Math.min(from + bulkConcurrency, calls.size()))) {
+                window.add(submit(bulkExecutor, "bulk", call, fallback));
+            }
+            results.addAll(join(window));
+        }
+        return results;
+    }
+
+    private static <T> List<T> join(List<CompletableFuture<T>> futures) {
+        List<T> results = new ArrayList<>(futures.size());
+        for (CompletableFuture<T> future : futures) {
+            results.add(future.join());
+        }
+        return results;
+    }
+
+    // 기한은 작업이 시작될 때부터 적용, 기한을 넘기면 실행 중인 작업을 인터럽트 (HTTP 호출이 스레드를 계속 붙잡지 않도록)
+    private <T> CompletableFuture<T> submit(ThreadPoolExecutor pool, String poolName, Callable<T> call, T fallback) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        AtomicBoolean started = new AtomicBoolean();
+        Future<?> task;
+        try {
+            task = pool.submit(() -> {
+                if (!started.compareAndSet(false, true)) {
+                    return;
+                }
+                result.orTimeout(callTimeoutMs, TimeUnit.MILLISECONDS);
+                try {
+                    result.complete(call.call());
+                } catch (Exception e) {
+                    result.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            meterRegistry.counter("tmdb.fanout.rejected", "pool", poolName, "reason", "queue-full").increment();
+            result.completeExceptionally(e);
+            return result.exceptionally(error -> fallback(error, fallback));
+        }
+
+        // 대기열에서 기한 안에 시작하지 못하면 실행하지 않음
+        CompletableFuture.delayedExecutor(callTimeoutMs, TimeUnit.MILLISECONDS).execute(() -> {
+            if (started.compareAndSet(false, true)) {
+                meterRegistry.counter("tmdb.fanout.rejected", "pool", poolName, "reason", "queue-timeout").increment();
+                task.cancel(false);
+                result.completeExceptionally(new TimeoutException("대기열에서 시작하지 못함"));
+            }
+        });
+        return result
+                .whenComplete((value, e) -> {
+                    if (e instanceof TimeoutException) {
+                        task.cancel(true);
+                    }
+                })
+                .exceptionally(error -> fallback(error, fallback));
+    }
+
+    private static <T> T fallback(Throwable error, T fallback) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        System.err.println("TMDB 병렬 호출 실패: " + cause);
+        return fallback;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+        bulkExecutor.shutdownNow();
+    }
+}
@@ -0,0 +1,281 @@
+package com.example.moviejbackend.service;
+
+import com.example.moviejbackend.domain.ActorInfo;
+import com.example.moviejbackend.domain.GenreInfo;
+import com.example.moviejbackend.dto.request.TMDBMovieDto;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongFunction;
+
+/**
+ * TMDB 응답 스트리밍 파서
+ * - HTTP 응답 본문을 String/JsonNode 로 만들지 않고 바로 DTO 로 변환
+ * - 사용하지 않는 필드는 건너뜀
+ * - cast 는 필요한 인원만 읽고 중단
+ */
+public class TMDBResponseParser {
+
+    private final JsonFactory jsonFactory;
+    private final LongFunction<String> genreNames;
+
+    public TMDBResponseParser(JsonFactory jsonFactory, LongFunction<String> genreNames) {
+        this.jsonFactory = jsonFactory;
+        this.genreNames = genreNames;
+    }
+
+    /**
+     * 영화 목록 응답 (popular, discover) 의 results 배열 파싱
+     */
+    public List<TMDBMovieDto> parseMoviePage(InputStream body) throws IOException {
+        List<TMDBMovieDto> movies = new ArrayList<>();
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            expect(parser.nextToken(), JsonToken.START_OBJECT);
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("results".equals(field) && value == JsonToken.START_ARRAY) {
+                    while (parser.nextToken() == JsonToken.START_OBJECT) {
+                        TMDBMovieDto movie = parseMovie(parser);
+                        if (movie != null) {
+                            movies.add(movie);
+                        }
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        return movies;
+    }
+
+    /**
+     * credits 응답의 cast 배열에서 앞의 limit 명만 파싱 (나머지는 읽지 않음)
+     */
+    public List<ActorInfo> parseCast(InputStream body, int limit) throws IOException {
+        List<ActorInfo> actors = new ArrayList<>(limit);
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            expect(parser.nextToken(), JsonToken.START_OBJECT);
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("cast".equals(field) && value == JsonToken.START_ARRAY) {
+                    while (actors.size() < limit && parser.nextToken() == JsonToken.START_OBJECT) {
+                        actors.add(parseActor(parser));
+                    }
+                    return actors;
+                }
+                parser.skipChildren();
+            }
+        }
+        return actors;
+    }
+
+    /**
+     * 영화 상세 응답 (/movie/{id}?append_to_response=credits) 파싱
+     * 장르는 객체 배열({id, name}), 출연진은 credits.cast 앞의 castLimit 명
+     */
+    public TMDBMovieDto parseMovieDetails(InputStream body, int castLimit) throws IOException {
+        TMDBMovieDto movie = newMovie();
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            expect(parser.nextToken(), JsonToken.START_OBJECT);
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                switch (field) {
+                    case "genres" -> {
+                        if (value == JsonToken.START_ARRAY) {
+                            movie.setGenres(parseGenreObjects(parser));
+                        }
+                    }
+                    case "credits" -> {
+                        if (value == JsonToken.START_OBJECT) {
+                            movie.setActors(parseCreditsObject(parser, castLimit));
+                        }
+                    }
+                    default -> readMovieField(parser, field, value, movie);
+                }
+            }
+        }
+        if (movie.getTmdbId() == null) {
+            throw new IOException("TMDB 응답 형식 오류: 영화 id 없음");
+        }
+        return movie;
+    }
+
+    /**
+     * 변경 목록 응답 (/movie/changes) 파싱: results[].id 와 전체 페이지 수
+     */
+    public ChangesPage parseChanges(InputStream body) throws IOException {
+        List<Long> ids = new ArrayList<>();
+        int totalPages = 1;
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            expect(parser.nextToken(), JsonToken.START_OBJECT);
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("results".equals(field) && value == JsonToken.START_ARRAY) {
+                    while (parser.nextToken() == JsonToken.START_OBJECT) {
+                        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                            String itemField = parser.currentName();
+                            parser.nextToken();
+                            if ("id".equals(itemField)) {
+                                ids.add(parser.getValueAsLong());
+                            } else {
+                                parser.skipChildren();
+                            }
+                        }
+                    }
+                } else if ("total_pages".equals(field)) {
+                    totalPages = parser.getValueAsInt(1);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        return new ChangesPage(ids, totalPages);
+    }
+
+    /**
+     * 변경 목록 한 페이지 (변경된 영화 ID, 전체 페이지 수)
+     */
+    public record ChangesPage(List<Long> movieIds, int totalPages) {
+    }
+
+    /**
+     * 영화 객체 하나 파싱 (START_OBJECT 위치에서 호출, END_OBJECT 에서 끝남)
+     * id 가 없으면 null
+     */
+    private TMDBMovieDto parseMovie(JsonParser parser) throws IOException {
+        TMDBMovieDto movie = newMovie();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("genre_ids".equals(field)) {
+                if (value == JsonToken.START_ARRAY) {
+                    movie.setGenres(parseGenreIds(parser));
+                }
+            } else {
+                readMovieField(parser, field, value, movie);
+            }
+        }
+        return movie.getTmdbId() != null ? movie : null;
+    }
+
+    private static TMDBMovieDto newMovie() {
+        TMDBMovieDto movie = new TMDBMovieDto();
+        movie.setOverview("");
+        movie.setPosterPath("");
+        movie.setReleaseDate("");
+        movie.setRating(0.0);
+        movie.setGenres(new ArrayList<>());
+        return movie;
+    }
+
+    /**
+     * 목록/상세 공통 영화 필드 (그 외 필드는 건너뜀)
+     */
+    private static void readMovieField(JsonParser parser, String field, JsonToken value, TMDBMovieDto movie) throws IOException {
+        switch (field) {
+            case "id" -> movie.setTmdbId(parser.getValueAsLong());
+            case "title" -> movie.setTitle(parser.getValueAsString());
+            case "overview" -> movie.setOverview(textOrEmpty(parser));
+            case "poster_path" -> movie.setPosterPath(textOrEmpty(parser));
+            case "release_date" -> movie.setReleaseDate(textOrEmpty(parser));
+            case "vote_average" -> movie.setRating(parser.getValueAsDouble());
+            case "popularity" -> movie.setPopularity(parser.getValueAsDouble());
+            default -> parser.skipChildren();
+        }
+    }
+
+    private List<GenreInfo> parseGenreIds(JsonParser parser) throws IOException {
+        List<GenreInfo> genres = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            long genreId = parser.getValueAsLong();
+            GenreInfo genre = new GenreInfo();
+            genre.setGenreId(genreId);
+            genre.setGenreName(genreNames.apply(genreId));
+            genres.add(genre);
+        }
+        return genres;
+    }
+
+    /**
+     * 장르 객체 배열 ({id, name}) - 이름은 장르 매핑 사용
+     */
+    private List<GenreInfo> parseGenreObjects(JsonParser parser) throws IOException {
+        List<GenreInfo> genres = new ArrayList<>();
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            Long genreId = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                if ("id".equals(field)) {
+                    genreId = parser.getValueAsLong();
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            if (genreId != null) {
+                GenreInfo genre = new GenreInfo();
+                genre.setGenreId(genreId);
+                genre.setGenreName(genreNames.apply(genreId));
+                genres.add(genre);
+            }
+        }
+        return genres;
+    }
+
+    /**
+     * credits 객체 ({cast, crew}) 에서 cast 앞의 limit 명 (객체 끝까지 읽음)
+     */
+    private List<ActorInfo> parseCreditsObject(JsonParser parser, int limit) throws IOException {
+        List<ActorInfo> actors = new ArrayList<>(limit);
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("cast".equals(field) && value == JsonToken.START_ARRAY) {
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    if (actors.size() < limit) {
+                        actors.add(parseActor(parser));
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return actors;
+    }
+
+    private ActorInfo parseActor(JsonParser parser) throws IOException {
+        ActorInfo actor = new ActorInfo();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "id" -> actor.setActorId(parser.getValueAsLong());
+                case "name" -> actor.setActorName(parser.getValueAsString());
+                default -> parser.skipChildren();
+            }
+        }
+        return actor;
+    }
+
+    private static String textOrEmpty(JsonParser parser) throws IOException {
+        String text = parser.getValueAsString();
+        return text != null ? text : "";
+    }
+
+    private static void expect(JsonToken actual, JsonToken expected) throws IOException {
+        if (actual != expected) {
+            throw new IOException("TMDB 응답 형식 오류: " + expected + " 필요, " + actual + " 수신");
+        }
+    }
+}
@@ -1,279 +1,764 @@
 package com.example.moviejbackend.service;
 
 import com.example.moviejbackend.dto.request.TMDBMovieDto;
-import com.example.moviejbackend.domain.GenreInfo;
 import com.example.moviejbackend.domain.ActorInfo;
-import com.fasterxml.jackson.databind.JsonNode;
+import com.example.moviejbackend.util.SingleFlight;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.Policy;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
+import java.time.Duration;
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class TMDBService {
-    
+
+    // TMDB 장르 ID 매핑 (한국어)
+    private static final Map<Long, String> GENRE_NAMES;
+
+    static {
+        Map<Long, String> names = new LinkedHashMap<>();
+        names.put(28L, "액션");
+        names.put(12L, "모험");
+        names.put(16L, "애니메이션");
+        names.put(35L, "코미디");
+        names.put(80L, "범죄");
+        names.put(99L, "다큐멘터리");
+        names.put(18L, "드라마");
+        names.put(10751L, "가족");
+        names.put(14L, "판타지");
+        names.put(36L, "역사");
+        names.put(27L, "공포");
+        names.put(10402L, "음악");
+        names.put(9648L, "미스터리");
+        names.put(10749L, "로맨스");
+        names.put(878L, "SF");
+        names.put(10770L, "TV 영화");
+        names.put(53L, "스릴러");
+        names.put(10752L, "전쟁");
+        names.put(37L, "서부");
+        GENRE_NAMES = Collections.unmodifiableMap(names);
+    }
+
     @Value("${tmdb.api.key}")
     private String apiKey;
-    
-    @Value("${tmdb.api.base-url}")
-    private String baseUrl;
-    
-    private final RestTemplate restTemplate = new RestTemplate();
+
+    // 캐시 설정 (Caffeine spec: 최대 크기, 만료, 백그라운드 갱신 주기)
+    @Value("${tmdb.cache.genre.spec:maximumSize=500,expireAfterWrite=6h,refreshAfterWrite=1h}")
+    private String genreCacheSpec;
+
+    @Value("${tmdb.cache.actor.spec:maximumSize=1000,expireAfterWrite=6h,refreshAfterWrite=1h}")
+    private String actorCacheSpec;
+
+    @Value("${tmdb.cache.movie-actors.spec:maximumSize=20000,expireAfterWrite=7d,refreshAfterWrite=1d}")
+    private String movieActorsCacheSpec;
+
+    @Value("${tmdb.cache.movie-recommendations.spec:maximumSize=2000,expireAfterWrite=1d,refreshAfterWrite=6h}")
+    private String movieRecommendationsCacheSpec;
+
+    // 만료된 항목 보관 설정 (stale-while-revalidate: 만료 후에도 갱신되는 동안 기존 값 제공)
+    @Value("${tmdb.cache.stale.spec:maximumSize=5000,expireAfterWrite=2d}")
+    private String staleCacheSpec;
+
+    // 요청 수를 기록할 discover 검색 키 최대 개수 (캐시 예열 대상 선정용)
+    @Value("${tmdb.warmer.max-tracked-keys:2000}")
+    private int maxTrackedKeys;
+
+    private final TMDBFanOutExecutor fanOutExecutor;
+    private final TMDBCallGuard callGuard;
+    private final MeterRegistry meterRegistry;
+
+    // 커넥션 풀 기반 TMDB 전용 RestTemplate (UpstreamHttpConfig, tmdb.api.base-url 기준 상대 경로)
+    private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper = new ObjectMapper();
-    
-    // 메모리 캐시
-    private final Map<String, List<TMDBMovieDto>> genreCache = new ConcurrentHashMap<>();
-    private final Map<String, List<TMDBMovieDto>> actorCache = new ConcurrentHashMap<>();
-    private final Map<Long, List<ActorInfo>> movieActorsCache = new ConcurrentHashMap<>();
-    
+    private final TMDBResponseParser responseParser = new TMDBResponseParser(objectMapper.getFactory(), TMDBService::genreName);
+
+    // 로컬 영화 카탈로그 (TMDB 호출 전에 먼저 조회, TMDB 응답은 저장)
+    private final MovieCatalogService movieCatalogService;
+
+    // 캐시 백그라운드 갱신 전용 스레드 (요청 스레드와 분리)
+    private final ExecutorService cacheRefreshExecutor = Executors.newFixedThreadPool(2, runnable -> {
+        Thread thread = new Thread(runnable, "tmdb-cache-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // 카탈로그 저장 전용 스레드 (요청 스레드가 DB 쓰기를 기다리지 않도록, 순서대로 저장)
+    private final ExecutorService catalogWriteExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "tmdb-catalog-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // 메모리 캐시 (크기 제한 + 만료, W-TinyLFU 기반 제거)
+    private LoadingCache<DiscoverQuery, List<TMDBMovieDto>> genreCache;
+    private LoadingCache<DiscoverQuery, List<TMDBMovieDto>> actorCache;
+    private LoadingCache<Long, List<ActorInfo>> movieActorsCache;
+    private LoadingCache<Long, List<TMDBMovieDto>> movieRecommendationsCache;
+
+    // 만료되어 제거된 항목 (갱신 완료 전까지 대신 제공)
+    private Cache<DiscoverQuery, List<TMDBMovieDto>> staleDiscoverCache;
+    private Cache<Long, List<ActorInfo>> staleMovieActorsCache;
+    private Cache<Long, List<TMDBMovieDto>> staleMovieRecommendationsCache;
+    private Counter staleServedCounter;
+
+    // 캐시 miss 요청 합치기 (같은 키는 동시에 TMDB 호출 1회)
+    private final SingleFlight<DiscoverQuery, DiscoverResult> discoverFlight = new SingleFlight<>();
+    private final SingleFlight<Long, List<ActorInfo>> creditsFlight = new SingleFlight<>();
+    private Counter coalescedDiscoverCounter;
+    private Counter coalescedCreditsCounter;
+
+    // discover 검색 키별 사용자 요청 수 (TMDBCacheWarmer 가 주기적으로 읽고 감쇠)
+    private final Map<DiscoverQuery, LongAdder> discoverDemand = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void initCaches() {
+        staleDiscoverCache = Caffeine.from(staleCacheSpec).build();
+        staleMovieActorsCache = Caffeine.from(staleCacheSpec).build();
+        staleMovieRecommendationsCache = Caffeine.from(staleCacheSpec).build();
+
+        genreCache = buildCache(genreCacheSpec, "tmdb.genre", this::loadDiscover, staleDiscoverCache);
+        actorCache = buildCache(actorCacheSpec, "tmdb.actor", this::loadDiscover, staleDiscoverCache);
+        movieActorsCache = buildCache(movieActorsCacheSpec, "tmdb.movie-actors",
+                movieId -> creditsFlight.execute(movieId, () -> fetchMovieActors(movieId)), staleMovieActorsCache);
+        movieRecommendationsCache = buildCache(movieRecommendationsCacheSpec, "tmdb.movie-recommendations",
+                this::fetchMovieRecommendations, staleMovieRecommendationsCache);
+
+        staleServedCounter = meterRegistry.counter("tmdb.cache.stale.served");
+        coalescedDiscoverCounter = meterRegistry.counter("tmdb.requests.coalesced", "type", "discover");
+        coalescedCreditsCounter = meterRegistry.counter("tmdb.requests.coalesced", "type", "credits");
+    }
+
+    /**
+     * Caffeine 캐시 생성 + 적중/실패/제거 통계를 Micrometer(/actuator/metrics)에 등록
+     * 만료로 제거되는 항목은 staleCache 로 옮겨 둠
+     */
+    private <K, V> LoadingCache<K, V> buildCache(String spec, String name, CacheLoader<K, V> loader, Cache<K, V> staleCache) {
+        LoadingCache<K, V> cache = Caffeine.from(spec)
+                .recordStats()
+                .executor(cacheRefreshExecutor)
+                .<K, V>evictionListener((key, value, cause) -> {
+                    if (cause == RemovalCause.EXPIRED && key != null && value != null) {
+                        staleCache.put(key, value);
+                    }
+                })
+                .build(loader);
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, name);
+        return cache;
+    }
+
+    @PreDestroy
+    void shutdownCacheRefresh() {
+        cacheRefreshExecutor.shutdownNow();
+        catalogWriteExecutor.shutdown();
+    }
+
     /**
      * TMDB에서 인기 영화 목록 조회
      */
     public List<TMDBMovieDto> getPopularMovies(int count) {
         try {
             // TMDB API: 인기 영화 조회 (한국어)
-            String url = String.format("%s/movie/popular?api_key=%s&language=ko-KR&page=1", baseUrl, apiKey);
-            String response = restTemplate.getForObject(url, String.class);
-            
-            JsonNode root = objectMapper.readTree(response);
-            JsonNode results = root.get("results");
-            
-            List<TMDBMovieDto> movies = new ArrayList<>();
-            int limit = Math.min(count, results.size());
-            
-            for (int i = 0; i < limit; i++) {
-                JsonNode movieNode = results.get(i);
-                TMDBMovieDto movie = new TMDBMovieDto();
-                
-                movie.setTmdbId(movieNode.get("id").asLong());
-                movie.setTitle(movieNode.get("title").asText());
-                movie.setOverview(movieNode.has("overview") ? movieNode.get("overview").asText() : "");
-                movie.setPosterPath(movieNode.has("poster_path") ? movieNode.get("poster_path").asText() : "");
-                movie.setReleaseDate(movieNode.has("release_date") ? movieNode.get("release_date").asText() : "");
-                movie.setRating(movieNode.has("vote_average") ? movieNode.get("vote_average").asDouble() : 0.0);
-                
-                // 장르 정보 조회
-                List<GenreInfo> genres = getMovieGenres(movieNode);
-                movie.setGenres(genres);
-                
-                // 배우 정보 조회
-                List<ActorInfo> actors = getMovieActors(movie.getTmdbId());
-                movie.setActors(actors);
-                
-                movies.add(movie);
-            }
-            
+            List<TMDBMovieDto> results = fetchMoviePage("/movie/popular?api_key={apiKey}&language=ko-KR&page=1", apiKey);
+
+            List<TMDBMovieDto> movies = new ArrayList<>(results.subList(0, Math.min(count, results.size())));
+
+            // 배우 정보 병렬 조회
+            enrichActors(movies);
+
             return movies;
-            
+
         } catch (Exception e) {
             System.err.println("TMDB API 호출 실패: " + e.getMessage());
             return new ArrayList<>();
         }
     }
-    
+
     /**
-     * 영화의 장르 정보 파싱
+     * 영화 목록의 복사본에 배우 정보를 채워 반환 (캐시된 원본은 수정하지 않음)
+     * 점수 계산에 배우 정보가 필요한 후보에만 사용, 배우 정보를 가져오지 못한 영화는 actors=null (호출자가 부분 결과로 처리)
      */
-    private List<GenreInfo> getMovieGenres(JsonNode movieNode) {
-        List<GenreInfo> genres = new ArrayList<>();
-        
-        if (movieNode.has("genre_ids")) {
-            JsonNode genreIds = movieNode.get("genre_ids");
-            for (JsonNode genreId : genreIds) {
-                GenreInfo genre = new GenreInfo();
-                genre.setGenreId(genreId.asLong());
-                genre.setGenreName(getGenreName(genreId.asLong())); // 간단히 ID만 사용
-                genres.add(genre);
+    public List<TMDBMovieDto> withActors(List<TMDBMovieDto> movies) {
+        List<TMDBMovieDto> copies = new ArrayList<>(movies.size());
+        for (TMDBMovieDto movie : movies) {
+            copies.add(movie.copy());
+        }
+        Set<Long> failedIds = enrichActors(copies);
+        for (TMDBMovieDto copy : copies) {
+            if (failedIds.contains(copy.getTmdbId())) {
+                copy.setActors(null);
             }
         }
-        
-        return genres;
+        return copies;
     }
-    
+
     /**
-     * 영화의 배우 정보 조회 (캐싱 적용)
+     * 영화 목록의 배우 정보를 병렬로 채움 (캐싱 적용)
+     * - 캐시에 없으면 로컬 카탈로그 확인, 카탈로그에도 없는 영화만 credits 호출 (같은 영화는 한 번만)
+     * - TMDB에서 가져온 출연진은 카탈로그에 저장
+     * - 다른 요청이 이미 조회 중인 영화는 그 결과를 기다림
+     * - 실패한 영화는 빈 목록으로 두고 캐시에 저장하지 않음, 반환: 실패한 영화 ID
      */
-    private List<ActorInfo> getMovieActors(Long movieId) {
-        // 캐시 확인
-        if (movieActorsCache.containsKey(movieId)) {
-            return movieActorsCache.get(movieId);
+    private Set<Long> enrichActors(List<TMDBMovieDto> movies) {
+        Map<Long, List<ActorInfo>> actorsByMovie = new LinkedHashMap<>();
+        List<Long> missingIds = new ArrayList<>();
+        Map<Long, SingleFlight.Flight<Long, List<ActorInfo>>> flights = new LinkedHashMap<>();
+        Map<Long, SingleFlight.Flight<Long, List<ActorInfo>>> followers = new LinkedHashMap<>();
+        Set<Long> fetchedIds = new HashSet<>();
+
+        for (TMDBMovieDto movie : movies) {
+            Long movieId = movie.getTmdbId();
+            if (actorsByMovie.containsKey(movieId)) continue;
+
+            List<ActorInfo> cached = movieActorsCache.getIfPresent(movieId);
+            if (cached == null && (cached = staleMovieActorsCache.getIfPresent(movieId)) != null) {
+                // 만료된 값을 먼저 제공하고 백그라운드에서 갱신
+                staleServedCounter.increment();
+                movieActorsCache.refresh(movieId);
+            }
+            if (cached == null) {
+                SingleFlight.Flight<Long, List<ActorInfo>> flight = creditsFlight.begin(movieId);
+                if (!flight.isLeader()) {
+                    followers.put(movieId, flight);
+                } else if ((cached = movieActorsCache.getIfPresent(movieId)) != null) {
+                    // 방금 끝난 다른 요청이 캐시에 저장한 경우
+                    flight.complete(cached);
+                } else {
+                    flights.put(movieId, flight);
+                    missingIds.add(movieId);
+                }
+            }
+            actorsByMovie.put(movieId, cached);
         }
-        
-        // 캐시에 없으면 TMDB API 호출
-        try {
-            String url = String.format("%s/movie/%d/credits?api_key=%s&language=ko-KR", 
-                    baseUrl, movieId, apiKey);
-            String response = restTemplate.getForObject(url, String.class);
-            
-            JsonNode root = objectMapper.readTree(response);
-            JsonNode cast = root.get("cast");
-            
-            List<ActorInfo> actors = new ArrayList<>();
-            int limit = Math.min(5, cast.size()); // 상위 5명만
-            
-            for (int i = 0; i < limit; i++) {
-                JsonNode actorNode = cast.get(i);
-                ActorInfo actor = new ActorInfo();
-                actor.setActorId(actorNode.get("id").asLong());
-                actor.setActorName(actorNode.get("name").asText());
-                actors.add(actor);
+
+        if (!missingIds.isEmpty()) {
+            try {
+                // 카탈로그에 출연진이 있는 영화는 TMDB 호출 없이 사용
+                Map<Long, List<ActorInfo>> fromCatalog = findCatalogCast(missingIds);
+                fromCatalog.forEach((movieId, actors) -> {
+                    movieActorsCache.put(movieId, actors);
+                    actorsByMovie.put(movieId, actors);
+                    flights.remove(movieId).complete(actors);
+                });
+                missingIds.removeAll(fromCatalog.keySet());
+
+                List<Callable<List<ActorInfo>>> calls = new ArrayList<>();
+                for (Long movieId : missingIds) {
+                    calls.add(() -> fetchMovieActors(movieId));
+                }
+                List<List<ActorInfo>> fetched = calls.isEmpty() ? List.of() : fanOutExecutor.invokeAll(calls, null);
+
+                for (int i = 0; i < missingIds.size(); i++) {
+                    Long movieId = missingIds.get(i);
+                    List<ActorInfo> actors = fetched.get(i);
+                    if (actors != null) {
+                        // 캐시에 저장
+                        movieActorsCache.put(movieId, actors);
+                        fetchedIds.add(movieId);
+                    }
+                    actorsByMovie.put(movieId, actors);
+                    flights.get(movieId).complete(actors);
+                }
+            } catch (RuntimeException e) {
+                flights.values().forEach(flight -> flight.fail(e));
+                throw e;
             }
-            
-            // 캐시에 저장
-            movieActorsCache.put(movieId, actors);
-            
-            return actors;
-            
-        } catch (Exception e) {
-            System.err.println("배우 정보 조회 실패 (movieId: " + movieId + "): " + e.getMessage());
-            return new ArrayList<>();
         }
+
+        // 다른 요청이 조회 중이던 영화는 결과 공유
+        coalescedCreditsCounter.increment(followers.size());
+        followers.forEach((movieId, flight) -> {
+            try {
+                actorsByMovie.put(movieId, flight.await());
+            } catch (Exception e) {
+                System.err.println("배우 정보 조회 실패 (movieId: " + movieId + "): " + e.getMessage());
+            }
+        });
+
+        Set<Long> failedIds = new HashSet<>();
+        for (TMDBMovieDto movie : movies) {
+            List<ActorInfo> actors = actorsByMovie.get(movie.getTmdbId());
+            if (actors == null) {
+                failedIds.add(movie.getTmdbId());
+            }
+            movie.setActors(actors != null ? actors : new ArrayList<>());
+        }
+
+        saveToCatalog(movies.stream().filter(movie -> fetchedIds.contains(movie.getTmdbId())).collect(Collectors.toList()));
+        return failedIds;
     }
-    
+
     /**
-     * 장르 ID를 장르 이름으로 변환 (간단한 매핑)
+     * 카탈로그 출연진 조회 (DB 오류 시 TMDB 호출로 대신)
      */
-    private String getGenreName(Long genreId) {
-        // TMDB 장르 ID 매핑 (한국어)
-        switch (genreId.intValue()) {
-            case 28: return "액션";
-            case 12: return "모험";
-            case 16: return "애니메이션";
-            case 35: return "코미디";
-            case 80: return "범죄";
-            case 99: return "다큐멘터리";
-            case 18: return "드라마";
-            case 10751: return "가족";
-            case 14: return "판타지";
-            case 36: return "역사";
-            case 27: return "공포";
-            case 10402: return "음악";
-            case 9648: return "미스터리";
-            case 10749: return "로맨스";
-            case 878: return "SF";
-            case 10770: return "TV 영화";
-            case 53: return "스릴러";
-            case 10752: return "전쟁";
-            case 37: return "서부";
-            default: return "기타";
+    private Map<Long, List<ActorInfo>> findCatalogCast(List<Long> movieIds) {
+        try {
+            return movieCatalogService.findCast(movieIds);
+        } catch (Exception e) {
+            System.err.println("카탈로그 출연진 조회 실패: " + e.getMessage());
+            return Map.of();
         }
     }
 
     /**
-     * 장르 기반 영화 검색 (캐싱 적용)
+     * TMDB 응답을 카탈로그에 저장 (별도 스레드, 실패해도 요청에는 영향 없음)
      */
-    public List<TMDBMovieDto> searchMoviesByGenre(Long genreId, int pageCount) {
-        String cacheKey = "genre:" + genreId + ":" + pageCount;
-        
-        // 캐시 확인
-        if (genreCache.containsKey(cacheKey)) {
-            System.out.println("캐시에서 장르 영화 반환: genreId=" + genreId);
-            return genreCache.get(cacheKey);
-        }
-        
-        // 캐시에 없으면 TMDB API 호출
-        List<TMDBMovieDto> movies = new ArrayList<>();
+    private void saveToCatalog(List<TMDBMovieDto> movies) {
+        if (movies.isEmpty()) {
+            return;
+        }
         try {
-            for (int page = 1; page <= pageCount; page++) {
-                String url = String.format("%s/discover/movie?api_key=%s&language=ko-KR&with_genres=%d&page=%d&sort_by=popularity.desc", 
-                        baseUrl, apiKey, genreId, page);
-                String response = restTemplate.getForObject(url, String.class);
-                
-                JsonNode root = objectMapper.readTree(response);
-                JsonNode results = root.get("results");
-                
-                for (JsonNode movieNode : results) {
-                    TMDBMovieDto movie = parseMovieNode(movieNode);
-                    if (movie != null) {
-                        movies.add(movie);
-                    }
+            catalogWriteExecutor.execute(() -> {
+                try {
+                    movieCatalogService.saveMovies(movies);
+                } catch (Exception e) {
+                    System.err.println("카탈로그 저장 실패: " + e.getMessage());
                 }
-            }
-            
-            // 결과를 캐시에 저장
-            genreCache.put(cacheKey, movies);
-            System.out.println("TMDB API 호출 후 캐시 저장: genreId=" + genreId + ", 영화 수=" + movies.size());
-            
-        } catch (Exception e) {
-            System.err.println("장르 기반 영화 검색 실패 (genreId: " + genreId + "): " + e.getMessage());
+            });
+        } catch (RejectedExecutionException e) {
+            System.err.println("카탈로그 저장 생략 (종료 중): " + movies.size() + "개");
         }
+    }
+
+    /**
+     * TMDB 영화 상세(장르, 상위 5명 출연진 포함) 병렬 조회 후 카탈로그 저장 (대량 가져오기/증분 동기화용)
+     * 실패하거나 없는 영화는 결과에서 빠짐
+     */
+    public List<TMDBMovieDto> fetchMovieDetails(List<Long> movieIds) {
+        List<Callable<TMDBMovieDto>> calls = new ArrayList<>();
+        for (Long movieId : movieIds) {
+            calls.add(() -> callGuard.call(() -> restTemplate.execute(
+                    "/movie/{movieId}?api_key={apiKey}&language=ko-KR&append_to_response=credits",
+                    HttpMethod.GET, null, response -> responseParser.parseMovieDetails(response.getBody(), 5),
+                    movieId, apiKey)));
+        }
+        List<TMDBMovieDto> movies = fanOutExecutor.invokeAllInBackground(calls, null).stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        movies.stream()
+                .filter(movie -> movie.getActors() != null)
+                .forEach(movie -> movieActorsCache.put(movie.getTmdbId(), movie.getActors()));
+        saveToCatalog(movies);
         return movies;
     }
 
     /**
-     * 배우 기반 영화 검색 (캐싱 적용)
+     * 인기 영화 ID 목록 (1 ~ pageCount 페이지 병렬 조회, 카탈로그 대량 가져오기용)
+     */
+    public List<Long> fetchPopularMovieIds(int pageCount) {
+        List<Callable<List<TMDBMovieDto>>> calls = new ArrayList<>();
+        for (int page = 1; page <= pageCount; page++) {
+            int pageNumber = page;
+            calls.add(() -> fetchMoviePage("/movie/popular?api_key={apiKey}&language=ko-KR&page={page}", apiKey, pageNumber));
+        }
+        List<List<TMDBMovieDto>> pages = fanOutExecutor.invokeAllInBackground(calls, null);
+        long failed = pages.stream().filter(Objects::isNull).count();
+        if (failed > 0) {
+            System.err.println("인기 영화 목록 일부 실패: " + failed + "/" + pageCount + "페이지 (부분 결과)");
+        }
+        return pages.stream()
+                .filter(Objects::nonNull)
+                .flatMap(List::stream)
+                .map(TMDBMovieDto::getTmdbId)
+                .distinct()
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 기간 내 TMDB 에서 변경된 영화 ID (/movie/changes, 최대 14일)
+     * 첫 페이지로 전체 페이지 수를 확인한 뒤 나머지 페이지는 백그라운드 풀에서 나눠 병렬 조회
+     */
+    public List<Long> fetchChangedMovieIds(LocalDate startDate, LocalDate endDate) {
+        String uriTemplate = "/movie/changes?api_key={apiKey}&start_date={startDate}&end_date={endDate}&page={page}";
+        TMDBResponseParser.ChangesPage first = fetchChangesPage(uriTemplate, startDate, endDate, 1);
+
+        Set<Long> movieIds = new LinkedHashSet<>(first.movieIds());
+        List<Callable<TMDBResponseParser.ChangesPage>> calls = new ArrayList<>();
+        for (int page = 2; page <= first.totalPages(); page++) {
+            int pageNumber = page;
+            calls.add(() -> fetchChangesPage(uriTemplate, startDate, endDate, pageNumber));
+        }
+        for (TMDBResponseParser.ChangesPage page : fanOutExecutor.invokeAllInBackground(calls, null)) {
+            if (page == null) {
+                throw new IllegalStateException("변경 목록 조회 실패: " + startDate + " ~ " + endDate);
+            }
+            movieIds.addAll(page.movieIds());
+        }
+        return new ArrayList<>(movieIds);
+    }
+
+    private TMDBResponseParser.ChangesPage fetchChangesPage(String uriTemplate, LocalDate startDate, LocalDate endDate, int page) {
+        return callGuard.call(() -> restTemplate.execute(uriTemplate, HttpMethod.GET, null,
+                response -> responseParser.parseChanges(response.getBody()), apiKey, startDate, endDate, page));
+    }
+
+    /**
+     * 변경된 영화의 출연진 캐시 제거 (다음 조회 시 카탈로그의 새 값 사용)
+     */
+    public void evictMovieActors(Collection<Long> movieIds) {
+        movieActorsCache.invalidateAll(movieIds);
+        staleMovieActorsCache.invalidateAll(movieIds);
+    }
+
+    /**
+     * TMDB credits API 호출 (상위 5명만 읽고 나머지 응답은 파싱하지 않음)
+     */
+    private List<ActorInfo> fetchMovieActors(Long movieId) {
+        return callGuard.call(() -> restTemplate.execute("/movie/{movieId}/credits?api_key={apiKey}&language=ko-KR",
+                HttpMethod.GET, null, response -> responseParser.parseCast(response.getBody(), 5),
+                movieId, apiKey));
+    }
+
+    /**
+     * 장르 ID를 장르 이름으로 변환 (간단한 매핑)
+     */
+    public static String genreName(Long genreId) {
+        return GENRE_NAMES.getOrDefault(genreId, "기타");
+    }
+
+    /**
+     * TMDB 영화 장르 ID 전체 (캐시 예열 대상)
+     */
+    public static Set<Long> genreIds() {
+        return GENRE_NAMES.keySet();
+    }
+
+    /**
+     * 장르 기반 영화 검색 (캐싱 적용, 배우 정보 제외)
+     * 일부 페이지라도 실패하면 IllegalStateException (빈 결과와 구분해 호출자가 부분 결과로 처리)
+     */
+    public List<TMDBMovieDto> searchMoviesByGenre(Long genreId, int pageCount) {
+        return search(DiscoverQuery.genre(genreId, pageCount));
+    }
+
+    /**
+     * 배우 기반 영화 검색 (캐싱 적용, 배우 정보 제외)
+     * 일부 페이지라도 실패하면 IllegalStateException (빈 결과와 구분해 호출자가 부분 결과로 처리)
      */
     public List<TMDBMovieDto> searchMoviesByActor(Long actorId, int pageCount) {
-        String cacheKey = "actor:" + actorId + ":" + pageCount;
-        
-        // 캐시 확인
-        if (actorCache.containsKey(cacheKey)) {
-            System.out.println("캐시에서 배우 영화 반환: actorId=" + actorId);
-            return actorCache.get(cacheKey);
-        }
-        
-        // 캐시에 없으면 TMDB API 호출
-        List<TMDBMovieDto> movies = new ArrayList<>();
+        return search(DiscoverQuery.actor(actorId, pageCount));
+    }
+
+    private List<TMDBMovieDto> search(DiscoverQuery query) {
+        DiscoverResult result = discover(List.of(query)).get(query.cacheKey());
+        if (!result.complete()) {
+            throw new IllegalStateException("영화 검색 실패: " + query.cacheKey());
+        }
+        return result.movies();
+    }
+
+    /**
+     * 영화 기반 추천 목록 (/movie/{id}/recommendations 1페이지, 캐싱 적용, 배우 정보 제외)
+     * 같은 영화를 동시에 요청하면 TMDB 호출 1회, 실패하면 빈 목록 (캐시에 저장하지 않음)
+     * 목록의 영화는 캐시와 공유되므로 수정하지 말 것
+     */
+    public List<TMDBMovieDto> searchMovieRecommendations(Long movieId) {
         try {
-            for (int page = 1; page <= pageCount; page++) {
-                String url = String.format("%s/discover/movie?api_key=%s&language=ko-KR&with_cast=%d&page=%d&sort_by=popularity.desc", 
-                        baseUrl, apiKey, actorId, page);
-                String response = restTemplate.getForObject(url, String.class);
-                
-                JsonNode root = objectMapper.readTree(response);
-                JsonNode results = root.get("results");
-                
-                for (JsonNode movieNode : results) {
-                    TMDBMovieDto movie = parseMovieNode(movieNode);
-                    if (movie != null) {
-                        movies.add(movie);
-                    }
-                }
+            List<TMDBMovieDto> cached = movieRecommendationsCache.getIfPresent(movieId);
+            if (cached == null && (cached = staleMovieRecommendationsCache.getIfPresent(movieId)) != null) {
+                // 만료된 값을 먼저 제공하고 백그라운드에서 갱신
+                staleServedCounter.increment();
+                movieRecommendationsCache.refresh(movieId);
             }
-            
-            // 결과를 캐시에 저장
-            actorCache.put(cacheKey, movies);
-            System.out.println("TMDB API 호출 후 캐시 저장: actorId=" + actorId + ", 영화 수=" + movies.size());
-            
+            return cached != null ? cached : movieRecommendationsCache.get(movieId);
         } catch (Exception e) {
-            System.err.println("배우 기반 영화 검색 실패 (actorId: " + actorId + "): " + e.getMessage());
+            System.err.println("영화 기반 추천 조회 실패 (movieId: " + movieId + "): " + e.getMessage());
+            return new ArrayList<>();
         }
+    }
+
+    private List<TMDBMovieDto> fetchMovieRecommendations(Long movieId) {
+        List<TMDBMovieDto> movies = fetchMoviePage(
+                "/movie/{movieId}/recommendations?api_key={apiKey}&language=ko-KR&page=1", movieId, apiKey);
+        saveToCatalog(movies);
         return movies;
     }
 
     /**
-     * JsonNode를 TMDBMovieDto로 변환
+     * discover 검색 공통 처리
+     * 캐시에 없는 모든 검색의 모든 페이지를 병렬 조회
+     * 일부 페이지가 실패한 검색은 complete=false 로 부분 결과만 반환하고 캐시에 저장하지 않음
+     */
+    private Map<String, DiscoverResult> discover(List<DiscoverQuery> queries) {
+        Map<String, DiscoverResult> results = new LinkedHashMap<>();
+        List<DiscoverQuery> misses = new ArrayList<>();
+
+        // 캐시 확인 (갱신 주기가 지난 항목은 기존 값을 반환하고 백그라운드에서 갱신)
+        for (DiscoverQuery query : queries) {
+            if (results.containsKey(query.cacheKey()) || misses.contains(query)) continue;
+            recordDemand(query);
+
+            List<TMDBMovieDto> cached = cacheOf(query).getIfPresent(query);
+            if (cached == null && (cached = staleDiscoverCache.getIfPresent(query)) != null) {
+                // 만료된 값을 먼저 제공하고 백그라운드에서 갱신
+                staleServedCounter.increment();
+                cacheOf(query).refresh(query);
+            }
+            if (cached == null) {
+                misses.add(query);
+            } else {
+                results.put(query.cacheKey(), new DiscoverResult(cached, true));
+            }
+        }
+
+        if (misses.isEmpty()) {
+            return results;
+        }
+
+        // 같은 키를 다른 요청이 이미 조회 중이면 그 결과를 기다림 (키당 TMDB 호출 1회)
+        Map<DiscoverQuery, SingleFlight.Flight<DiscoverQuery, DiscoverResult>> leaders = new LinkedHashMap<>();
+        Map<DiscoverQuery, SingleFlight.Flight<DiscoverQuery, DiscoverResult>> followers = new LinkedHashMap<>();
+        for (DiscoverQuery query : misses) {
+            SingleFlight.Flight<DiscoverQuery, DiscoverResult> flight = discoverFlight.begin(query);
+            if (!flight.isLeader()) {
+                followers.put(query, flight);
+                continue;
+            }
+            List<TMDBMovieDto> cached = cacheOf(query).getIfPresent(query);
+            if (cached != null) {
+                // 방금 끝난 다른 요청이 캐시에 저장한 경우
+                DiscoverResult result = new DiscoverResult(cached, true);
+                results.put(query.cacheKey(), result);
+                flight.complete(result);
+            } else {
+                leaders.put(query, flight);
+            }
+        }
+
+        if (!leaders.isEmpty()) {
+            try {
+                // 결과를 캐시에 저장한 뒤 기다리던 요청에 전달
+                fetchDiscover(new ArrayList<>(leaders.keySet()), false).forEach((query, result) -> {
+                    results.put(query.cacheKey(), result);
+                    if (result.complete()) {
+                        cacheOf(query).put(query, result.movies());
+                        System.out.println("TMDB API 호출 후 캐시 저장: " + query.cacheKey() + ", 영화 수=" + result.movies().size());
+                    }
+                    leaders.get(query).complete(result);
+                });
+            } catch (RuntimeException e) {
+                leaders.values().forEach(flight -> flight.fail(e));
+                throw e;
+            }
+        }
+
+        coalescedDiscoverCounter.increment(followers.size());
+        followers.forEach((query, flight) -> {
+            try {
+                results.put(query.cacheKey(), flight.await());
+            } catch (Exception e) {
+                System.err.println("영화 검색 실패: " + query.cacheKey() + ", " + e.getMessage());
+                results.put(query.cacheKey(), new DiscoverResult(new ArrayList<>(), false));
+            }
+        });
+
+        return results;
+    }
+
+    private void recordDemand(DiscoverQuery query) {
+        LongAdder demand = discoverDemand.get(query);
+        if (demand == null && discoverDemand.size() < maxTrackedKeys) {
+            demand = discoverDemand.computeIfAbsent(query, key -> new LongAdder());
+        }
+        if (demand != null) {
+            demand.increment();
+        }
+    }
+
+    /**
+     * 요청 수가 많은 discover 검색 키 (많은 순)
+     * 호출할 때마다 요청 수를 절반으로 줄여 최근 수요를 우선하고, 0 이 된 키는 제거
+     */
+    List<DiscoverQuery> hotDiscoverQueries(int limit) {
+        Map<DiscoverQuery, Long> snapshot = new LinkedHashMap<>();
+        discoverDemand.forEach((query, demand) -> {
+            long count = demand.sumThenReset();
+            snapshot.put(query, count);
+            if (count / 2 > 0) {
+                demand.add(count / 2);
+            } else {
+                discoverDemand.remove(query, demand);
+            }
+        });
+        return snapshot.entrySet().stream()
+                .filter(entry -> entry.getValue() > 0)
+                .sorted(Map.Entry.<DiscoverQuery, Long>comparingByValue().reversed())
+                .limit(limit)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 캐시에 없거나 갱신 주기(refreshAfterWrite, 없으면 만료 시간의 3/4)가 지난 검색인지 확인
+     * (캐시 통계와 접근 시 갱신에 영향을 주지 않음)
      */
-    private TMDBMovieDto parseMovieNode(JsonNode movieNode) {
+    boolean needsRefresh(DiscoverQuery query) {
+        Policy<DiscoverQuery, List<TMDBMovieDto>> policy = cacheOf(query).policy();
+        if (policy.getIfPresentQuietly(query) == null) {
+            return true;
+        }
+        Optional<Duration> refreshAfter = policy.refreshAfterWrite().map(Policy.FixedRefresh::getRefreshesAfter)
+                .or(() -> policy.expireAfterWrite().map(expiration -> expiration.getExpiresAfter().multipliedBy(3).dividedBy(4)));
+        Optional<Duration> age = policy.expireAfterWrite().flatMap(expiration -> expiration.ageOf(query));
+        return refreshAfter.isPresent() && age.isPresent() && age.get().compareTo(refreshAfter.get()) >= 0;
+    }
+
+    /**
+     * discover 검색을 TMDB에서 다시 조회해 캐시 교체 (캐시 예열용, 모든 페이지 병렬 호출)
+     * 다른 요청이 조회 중인 키는 건너뜀, 반환: 캐시에 저장된 검색 수
+     */
+    int refreshDiscover(List<DiscoverQuery> queries) {
+        Map<DiscoverQuery, SingleFlight.Flight<DiscoverQuery, DiscoverResult>> leaders = new LinkedHashMap<>();
+        for (DiscoverQuery query : queries) {
+            SingleFlight.Flight<DiscoverQuery, DiscoverResult> flight = discoverFlight.begin(query);
+            if (flight.isLeader()) {
+                leaders.put(query, flight);
+            }
+        }
+        if (leaders.isEmpty()) {
+            return 0;
+        }
+
+        int refreshed = 0;
         try {
-            TMDBMovieDto movie = new TMDBMovieDto();
-            
-            movie.setTmdbId(movieNode.get("id").asLong());
-            movie.setTitle(movieNode.get("title").asText());
-            movie.setOverview(movieNode.has("overview") ? movieNode.get("overview").asText() : "");
-            movie.setPosterPath(movieNode.has("poster_path") ? movieNode.get("poster_path").asText() : "");
-            movie.setReleaseDate(movieNode.has("release_date") ? movieNode.get("release_date").asText() : "");
-            movie.setRating(movieNode.has("vote_average") ? movieNode.get("vote_average").asDouble() : 0.0);
-            
-            // 장르 정보 조회
-            List<GenreInfo> genres = getMovieGenres(movieNode);
-            movie.setGenres(genres);
-            
-            // 배우 정보 조회
-            List<ActorInfo> actors = getMovieActors(movie.getTmdbId());
-            movie.setActors(actors);
-            
-            return movie;
-        } catch (Exception e) {
-            System.err.println("영화 파싱 실패: " + e.getMessage());
-            return null;
+            for (Map.Entry<DiscoverQuery, DiscoverResult> entry : fetchDiscover(new ArrayList<>(leaders.keySet()), true).entrySet()) {
+                DiscoverQuery query = entry.getKey();
+                DiscoverResult result = entry.getValue();
+                if (result.complete()) {
+                    cacheOf(query).put(query, result.movies());
+                    refreshed++;
+                }
+                leaders.get(query).complete(result);
+            }
+        } catch (RuntimeException e) {
+            leaders.values().forEach(flight -> flight.fail(e));
+            throw e;
+        }
+        return refreshed;
+    }
+
+    /**
+     * 캐시 로더 (백그라운드 갱신용) - 실패 시 예외를 던져 기존 캐시 값을 유지
+     * 같은 키를 요청 스레드가 조회 중이면 그 결과를 공유
+     */
+    private List<TMDBMovieDto> loadDiscover(DiscoverQuery query) throws Exception {
+        DiscoverResult result = discoverFlight.execute(query, () -> fetchDiscover(List.of(query), true).get(query));
+        if (!result.complete()) {
+            throw new IllegalStateException("영화 검색 실패: " + query.cacheKey());
+        }
+        return result.movies();
+    }
+
+    /**
+     * TMDB discover 조회 - 모든 검색의 모든 페이지를 병렬 조회 (배우 정보는 withActors 로 필요한 영화만)
+     * background: 캐시 예열/백그라운드 갱신이면 true (요청 처리용 풀을 쓰지 않음)
+     */
+    private Map<DiscoverQuery, DiscoverResult> fetchDiscover(List<DiscoverQuery> misses, boolean background) {
+        // 1단계: 캐시에 없으면 TMDB discover API 병렬 호출
+        List<Callable<List<TMDBMovieDto>>> pageCalls = new ArrayList<>();
+        for (DiscoverQuery query : misses) {
+            for (int page = 1; page <= query.pageCount(); page++) {
+                int pageNumber = page;
+                pageCalls.add(() -> fetchMoviePage(
+                        "/discover/movie?api_key={apiKey}&language=ko-KR&" + query.filter() + "={id}&page={page}&sort_by=popularity.desc",
+                        apiKey, query.id(), pageNumber));
+            }
+        }
+        List<List<TMDBMovieDto>> pages = background
+                ? fanOutExecutor.invokeAllInBackground(pageCalls, null)
+                : fanOutExecutor.invokeAll(pageCalls, null);
+
+        Map<DiscoverQuery, DiscoverResult> fetched = new LinkedHashMap<>();
+        int pageIndex = 0;
+        for (DiscoverQuery query : misses) {
+            List<TMDBMovieDto> movies = new ArrayList<>();
+            boolean complete = true;
+            for (int page = 1; page <= query.pageCount(); page++) {
+                List<TMDBMovieDto> pageMovies = pages.get(pageIndex++);
+                if (pageMovies == null) {
+                    System.err.println("영화 검색 실패: " + query.cacheKey() + ", page=" + page);
+                    complete = false;
+                    continue;
+                }
+                movies.addAll(pageMovies);
+            }
+            fetched.put(query, new DiscoverResult(movies, complete));
+            saveToCatalog(movies);
+        }
+
+        return fetched;
+    }
+
+    private LoadingCache<DiscoverQuery, List<TMDBMovieDto>> cacheOf(DiscoverQuery query) {
+        return query.genre() ? genreCache : actorCache;
+    }
+
+    /**
+     * 영화 목록 페이지 조회 (popular, discover, 영화 기반 추천 공통) - 배우 정보는 채우지 않음
+     * 응답 본문을 스트리밍으로 바로 DTO 로 변환
+     */
+    private List<TMDBMovieDto> fetchMoviePage(String uriTemplate, Object... uriVariables) {
+        return callGuard.call(() -> restTemplate.execute(uriTemplate, HttpMethod.GET, null,
+                response -> responseParser.parseMoviePage(response.getBody()), uriVariables));
+    }
+
+    /**
+     * discover 조회 결과 (일부 페이지 실패 시 complete=false)
+     */
+    private record DiscoverResult(List<TMDBMovieDto> movies, boolean complete) {
+    }
+
+    /**
+     * discover 검색 조건 (장르 또는 배우) - 캐시 키로도 사용
+     */
+    record DiscoverQuery(boolean genre, Long id, int pageCount) {
+        static DiscoverQuery genre(Long genreId, int pageCount) {
+            return new DiscoverQuery(true, genreId, pageCount);
+        }
+
+        static DiscoverQuery actor(Long actorId, int pageCount) {
+            return new DiscoverQuery(false, actorId, pageCount);
+        }
+
+        String filter() {
+            return genre ? "with_genres" : "with_cast";
+        }
+
+        String cacheKey() {
+            return (genre ? "genre:" : "actor:") + id + ":" + pageCount;
         }
     }
 }
@@ -0,0 +1,218 @@
+package com.example.moviejbackend.service;
+
+import com.example.moviejbackend.domain.ActorInfo;
+import com.example.moviejbackend.domain.GenreInfo;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 매칭 점수 계산용 사용자 취향 (선호 장르·배우를 한 번 변환해 두고 영화마다 재사용, 불변)
+ * - 장르: TMDB 장르 ID 19개를 비트로 표현한 long 마스크 + 비트별 선호 횟수
+ * - 배우: 정렬된 long[] (이진 탐색) + ID별 선호 횟수
+ * - 같은 장르/배우를 여러 번 선호하면 그 횟수만큼 반영 (기존 계산식과 동일)
+ * 영화 한 편 점수 계산 시 객체를 생성하지 않음
+ */
+public final class TasteProfile {
+
+    // TMDB 장르 ID → 비트 위치
+    private static final long[] KNOWN_GENRE_IDS = TMDBService.genreIds().stream().mapToLong(Long::longValue).sorted().toArray();
+
+    private final long genreMask;
+    private final int[] genreCounts;        // 비트 위치별 선호 횟수
+    private final long[] otherGenreIds;     // 장르 매핑에 없는 ID (정렬)
+    private final int[] otherGenreCounts;
+    private final int genreTotal;           // 선호 장르 수 (중복·ID 없음 포함)
+
+    private final long[] actorIds;          // 정렬
+    private final int[] actorCounts;
+    private final int actorTotal;           // 선호 배우 수 (중복·ID 없음 포함)
+
+    // 선호한 순서대로의 장르/배우 ID (중복 제거, 검색 대상 선정용)
+    private final List<Long> preferredGenreIds;
+    private final List<Long> preferredActorIds;
+
+    private TasteProfile(long genreMask, int[] genreCounts, long[] otherGenreIds, int[] otherGenreCounts, int genreTotal,
+                         long[] actorIds, int[] actorCounts, int actorTotal,
+                         List<Long> preferredGenreIds, List<Long> preferredActorIds) {
+        this.genreMask = genreMask;
+        this.genreCounts = genreCounts;
+        this.otherGenreIds = otherGenreIds;
+        this.otherGenreCounts = otherGenreCounts;
+        this.genreTotal = genreTotal;
+        this.actorIds = actorIds;
+        this.actorCounts = actorCounts;
+        this.actorTotal = actorTotal;
+        this.preferredGenreIds = preferredGenreIds;
+        this.preferredActorIds = preferredActorIds;
+    }
+
+    /**
+     * 선호 장르·배우 목록으로 취향 생성 (목록 크기가 점수 분모)
+     */
+    public static TasteProfile of(List<GenreInfo> genres, List<ActorInfo> actors) {
+        long genreMask = 0L;
+        int[] genreCounts = new int[KNOWN_GENRE_IDS.length];
+        Map<Long, Integer> otherGenres = new TreeMap<>();
+        Set<Long> genreOrder = new LinkedHashSet<>();
+        for (GenreInfo genre : genres) {
+            Long genreId = genre.getGenreId();
+            if (genreId == null) continue;
+            genreOrder.add(genreId);
+            int bit = Arrays.binarySearch(KNOWN_GENRE_IDS, genreId);
+            if (bit >= 0) {
+                genreMask |= 1L << bit;
+                genreCounts[bit]++;
+            } else {
+                otherGenres.merge(genreId, 1, Integer::sum);
+            }
+        }
+
+        Map<Long, Integer> actorIdCounts = new TreeMap<>();
+        Set<Long> actorOrder = new LinkedHashSet<>();
+        for (ActorInfo actor : actors) {
+            if (actor.getActorId() != null) {
+                actorIdCounts.merge(actor.getActorId(), 1, Integer::sum);
+                actorOrder.add(actor.getActorId());
+            }
+        }
+
+        return new TasteProfile(genreMask, genreCounts,
+                keys(otherGenres), values(otherGenres), genres.size(),
+                keys(actorIdCounts), values(actorIdCounts), actors.size(),
+                List.copyOf(genreOrder), List.copyOf(actorOrder));
+    }
+
+    public List<Long> preferredGenreIds() {
+        return preferredGenreIds;
+    }
+
+    public List<Long> preferredActorIds() {
+        return preferredActorIds;
+    }
+
+    /**
+     * 장르 하나가 일치할 때 장르 점수(0~100)에 더해지는 비율 (선호 횟수 / 선호 장르 수, 임베딩 생성용)
+     */
+    double genreWeight(long genreId) {
+        if (genreTotal == 0) {
+            return 0.0;
+        }
+        int bit = Arrays.binarySearch(KNOWN_GENRE_IDS, genreId);
+        if (bit >= 0) {
+            return (double) genreCounts[bit] / genreTotal;
+        }
+        int index = Arrays.binarySearch(otherGenreIds, genreId);
+        return index >= 0 ? (double) otherGenreCounts[index] / genreTotal : 0.0;
+    }
+
+    /**
+     * 매칭 점수 (MatchingScoreService 계산식과 같은 결과)
+     * movieActors 가 null 이면 배우 점수 0
+     */
+    public double score(List<GenreInfo> movieGenres, List<ActorInfo> movieActors, Double rating) {
+        long matchGenreCount = movieGenres != null ? matchGenres(movieGenres) : 0L;
+        double genreScore = genreTotal == 0
+                ? 0.0
+                : (matchGenreCount * 100.0 / genreTotal);
+
+        long matchActorCount = movieActors != null ? matchActors(movieActors) : 0L;
+        double actorScore = actorTotal == 0
+                ? 0.0
+                : (matchActorCount * 100.0 / actorTotal);
+
+        double baseScore = 20.0;
+        double matchingWeight = 0.25;
+        double publicWeight = 0.6;
+        double baseWeight = 0.15;
+        double publicScore;
+        if (rating == null || rating == 0.0) {
+            publicScore = 65.0; // 기본값(예: 5.0 * 10)
+        } else {
+            publicScore = rating * 10.0;
+        }
+        double matchingScore = (genreScore * 1.4) + (actorScore * 1.5);
+        double finalScore =
+            (baseScore * baseWeight) +
+            (publicScore * publicWeight) +
+            (matchingScore * matchingWeight);
+
+        if (finalScore > 100.0) finalScore = 100.0;
+
+        return Math.round(finalScore);
+    }
+
+    /**
+     * 영화 장르 중 선호 장르에 해당하는 선호 횟수 합 (영화 목록의 중복 장르는 한 번만)
+     */
+    private long matchGenres(List<GenreInfo> movieGenres) {
+        long movieMask = 0L;
+        long matched = 0L;
+        int size = movieGenres.size();
+        for (int i = 0; i < size; i++) {
+            Long genreId = movieGenres.get(i).getGenreId();
+            if (genreId == null) continue;
+            int bit = Arrays.binarySearch(KNOWN_GENRE_IDS, genreId);
+            if (bit >= 0) {
+                movieMask |= 1L << bit;
+            } else if (otherGenreIds.length > 0 && !seenGenreBefore(movieGenres, i, genreId)) {
+                int index = Arrays.binarySearch(otherGenreIds, genreId);
+                if (index >= 0) matched += otherGenreCounts[index];
+            }
+        }
+        long common = movieMask & genreMask;
+        while (common != 0L) {
+            matched += genreCounts[Long.numberOfTrailingZeros(common)];
+            common &= common - 1;
+        }
+        return matched;
+    }
+
+    /**
+     * 영화 출연진 중 선호 배우에 해당하는 선호 횟수 합 (영화 목록의 중복 배우는 한 번만)
+     */
+    private long matchActors(List<ActorInfo> movieActors) {
+        if (actorIds.length == 0) {
+            return 0L;
+        }
+        long matched = 0L;
+        int size = movieActors.size();
+        for (int i = 0; i < size; i++) {
+            Long actorId = movieActors.get(i).getActorId();
+            if (actorId == null) continue;
+            int index = Arrays.binarySearch(actorIds, actorId);
+            if (index >= 0 && !seenActorBefore(movieActors, i, actorId)) {
+                matched += actorCounts[index];
+            }
+        }
+        return matched;
+    }
+
+    private static boolean seenGenreBefore(List<GenreInfo> genres, int end, long genreId) {
+        for (int i = 0; i < end; i++) {
+            Long other = genres.get(i).getGenreId();
+            if (other != null && other == genreId) return true;
+        }
+        return false;
+    }
+
+    private static boolean seenActorBefore(List<ActorInfo> actors, int end, long actorId) {
+        for (int i = 0; i < end; i++) {
+            Long other = actors.get(i).getActorId();
+            if (other != null && other == actorId) return true;
+        }
+        return false;
+    }
+
+    private static long[] keys(Map<Long, Integer> counts) {
+        return counts.keySet().stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private static int[] values(Map<Long, Integer> counts) {
+        return counts.values().stream().mapToInt(Integer::intValue).toArray();
+    }
+}
@@ -0,0 +1,142 @@
+package com.example.moviejbackend.service;
+
+import com.example.moviejbackend.domain.ActorInfo;
+import com.example.moviejbackend.domain.GenreInfo;
+import com.example.moviejbackend.domain.MovieInfo;
+import com.example.moviejbackend.domain.User;
+import com.example.moviejbackend.domain.UserPreference;
+import com.example.moviejbackend.repository.UserPreferenceRepository;
+import com.example.moviejbackend.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 유저별 취향(TasteProfile) 캐시
+ * - 선호도가 바뀌지 않은 유저는 점수 계산 시 DB를 조회하지 않음
+ * - 유저마다 버전을 두고, 선호도 저장 트랜잭션이 커밋된 뒤에 버전 증가 + 캐시 제거
+ * - 리뷰/찜 버전도 함께 관리 (추천 응답 캐시와 미리 계산한 추천이 같은 값으로 최신 여부 판단)
+ *   (커밋 전에 제거하면 다른 요청이 이전 데이터를 다시 캐시할 수 있음)
+ * 서버 인스턴스별 메모리 캐시 (다른 인스턴스의 변경은 만료 시간 이후 반영)
+ */
+@Component
+public class TasteProfileCache {
+
+    private final UserRepository userRepository;
+    private final UserPreferenceRepository userPreferenceRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    // 이메일 → 유저 ID (이메일은 변경되지 않음)
+    private final Cache<String, Long> userIds;
+    // 유저 ID → 취향
+    private final Cache<Long, CachedProfile> profiles;
+    // 유저 ID → 선호도 버전 (커밋될 때마다 증가)
+    private final Map<Long, Long> versions = new ConcurrentHashMap<>();
+    // 유저 ID → 리뷰/찜 버전 (커밋될 때마다 증가)
+    private final Map<Long, Long> activityVersions = new ConcurrentHashMap<>();
+
+    public TasteProfileCache(UserRepository userRepository,
+                             UserPreferenceRepository userPreferenceRepository,
+                             PlatformTransactionManager transactionManager,
+                             MeterRegistry meterRegistry,
+                             @Value("${taste-profile.cache.spec:maximumSize=10000,expireAfterAccess=30m}") String spec) {
+        this.userRepository = userRepository;
+        this.userPreferenceRepository = userPreferenceRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.userIds = Caffeine.from(spec).build();
+        this.profiles = Caffeine.from(spec).recordStats().build();
+        CaffeineCacheMetrics.monitor(meterRegistry, profiles, "taste-profile");
+    }
+
+    /**
+     * 유저 취향 조회 (캐시에 없으면 DB에서 불러와 저장)
+     * 유저가 없으면 IllegalArgumentException
+     */
+    public CachedProfile get(String email) {
+        // 로딩 중에 무효화되면 Caffeine 이 로딩 완료 후 제거하므로 이전 값이 남지 않음
+        return profiles.get(userId(email), this::load);
+    }
+
+    /**
+     * 이메일 → 유저 ID (캐시, 유저가 없으면 IllegalArgumentException)
+     */
+    public Long userId(String email) {
+        return userIds.get(email, key -> userRepository.findByEmail(key)
+                .map(User::getId)
+                .orElseThrow(() -> new IllegalArgumentException("유저를 찾을 수 없습니다. email=" + key)));
+    }
+
+    /**
+     * 현재 선호도 버전 (응답 캐시 키 등에 사용)
+     */
+    public long version(Long userId) {
+        return versions.getOrDefault(userId, 0L);
+    }
+
+    /**
+     * 현재 리뷰/찜 버전 (취향 캐시에는 영향 없음, 추천 결과의 최신 여부 판단용)
+     */
+    public long activityVersion(Long userId) {
+        return activityVersions.getOrDefault(userId, 0L);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPreferenceChanged(UserPreferenceChangedEvent event) {
+        versions.merge(event.userId(), 1L, Long::sum);
+        profiles.invalidate(event.userId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onActivityChanged(UserActivityChangedEvent event) {
+        activityVersions.merge(event.userId(), 1L, Long::sum);
+    }
+
+    private CachedProfile load(Long userId) {
+        long version = version(userId);
+        return readOnlyTransaction.execute(status -> {
+            List<UserPreference> preferences = userPreferenceRepository.findByUserId(userId);
+            if (preferences.isEmpty()) {
+                return new CachedProfile(userId, version, null, List.of());
+            }
+
+            // LAZY 컬렉션은 SUBSELECT 로 한 번에 로딩
+            List<GenreInfo> allGenres = preferences.stream()
+                    .flatMap(p -> p.getGenres().stream())
+                    .filter(g -> g.getGenreId() != null && g.getGenreId() > 0)
+                    .collect(Collectors.toList());
+
+            List<ActorInfo> allActors = preferences.stream()
+                    .flatMap(p -> p.getActors().stream())
+                    .filter(a -> a.getActorId() != null && a.getActorId() > 0)
+                    .collect(Collectors.toList());
+
+            // 온보딩에서 고른 영화 (영화 기반 추천 후보 검색용)
+            List<Long> seedMovieIds = preferences.stream()
+                    .flatMap(p -> p.getMovies().stream())
+                    .map(MovieInfo::getTmdbId)
+                    .filter(tmdbId -> tmdbId != null && tmdbId > 0)
+                    .distinct()
+                    .collect(Collectors.toList());
+
+            return new CachedProfile(userId, version, TasteProfile.of(allGenres, allActors), seedMovieIds);
+        });
+    }
+
+    /**
+     * 캐시된 취향 (선호도가 없으면 profile=null), seedMovieIds: 선호 영화 TMDB ID
+     */
+    public record CachedProfile(Long userId, long version, TasteProfile profile, List<Long> seedMovieIds) {
+    }
+}
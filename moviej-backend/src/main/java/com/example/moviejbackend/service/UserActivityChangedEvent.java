@@ -0,0 +1,7 @@
+package com.example.moviejbackend.service;
+
+/**
+ * 유저 리뷰/찜 목록 변경 (커밋 후 추천 재계산 대상으로 표시)
+ */
+public record UserActivityChangedEvent(Long userId) {
+}
@@ -0,0 +1,7 @@
+package com.example.moviejbackend.service;
+
+/**
+ * 유저 선호도 저장 이벤트 (트랜잭션 커밋 후 취향 캐시 무효화에 사용)
+ */
+public record UserPreferenceChangedEvent(Long userId) {
+}
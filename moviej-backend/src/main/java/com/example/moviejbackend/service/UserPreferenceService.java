@@ -5,6 +5,7 @@ import com.example.moviejbackend.dto.request.PreferenceRequestDto;
 import com.example.moviejbackend.repository.UserPreferenceRepository;
 import com.example.moviejbackend.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,6 +19,7 @@ public class UserPreferenceService {
 
     private final UserRepository userRepository;
     private final UserPreferenceRepository userPreferenceRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * ✅ 유저 선호도 저장
@@ -63,6 +65,9 @@ public class UserPreferenceService {
         preference.setCreatedAt(LocalDateTime.now());
 
         userPreferenceRepository.save(preference);
+
+        // 커밋 후 취향 캐시 무효화 (TasteProfileCache)
+        eventPublisher.publishEvent(new UserPreferenceChangedEvent(userId));
     }
 
     /**
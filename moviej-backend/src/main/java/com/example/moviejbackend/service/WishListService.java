@@ -2,10 +2,14 @@ package com.example.moviejbackend.service;
 
 import com.example.moviejbackend.domain.User;
 import com.example.moviejbackend.domain.UserCollection;
+import com.example.moviejbackend.dto.response.CursorPageResponseDto;
 import com.example.moviejbackend.dto.response.WishListResponseDto;
 import com.example.moviejbackend.repository.UserCollectionRepository;
 import com.example.moviejbackend.repository.UserRepository;
+import com.example.moviejbackend.util.CursorToken;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,8 +23,11 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class WishListService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final UserCollectionRepository userCollectionRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 찜하기 추가
@@ -44,6 +51,7 @@ public class WishListService {
                 .build();
 
         UserCollection saved = userCollectionRepository.save(wishList);
+        eventPublisher.publishEvent(new UserActivityChangedEvent(user.getId()));
 
         return new WishListResponseDto(
                 saved.getId(),
@@ -68,6 +76,7 @@ public class WishListService {
         }
 
         userCollectionRepository.deleteByUserIdAndMovieId(user.getId(), movieId);
+        eventPublisher.publishEvent(new UserActivityChangedEvent(user.getId()));
     }
 
     /**
@@ -81,17 +90,29 @@ public class WishListService {
         List<UserCollection> wishLists = userCollectionRepository.findByUserIdOrderByCreatedAtDesc(user.getId());
 
         return wishLists.stream()
-                .map(wl -> new WishListResponseDto(
-                        wl.getId(),
-                        wl.getMovieId(),
-                        wl.getTitle(),
-                        wl.getPosterPath(),
-                        wl.getCreatedAt(),
-                        wl.getRating()
-                ))
+                .map(WishListService::toResponse)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 찜 목록 커서 페이지네이션 (최신순, withTotal=true 일 때만 전체 개수 포함)
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponseDto<WishListResponseDto> getWishListByCursor(String email, String cursor, int size, boolean withTotal) {
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+
+        CursorToken.Position position = CursorToken.decode(cursor);
+        int limit = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+        List<WishListResponseDto> rows = userCollectionRepository
+                .findByUserIdBefore(user.getId(), position.createdAt(), position.id(), PageRequest.of(0, limit + 1))
+                .stream()
+                .map(WishListService::toResponse)
+                .collect(Collectors.toList());
+        Long total = withTotal ? userCollectionRepository.countByUserId(user.getId()) : null;
+        return CursorPageResponseDto.of(rows, limit, wl -> CursorToken.encode(wl.getCreatedAt(), wl.getId()), total, false);
+    }
+
     /**
      * 찜 여부 확인 (단건)
      */
@@ -133,6 +154,9 @@ public class WishListService {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
 
+        // 커밋 후 추천 재계산 대상으로 표시 (RecommendationMaterializer)
+        eventPublisher.publishEvent(new UserActivityChangedEvent(user.getId()));
+
         if (userCollectionRepository.existsByUserIdAndMovieId(user.getId(), movieId)) {
             // 이미 찜했으면 삭제
             userCollectionRepository.deleteByUserIdAndMovieId(user.getId(), movieId);
@@ -150,4 +174,15 @@ public class WishListService {
             return true;  // 찜 추가됨
         }
     }
+
+    private static WishListResponseDto toResponse(UserCollection wl) {
+        return new WishListResponseDto(
+                wl.getId(),
+                wl.getMovieId(),
+                wl.getTitle(),
+                wl.getPosterPath(),
+                wl.getCreatedAt(),
+                wl.getRating()
+        );
+    }
 }
@@ -0,0 +1,42 @@
+package com.example.moviejbackend.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 커서 페이지네이션 토큰 (createdAt, id) ↔ 불투명 문자열 (URL-safe Base64)
+ * - 최신순 목록에서 마지막으로 받은 항목의 위치, 다음 페이지는 이보다 오래된 항목부터
+ * - 빈 토큰은 첫 페이지 (FIRST: 어떤 항목보다도 뒤에 있는 위치)
+ */
+public final class CursorToken {
+
+    public static final Position FIRST = new Position(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+
+    private CursorToken() {
+    }
+
+    public static String encode(LocalDateTime createdAt, Long id) {
+        String raw = createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 토큰 해석 (null/빈 문자열은 FIRST, 형식이 틀리면 IllegalArgumentException)
+     */
+    public static Position decode(String token) {
+        if (token == null || token.isBlank()) {
+            return FIRST;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf('|');
+            return new Position(LocalDateTime.parse(raw.substring(0, separator)), Long.parseLong(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+
+    public record Position(LocalDateTime createdAt, Long id) {
+    }
+}
@@ -0,0 +1,414 @@
+package com.example.moviejbackend.util;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.SplittableRandom;
+
+/**
+ * 근사 최근접 이웃 색인 (HNSW - 계층형 탐색 그래프, 내적 유사도, 정규화된 벡터 기준 코사인)
+ * - 추가는 한 번에 하나씩 (synchronized), 검색은 잠금 없이 동시에 가능
+ * - 같은 ID 를 다시 추가하면 이전 노드는 삭제 표시 후 새 노드 추가 (삭제 노드는 탐색 경로로만 사용)
+ * - save/load: 그래프를 그대로 파일에 저장 (임시 파일에 쓴 뒤 교체)
+ */
+public final class HnswIndex {
+
+    private static final int FORMAT_VERSION = 1;
+    private static final int[] EMPTY_LINKS = new int[0];
+
+    private final int dimensions;
+    private final int m;
+    private final int maxLinksLevel0;
+    private final int efConstruction;
+    private final double levelMultiplier;
+    private final SplittableRandom random = new SplittableRandom(42);
+
+    private volatile Graph graph;
+    private final Map<Long, Integer> nodesById = new HashMap<>();
+    private int deletedCount;
+
+    public HnswIndex(int dimensions, int m, int efConstruction) {
+        this.dimensions = dimensions;
+        this.m = Math.max(2, m);
+        this.maxLinksLevel0 = this.m * 2;
+        this.efConstruction = Math.max(efConstruction, this.m);
+        this.levelMultiplier = 1.0 / Math.log(this.m);
+        this.graph = new Graph(16);
+    }
+
+    public int dimensions() {
+        return dimensions;
+    }
+
+    /**
+     * 삭제되지 않은 항목 수
+     */
+    public synchronized int size() {
+        return nodesById.size();
+    }
+
+    public synchronized boolean contains(long id) {
+        return nodesById.containsKey(id);
+    }
+
+    /**
+     * 저장된 벡터 (없으면 null, 수정하지 말 것)
+     */
+    public synchronized float[] vector(long id) {
+        Integer node = nodesById.get(id);
+        return node == null ? null : graph.vectors[node];
+    }
+
+    /**
+     * 삭제 표시된 노드 비율 (높으면 새로 만드는 것이 검색에 유리)
+     */
+    public synchronized double deletedRatio() {
+        int total = graph.size;
+        return total == 0 ? 0.0 : (double) deletedCount / total;
+    }
+
+    /**
+     * 항목 추가 (같은 ID 가 있으면 교체)
+     */
+    public synchronized void add(long id, float[] vector) {
+        if (vector.length != dimensions) {
+            throw new IllegalArgumentException("벡터 차원이 다릅니다: " + vector.length + " (색인 " + dimensions + ")");
+        }
+        Integer previous = nodesById.remove(id);
+        if (previous != null) {
+            graph.deleted.set(previous);
+            deletedCount++;
+        }
+
+        Graph current = graph.size == graph.ids.length ? graph.grow() : graph;
+        int node = current.size;
+        int level = randomLevel();
+        current.ids[node] = id;
+        current.vectors[node] = vector.clone();
+        current.links[node] = new int[level + 1][];
+        for (int l = 0; l <= level; l++) {
+            current.links[node][l] = EMPTY_LINKS;
+        }
+
+        if (current.entryPoint >= 0) {
+            int entry = current.entryPoint;
+            for (int l = current.maxLevel; l > level; l--) {
+                entry = greedy(current, vector, entry, l);
+            }
+            for (int l = Math.min(level, current.maxLevel); l >= 0; l--) {
+                List<Candidate> candidates = searchLayer(current, vector, entry, efConstruction, l);
+                int maxLinks = l == 0 ? maxLinksLevel0 : m;
+                int[] selected = selectNeighbors(current, candidates, maxLinks);
+                current.links[node][l] = selected;
+                for (int neighbor : selected) {
+                    connect(current, neighbor, node, l, l == 0 ? maxLinksLevel0 : m);
+                }
+                entry = candidates.get(0).node;
+            }
+        }
+        if (current.entryPoint < 0 || level > current.maxLevel) {
+            current.entryPoint = node;
+            current.maxLevel = level;
+        }
+        nodesById.put(id, node);
+        current.size = node + 1;
+        graph = current;
+    }
+
+    /**
+     * query 와 내적이 큰 순서로 최대 k 개 (ef: 탐색 후보 수, 클수록 정확하고 느림)
+     */
+    public List<Result> search(float[] query, int k, int ef) {
+        Graph current = graph;
+        int size = current.size;
+        if (size == 0 || k <= 0) {
+            return List.of();
+        }
+        int entry = current.entryPoint;
+        for (int l = current.maxLevel; l > 0; l--) {
+            entry = greedy(current, query, entry, l);
+        }
+        List<Candidate> candidates = searchLayer(current, query, entry, Math.max(ef, k), 0);
+        List<Result> results = new ArrayList<>(Math.min(k, candidates.size()));
+        for (Candidate candidate : candidates) {
+            if (results.size() >= k) break;
+            if (!current.deleted.get(candidate.node)) {
+                results.add(new Result(current.ids[candidate.node], candidate.score));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * 파일로 저장 (임시 파일에 쓴 뒤 교체)
+     */
+    public synchronized void save(Path path) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        Graph current = graph;
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+            out.writeInt(FORMAT_VERSION);
+            out.writeInt(dimensions);
+            out.writeInt(m);
+            out.writeInt(efConstruction);
+            out.writeInt(current.size);
+            out.writeInt(current.entryPoint);
+            out.writeInt(current.maxLevel);
+            for (int node = 0; node < current.size; node++) {
+                out.writeLong(current.ids[node]);
+                out.writeBoolean(current.deleted.get(node));
+                for (float value : current.vectors[node]) {
+                    out.writeFloat(value);
+                }
+                out.writeInt(current.links[node].length);
+                for (int[] levelLinks : current.links[node]) {
+                    out.writeInt(levelLinks.length);
+                    for (int link : levelLinks) {
+                        out.writeInt(link);
+                    }
+                }
+            }
+        }
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * 저장된 파일에서 색인 복원 (형식이나 차원이 다르면 IOException)
+     */
+    public static HnswIndex load(Path path, int expectedDimensions) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            int version = in.readInt();
+            int dimensions = in.readInt();
+            if (version != FORMAT_VERSION || dimensions != expectedDimensions) {
+                throw new IOException("색인 파일 형식이 다릅니다 (버전 " + version + ", 차원 " + dimensions + ")");
+            }
+            HnswIndex index = new HnswIndex(dimensions, in.readInt(), in.readInt());
+            int size = in.readInt();
+            Graph graph = new Graph(Math.max(16, size));
+            graph.entryPoint = in.readInt();
+            graph.maxLevel = in.readInt();
+            for (int node = 0; node < size; node++) {
+                graph.ids[node] = in.readLong();
+                boolean deleted = in.readBoolean();
+                float[] vector = new float[dimensions];
+                for (int i = 0; i < dimensions; i++) {
+                    vector[i] = in.readFloat();
+                }
+                graph.vectors[node] = vector;
+                int levels = in.readInt();
+                graph.links[node] = new int[levels][];
+                for (int l = 0; l < levels; l++) {
+                    int[] levelLinks = new int[in.readInt()];
+                    for (int i = 0; i < levelLinks.length; i++) {
+                        levelLinks[i] = in.readInt();
+                    }
+                    graph.links[node][l] = levelLinks;
+                }
+                if (deleted) {
+                    graph.deleted.set(node);
+                    index.deletedCount++;
+                } else {
+                    index.nodesById.put(graph.ids[node], node);
+                }
+            }
+            graph.size = size;
+            index.graph = graph;
+            return index;
+        }
+    }
+
+    private int randomLevel() {
+        return (int) (-Math.log(1.0 - random.nextDouble()) * levelMultiplier);
+    }
+
+    private static float dot(float[] a, float[] b) {
+        float sum = 0f;
+        for (int i = 0; i < a.length; i++) {
+            sum += a[i] * b[i];
+        }
+        return sum;
+    }
+
+    /**
+     * 노드의 계층별 이웃 (검색 중 추가되고 있는 노드는 아직 비어 있을 수 있음)
+     */
+    private static int[] linksAt(Graph graph, int node, int level) {
+        int[][] nodeLinks = graph.links[node];
+        if (nodeLinks == null || level >= nodeLinks.length || nodeLinks[level] == null) {
+            return EMPTY_LINKS;
+        }
+        return nodeLinks[level];
+    }
+
+    /**
+     * 상위 계층: 더 가까운 이웃이 없을 때까지 이동
+     */
+    private static int greedy(Graph graph, float[] query, int entry, int level) {
+        int current = entry;
+        float best = dot(query, graph.vectors[current]);
+        boolean moved = true;
+        while (moved) {
+            moved = false;
+            for (int neighbor : linksAt(graph, current, level)) {
+                if (neighbor >= graph.vectors.length || graph.vectors[neighbor] == null) continue;
+                float score = dot(query, graph.vectors[neighbor]);
+                if (score > best) {
+                    best = score;
+                    current = neighbor;
+                    moved = true;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * 한 계층에서 ef 개 후보 탐색 (유사도 내림차순 반환)
+     */
+    private static List<Candidate> searchLayer(Graph graph, float[] query, int entry, int ef, int level) {
+        BitSet visited = new BitSet(graph.vectors.length);
+        PriorityQueue<Candidate> toVisit = new PriorityQueue<>(Comparator.comparingDouble((Candidate c) -> c.score).reversed());
+        PriorityQueue<Candidate> found = new PriorityQueue<>(Comparator.comparingDouble((Candidate c) -> c.score));
+
+        Candidate start = new Candidate(entry, dot(query, graph.vectors[entry]));
+        visited.set(entry);
+        toVisit.add(start);
+        found.add(start);
+
+        while (!toVisit.isEmpty()) {
+            Candidate current = toVisit.poll();
+            if (found.size() >= ef && current.score < found.peek().score) break;
+            for (int neighbor : linksAt(graph, current.node, level)) {
+                if (neighbor >= graph.vectors.length || visited.get(neighbor) || graph.vectors[neighbor] == null) continue;
+                visited.set(neighbor);
+                float score = dot(query, graph.vectors[neighbor]);
+                if (found.size() < ef || score > found.peek().score) {
+                    Candidate candidate = new Candidate(neighbor, score);
+                    toVisit.add(candidate);
+                    found.add(candidate);
+                    if (found.size() > ef) {
+                        found.poll();
+                    }
+                }
+            }
+        }
+
+        Candidate[] sorted = found.toArray(new Candidate[0]);
+        Arrays.sort(sorted, Comparator.comparingDouble((Candidate c) -> c.score).reversed());
+        return Arrays.asList(sorted);
+    }
+
+    /**
+     * 이웃 선택 휴리스틱: 이미 고른 이웃보다 기준점에 더 가까운 후보만 (그래프가 한쪽으로 몰리지 않도록)
+     * 그래도 자리가 남으면 나머지 후보로 채움
+     */
+    private static int[] selectNeighbors(Graph graph, List<Candidate> candidates, int maxLinks) {
+        List<Candidate> selected = new ArrayList<>(maxLinks);
+        List<Candidate> skipped = new ArrayList<>();
+        for (Candidate candidate : candidates) {
+            if (selected.size() >= maxLinks) break;
+            boolean diverse = true;
+            for (Candidate chosen : selected) {
+                if (dot(graph.vectors[candidate.node], graph.vectors[chosen.node]) > candidate.score) {
+                    diverse = false;
+                    break;
+                }
+            }
+            if (diverse) {
+                selected.add(candidate);
+            } else {
+                skipped.add(candidate);
+            }
+        }
+        for (Candidate candidate : skipped) {
+            if (selected.size() >= maxLinks) break;
+            selected.add(candidate);
+        }
+        int[] links = new int[selected.size()];
+        for (int i = 0; i < links.length; i++) {
+            links[i] = selected.get(i).node;
+        }
+        return links;
+    }
+
+    /**
+     * neighbor 의 이웃 목록에 node 추가 (넘치면 neighbor 기준으로 다시 선택, 새 배열로 교체)
+     */
+    private static void connect(Graph graph, int neighbor, int node, int level, int maxLinks) {
+        int[] existing = graph.links[neighbor][level];
+        int[] extended = Arrays.copyOf(existing, existing.length + 1);
+        extended[existing.length] = node;
+        if (extended.length <= maxLinks) {
+            graph.links[neighbor][level] = extended;
+            return;
+        }
+        float[] base = graph.vectors[neighbor];
+        List<Candidate> candidates = new ArrayList<>(extended.length);
+        for (int link : extended) {
+            candidates.add(new Candidate(link, dot(base, graph.vectors[link])));
+        }
+        candidates.sort(Comparator.comparingDouble((Candidate c) -> c.score).reversed());
+        graph.links[neighbor][level] = selectNeighbors(graph, candidates, maxLinks);
+    }
+
+    /**
+     * 노드 배열 묶음 (크기가 모자라면 두 배로 복사해 교체, 검색은 가져온 시점의 묶음만 사용)
+     */
+    private static final class Graph {
+        private final long[] ids;
+        private final float[][] vectors;
+        private final int[][][] links;
+        private final BitSet deleted;
+        private volatile int size;
+        private int entryPoint = -1;
+        private int maxLevel;
+
+        private Graph(int capacity) {
+            this(new long[capacity], new float[capacity][], new int[capacity][][], new BitSet(capacity));
+        }
+
+        private Graph(long[] ids, float[][] vectors, int[][][] links, BitSet deleted) {
+            this.ids = ids;
+            this.vectors = vectors;
+            this.links = links;
+            this.deleted = deleted;
+        }
+
+        private Graph grow() {
+            int capacity = ids.length * 2;
+            // 삭제 표시는 처음부터 전체 크기로 만들어 검색 중 내부 배열이 바뀌지 않도록
+            BitSet grownDeleted = new BitSet(capacity);
+            grownDeleted.or(deleted);
+            Graph grown = new Graph(Arrays.copyOf(ids, capacity), Arrays.copyOf(vectors, capacity),
+                    Arrays.copyOf(links, capacity), grownDeleted);
+            grown.size = size;
+            grown.entryPoint = entryPoint;
+            grown.maxLevel = maxLevel;
+            return grown;
+        }
+    }
+
+    private record Candidate(int node, float score) {
+    }
+
+    /**
+     * 검색 결과 (score: 내적)
+     */
+    public record Result(long id, float score) {
+    }
+}
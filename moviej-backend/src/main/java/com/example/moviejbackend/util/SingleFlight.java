@@ -0,0 +1,91 @@
+package com.example.moviejbackend.util;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * 같은 키에 대한 동시 호출을 하나로 합치는 도구 (single-flight)
+ * - 처음 도착한 호출(leader)만 실제 작업을 수행
+ * - 나중에 도착한 호출(follower)은 leader 의 결과를 기다려 공유
+ * - 작업이 끝나면 키가 비워지므로 결과 보관은 캐시가 담당
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * 키에 대한 호출 참여
+     * leader 로 참여하면 반드시 complete 또는 fail 을 호출해야 함
+     */
+    public Flight<K, V> begin(K key) {
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            return new Flight<>(this, key, existing, false);
+        }
+        return new Flight<>(this, key, mine, true);
+    }
+
+    /**
+     * 진행 중인 호출이 있으면 그 결과를 기다리고, 없으면 직접 실행
+     */
+    public V execute(K key, Callable<V> call) throws Exception {
+        Flight<K, V> flight = begin(key);
+        if (!flight.isLeader()) {
+            return flight.await();
+        }
+        try {
+            V value = call.call();
+            flight.complete(value);
+            return value;
+        } catch (Exception e) {
+            flight.fail(e);
+            throw e;
+        }
+    }
+
+    public static final class Flight<K, V> {
+        private final SingleFlight<K, V> owner;
+        private final K key;
+        private final CompletableFuture<V> future;
+        private final boolean leader;
+
+        private Flight(SingleFlight<K, V> owner, K key, CompletableFuture<V> future, boolean leader) {
+            this.owner = owner;
+            this.key = key;
+            this.future = future;
+            this.leader = leader;
+        }
+
+        public boolean isLeader() {
+            return leader;
+        }
+
+        public void complete(V value) {
+            owner.inFlight.remove(key, future);
+            future.complete(value);
+        }
+
+        public void fail(Throwable error) {
+            owner.inFlight.remove(key, future);
+            future.completeExceptionally(error);
+        }
+
+        /**
+         * leader 의 결과 대기 (leader 가 실패하면 같은 예외를 던짐)
+         */
+        public V await() throws Exception {
+            try {
+                return future.get();
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof Exception exception) {
+                    throw exception;
+                }
+                throw e;
+            }
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.moviejbackend.util;
+
+/**
+ * 점수 상위 K개 선택 (크기 K 의 최소 힙, 전체 정렬 없이 O(n log K), 박싱 없음)
+ * - 점수 내림차순, 점수가 같으면 tieKey 오름차순 (결과가 입력 순서와 무관하게 항상 같음)
+ * - NaN 점수는 가장 낮은 점수로 취급
+ */
+public final class TopK {
+
+    private TopK() {
+    }
+
+    /**
+     * 상위 K개의 인덱스를 순위 순서대로 반환
+     */
+    public static int[] select(double[] scores, long[] tieKeys, int k) {
+        int n = scores.length;
+        int size = Math.min(Math.max(k, 0), n);
+        if (size == 0) {
+            return new int[0];
+        }
+
+        // heap[0] 이 현재 K개 중 가장 낮은 순위
+        int[] heap = new int[size];
+        int count = 0;
+        for (int i = 0; i < n; i++) {
+            if (count < size) {
+                heap[count] = i;
+                siftUp(heap, count, scores, tieKeys);
+                count++;
+            } else if (ranksBefore(i, heap[0], scores, tieKeys)) {
+                heap[0] = i;
+                siftDown(heap, size, scores, tieKeys);
+            }
+        }
+
+        // 힙에서 가장 낮은 순위부터 꺼내 뒤에서부터 채움
+        int[] result = new int[size];
+        for (int last = size - 1; last >= 0; last--) {
+            result[last] = heap[0];
+            heap[0] = heap[last];
+            siftDown(heap, last, scores, tieKeys);
+        }
+        return result;
+    }
+
+    /**
+     * a 가 b 보다 높은 순위인지
+     */
+    static boolean ranksBefore(int a, int b, double[] scores, long[] tieKeys) {
+        int byScore = Double.compare(normalize(scores[a]), normalize(scores[b]));
+        if (byScore != 0) {
+            return byScore > 0;
+        }
+        return tieKeys[a] < tieKeys[b] || (tieKeys[a] == tieKeys[b] && a < b);
+    }
+
+    private static double normalize(double score) {
+        return Double.isNaN(score) ? Double.NEGATIVE_INFINITY : score;
+    }
+
+    private static void siftUp(int[] heap, int index, double[] scores, long[] tieKeys) {
+        int item = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!ranksBefore(heap[parent], item, scores, tieKeys)) {
+                break;
+            }
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = item;
+    }
+
+    private static void siftDown(int[] heap, int size, double[] scores, long[] tieKeys) {
+        if (size == 0) {
+            return;
+        }
+        int index = 0;
+        int item = heap[0];
+        int half = size >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            int right = child + 1;
+            if (right < size && ranksBefore(heap[child], heap[right], scores, tieKeys)) {
+                child = right;
+            }
+            if (!ranksBefore(item, heap[child], scores, tieKeys)) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = item;
+    }
+}
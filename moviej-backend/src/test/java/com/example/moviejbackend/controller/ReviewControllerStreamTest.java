@@ -0,0 +1,55 @@
+package com.example.moviejbackend.controller;
+
+import com.example.moviejbackend.service.ReviewService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.request.async.StandardServletAsyncWebRequest;
+import org.springframework.web.context.request.async.WebAsyncManager;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 전체 리뷰 스트리밍 허가: 본문이 실행되지 못한 채 요청이 끝나도 반납 (한 번만)
+ */
+class ReviewControllerStreamTest {
+
+    private ReviewController reviewController;
+
+    @BeforeEach
+    void setUp() {
+        reviewController = new ReviewController();
+        // 풀 2 → 전체 스트리밍 1개
+        ReflectionTestUtils.setField(reviewController, "reviewService", new ReviewService(2));
+    }
+
+    @Test
+    void releasesPermitWhenRequestEndsWithoutRunningBody() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/reviews");
+        request.setAsyncSupported(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertThat(reviewController.streamAllReviews(null, false, null, request).getStatusCode())
+                .isEqualTo(HttpStatus.OK);
+        assertThat(reviewController.streamAllReviews(null, false, null, new MockHttpServletRequest()).getStatusCode())
+                .isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+
+        // 비동기 처리는 시작됐지만 본문이 실행되기 전에 요청이 끝남 (타임아웃, 연결 끊김)
+        WebAsyncManager asyncManager = WebAsyncUtils.getAsyncManager(request);
+        asyncManager.setAsyncWebRequest(new StandardServletAsyncWebRequest(request, response));
+        asyncManager.setTaskExecutor(mock(AsyncTaskExecutor.class));
+        asyncManager.startCallableProcessing(() -> null);
+        request.getAsyncContext().complete();
+
+        assertThat(reviewController.streamAllReviews(null, false, null, new MockHttpServletRequest()).getStatusCode())
+                .isEqualTo(HttpStatus.OK);
+        assertThat(reviewController.streamAllReviews(null, false, null, new MockHttpServletRequest()).getStatusCode())
+                .isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+    }
+}
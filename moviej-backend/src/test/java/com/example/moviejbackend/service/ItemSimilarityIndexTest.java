@@ -0,0 +1,62 @@
+package com.example.moviejbackend.service;
+
+import com.example.moviejbackend.repository.ReviewRepository;
+import com.example.moviejbackend.repository.UserCollectionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * ItemSimilarityIndex: 찜/리뷰 동시 출현으로 이웃 계산, 변경된 유저만 증분 반영, 이웃은 상위 M개만
+ */
+class ItemSimilarityIndexTest {
+
+    private ReviewRepository reviewRepository;
+    private UserCollectionRepository userCollectionRepository;
+    private ItemSimilarityIndex index;
+
+    @BeforeEach
+    void setUp() {
+        reviewRepository = mock(ReviewRepository.class);
+        userCollectionRepository = mock(UserCollectionRepository.class);
+        index = new ItemSimilarityIndex(reviewRepository, userCollectionRepository);
+        ReflectionTestUtils.setField(index, "enabled", true);
+        ReflectionTestUtils.setField(index, "maxNeighbors", 2);
+        ReflectionTestUtils.setField(index, "minRating", 4);
+        ReflectionTestUtils.setField(index, "maxItemsPerUser", 200);
+        ReflectionTestUtils.setField(index, "maxRowSize", 2000);
+    }
+
+    @Test
+    void neighborsComeFromMoviesLikedTogether() {
+        // 유저 1: 찜 10, 20, 30 / 유저 2: 찜 10, 리뷰 20 / 유저 3: 리뷰 10, 40
+        when(userCollectionRepository.findAllUserMoviePairs()).thenReturn(List.of(
+                new Object[]{1L, 10L}, new Object[]{1L, 20L}, new Object[]{1L, 30L}, new Object[]{2L, 10L}));
+        when(reviewRepository.findUserMoviePairsByRatingAtLeast(4)).thenReturn(List.of(
+                new Object[]{2L, "20"}, new Object[]{3L, "10"}, new Object[]{3L, "40"}));
+        index.rebuild();
+
+        // 10 의 이웃: 20 (2명 함께), 30/40 (1명, 유사도 같음) 중 상위 2개만 → 20, 30
+        ItemSimilarityIndex.Neighbors neighbors = index.neighbors(10L);
+        assertThat(neighbors.size()).isEqualTo(2);
+        assertThat(neighbors.movieId(0)).isEqualTo(20L);
+        assertThat(index.likedMovieIds(2L)).containsExactlyInAnyOrder(10L, 20L);
+        assertThat(index.similarTo(List.of(10L, 20L), 10)).containsOnlyKeys(30L);
+
+        // 유저 2 가 찜 10 을 해제하고 50 을 찜 → 10-20 동시 출현 감소, 20-50 생성
+        when(userCollectionRepository.findMovieIdsByUserId(2L)).thenReturn(List.of(50L));
+        when(reviewRepository.findMovieIdsByUserIdAndRatingAtLeast(2L, 4)).thenReturn(List.of("20"));
+        index.onActivityChanged(new UserActivityChangedEvent(2L));
+        index.applyChanges();
+
+        assertThat(index.likedMovieIds(2L)).containsExactlyInAnyOrder(20L, 50L);
+        assertThat(index.neighbors(50L).movieId(0)).isEqualTo(20L);
+        assertThat(index.similarTo(List.of(50L), 10)).containsOnlyKeys(20L);
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.moviejbackend.service;
+
+import com.example.moviejbackend.repository.ReviewLikeRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * LikedReviewCache: 유저당 한 번만 조회, 토글 커밋 반영, 좋아요가 많은 유저는 페이지 단위 조회
+ */
+class LikedReviewCacheTest {
+
+    private ReviewLikeRepository reviewLikeRepository;
+    private LikedReviewCache cache;
+
+    @BeforeEach
+    void setUp() {
+        reviewLikeRepository = mock(ReviewLikeRepository.class);
+        cache = new LikedReviewCache(reviewLikeRepository, new SimpleMeterRegistry(), "maximumSize=100");
+        ReflectionTestUtils.setField(cache, "maxPerUser", 3);
+    }
+
+    @Test
+    void loadsOncePerUserAndAppliesToggles() {
+        when(reviewLikeRepository.findReviewIdsByUserId(1L)).thenReturn(List.of(7L, 3L));
+        List<Long> page = ids(1, 10);
+
+        LikedReviewCache.LikedReviews liked = cache.likedAmong(1L, page);
+        assertThat(page).filteredOn(liked::contains).containsExactly(3L, 7L);
+
+        cache.onLikeToggled(new ReviewLikeToggledEvent(1L, 5L, true));
+        cache.onLikeToggled(new ReviewLikeToggledEvent(1L, 3L, false));
+        LikedReviewCache.LikedReviews updated = cache.likedAmong(1L, page);
+        assertThat(page).filteredOn(updated::contains).containsExactly(5L, 7L);
+
+        verify(reviewLikeRepository, times(1)).findReviewIdsByUserId(1L);
+        verify(reviewLikeRepository, never()).findReviewIdsByUserIdAndReviewIdIn(anyLong(), anyCollection());
+        assertThat(cache.likedAmong(null, page).contains(7L)).isFalse();
+    }
+
+    @Test
+    void queriesPageWhenUserHasTooManyLikes() {
+        when(reviewLikeRepository.findReviewIdsByUserId(2L)).thenReturn(List.of(1L, 2L, 3L, 4L));
+        when(reviewLikeRepository.findReviewIdsByUserIdAndReviewIdIn(anyLong(), anyCollection())).thenReturn(List.of(2L));
+
+        LikedReviewCache.LikedReviews liked = cache.likedAmong(2L, ids(1, 3));
+        assertThat(liked.contains(2L)).isTrue();
+        assertThat(liked.contains(1L)).isFalse();
+
+        cache.likedAmong(2L, ids(1, 3));
+        verify(reviewLikeRepository, times(1)).findReviewIdsByUserId(2L);
+        verify(reviewLikeRepository, times(2)).findReviewIdsByUserIdAndReviewIdIn(anyLong(), anyCollection());
+    }
+
+    private static List<Long> ids(long from, long to) {
+        List<Long> ids = new ArrayList<>();
+        for (long id = from; id <= to; id++) {
+            ids.add(id);
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.moviejbackend.service;
+
+import com.example.moviejbackend.domain.ActorInfo;
+import com.example.moviejbackend.domain.GenreInfo;
+import com.example.moviejbackend.dto.request.TMDBMovieDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * MovieCatalogIndex: 장르/배우 목록 합집합, 장르+배우 모두 맞는 영화 우선, 그 안에서는 인기순
+ */
+class MovieCatalogIndexTest {
+
+    @Test
+    void returnsMoviesMatchingBothFirstThenByPopularity() {
+        MovieCatalogService movieCatalogService = mock(MovieCatalogService.class);
+        when(movieCatalogService.findAllMovies()).thenReturn(List.of(
+                movie(1L, 10.0, List.of(28L), List.of()),
+                movie(2L, 90.0, List.of(28L, 12L), List.of()),
+                movie(3L, 50.0, List.of(35L), List.of(500L)),
+                movie(4L, 5.0, List.of(12L), List.of(500L)),
+                movie(5L, 70.0, List.of(18L), null),
+                movie(6L, 30.0, List.of(28L), List.of(500L, 600L))));
+        MovieCatalogIndex index = new MovieCatalogIndex(movieCatalogService);
+        assertThat(index.isReady()).isFalse();
+        assertThat(index.candidates(List.of(28L), List.of(500L), 10)).isEmpty();
+
+        ReflectionTestUtils.setField(index, "enabled", true);
+        index.rebuild();
+        assertThat(index.isReady()).isTrue();
+
+        // 장르(28, 12) + 배우(500) 모두 → 6, 4 / 둘 중 하나 → 인기순 2, 3, 1
+        assertThat(index.candidates(List.of(28L, 12L), List.of(500L), 10))
+                .extracting(TMDBMovieDto::getTmdbId).containsExactly(6L, 4L, 2L, 3L, 1L);
+        assertThat(index.candidates(List.of(28L, 12L), List.of(500L), 3))
+                .extracting(TMDBMovieDto::getTmdbId).containsExactly(6L, 4L, 2L);
+
+        // 배우 선호가 없으면 장르 합집합을 인기순으로
+        assertThat(index.candidates(List.of(28L, 18L), List.of(), 10))
+                .extracting(TMDBMovieDto::getTmdbId).containsExactly(2L, 5L, 6L, 1L);
+        assertThat(index.candidates(List.of(99L), List.of(999L), 10)).isEmpty();
+    }
+
+    private static TMDBMovieDto movie(Long tmdbId, double popularity, List<Long> genreIds, List<Long> actorIds) {
+        TMDBMovieDto movie = new TMDBMovieDto();
+        movie.setTmdbId(tmdbId);
+        movie.setPopularity(popularity);
+        movie.setGenres(genreIds.stream().map(id -> GenreInfo.builder().genreId(id).build()).toList());
+        movie.setActors(actorIds == null ? null : actorIds.stream().map(id -> ActorInfo.builder().actorId(id).build()).toList());
+        return movie;
+    }
+}
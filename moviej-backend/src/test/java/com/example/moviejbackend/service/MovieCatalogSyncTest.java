@@ -0,0 +1,75 @@
+package com.example.moviejbackend.service;
+
+import com.example.moviejbackend.dto.request.TMDBMovieDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * MovieCatalogSync: 상세 조회에 실패한 변경 영화는 다음 주기에 재시도, 실패한 주기는 기준 날짜를 넘기지 않음
+ */
+class MovieCatalogSyncTest {
+
+    private TMDBService tmdbService;
+    private MovieCatalogService movieCatalogService;
+    private MovieCatalogSync sync;
+
+    @BeforeEach
+    void setUp() {
+        tmdbService = mock(TMDBService.class);
+        movieCatalogService = mock(MovieCatalogService.class);
+        sync = new MovieCatalogSync(tmdbService, movieCatalogService);
+        ReflectionTestUtils.setField(sync, "batchSize", 50);
+        ReflectionTestUtils.setField(sync, "maxMoviesPerRun", 500);
+        ReflectionTestUtils.setField(sync, "maxAttempts", 2);
+    }
+
+    @Test
+    void failedMoviesAreRetriedNextRun() {
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        ReflectionTestUtils.setField(sync, "lastSyncedDate", yesterday);
+        when(tmdbService.fetchChangedMovieIds(any(), any())).thenReturn(List.of(1L, 2L), List.of());
+        when(movieCatalogService.findExistingIds(List.of(1L, 2L))).thenReturn(List.of(1L, 2L));
+        when(movieCatalogService.findExistingIds(List.of())).thenReturn(List.of());
+        // 2 는 조회 실패 (결과에서 빠짐)
+        when(tmdbService.fetchMovieDetails(List.of(1L, 2L))).thenReturn(List.of(movie(1L)));
+        when(tmdbService.fetchMovieDetails(List.of(2L))).thenReturn(List.of(movie(2L)));
+
+        assertThat(sync.syncChanges()).isEqualTo(1);
+        assertThat(sync.syncChanges()).isEqualTo(1);
+        verify(tmdbService).fetchMovieDetails(List.of(2L));
+    }
+
+    @Test
+    void failedRunKeepsStartDateAndPendingMovies() {
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        ReflectionTestUtils.setField(sync, "lastSyncedDate", yesterday);
+        when(tmdbService.fetchChangedMovieIds(any(), any())).thenReturn(List.of(1L));
+        when(movieCatalogService.findExistingIds(List.of(1L))).thenReturn(List.of(1L));
+        when(tmdbService.fetchMovieDetails(List.of(1L))).thenThrow(new IllegalStateException("TMDB 오류"));
+
+        assertThatThrownBy(() -> sync.syncChanges()).isInstanceOf(IllegalStateException.class);
+
+        assertThat(ReflectionTestUtils.getField(sync, "lastSyncedDate")).isEqualTo(yesterday);
+        @SuppressWarnings("unchecked")
+        Set<Long> pendingIds = (Set<Long>) ReflectionTestUtils.getField(sync, "pendingIds");
+        assertThat(pendingIds).containsExactly(1L);
+    }
+
+    private static TMDBMovieDto movie(Long id) {
+        TMDBMovieDto movie = new TMDBMovieDto();
+        movie.setTmdbId(id);
+        return movie;
+    }
+}
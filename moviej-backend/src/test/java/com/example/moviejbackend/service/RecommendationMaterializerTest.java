@@ -0,0 +1,133 @@
+package com.example.moviejbackend.service;
+
+import com.example.moviejbackend.dto.request.TMDBMovieDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * RecommendationMaterializer: 요청한 유저만 미리 계산, 주기당 처리 수 제한, 선호도/리뷰/찜 버전이 바뀌면 실시간 계산으로 전환
+ */
+class RecommendationMaterializerTest {
+
+    private RecommendationService recommendationService;
+    private TasteProfileCache tasteProfileCache;
+    private RecommendationMaterializer materializer;
+
+    @BeforeEach
+    void setUp() {
+        recommendationService = mock(RecommendationService.class);
+        tasteProfileCache = mock(TasteProfileCache.class);
+        materializer = new RecommendationMaterializer(recommendationService, tasteProfileCache);
+        ReflectionTestUtils.setField(materializer, "enabled", true);
+        ReflectionTestUtils.setField(materializer, "materializeCount", 20);
+        ReflectionTestUtils.setField(materializer, "budgetMs", 5000L);
+        ReflectionTestUtils.setField(materializer, "usersPerSecond", 3);
+        ReflectionTestUtils.setField(materializer, "tickMs", 1000L);
+        ReflectionTestUtils.setField(materializer, "refreshIntervalMs", 1_800_000L);
+        ReflectionTestUtils.setField(materializer, "activeWindowMs", 604_800_000L);
+        ReflectionTestUtils.setField(materializer, "maxUsers", 100);
+
+        for (long userId = 1; userId <= 10; userId++) {
+            when(tasteProfileCache.userId("user" + userId + "@test.com")).thenReturn(userId);
+        }
+        when(recommendationService.recommend(anyString(), anyInt(), any()))
+                .thenReturn(new RecommendationService.RecommendationResult(movies(20), List.of()));
+    }
+
+    @Test
+    void servesMaterializedResultUntilPreferencesChange() {
+        assertThat(materializer.find("user1@test.com", 5)).isNull();
+
+        materializer.materialize();
+
+        RecommendationMaterializer.Served served = materializer.find("user1@test.com", 5);
+        assertThat(served).isNotNull();
+        assertThat(served.movies()).extracting(TMDBMovieDto::getTmdbId).containsExactly(1L, 2L, 3L, 4L, 5L);
+        assertThat(served.ageSeconds()).isZero();
+        assertThat(materializer.find("user1@test.com", 21)).isNull();
+
+        // 선호도 저장 커밋 → 버전 증가, 재계산 전까지 실시간 계산
+        when(tasteProfileCache.version(1L)).thenReturn(1L);
+        materializer.onPreferenceChanged(new UserPreferenceChangedEvent(1L));
+        assertThat(materializer.find("user1@test.com", 5)).isNull();
+
+        materializer.materialize();
+        assertThat(materializer.find("user1@test.com", 5)).isNotNull();
+        verify(recommendationService, times(2)).recommend("user1@test.com", 20, 5000L);
+    }
+
+    @Test
+    void activityChangeRejectsOlderResult() {
+        materializer.find("user1@test.com", 5);
+        materializer.materialize();
+        assertThat(materializer.find("user1@test.com", 5)).isNotNull();
+
+        // 리뷰/찜 변경 커밋 → 이전 결과는 제공하지 않음 (응답 캐시의 새 버전 키로 저장되지 않도록)
+        when(tasteProfileCache.activityVersion(1L)).thenReturn(1L);
+        materializer.onActivityChanged(new UserActivityChangedEvent(1L));
+        assertThat(materializer.find("user1@test.com", 5)).isNull();
+
+        materializer.materialize();
+        assertThat(materializer.find("user1@test.com", 5)).isNotNull();
+    }
+
+    @Test
+    void computesAtMostUsersPerSecondPerTick() {
+        for (long userId = 1; userId <= 10; userId++) {
+            materializer.find("user" + userId + "@test.com", 5);
+        }
+
+        materializer.materialize();
+        verify(recommendationService, times(3)).recommend(anyString(), anyInt(), any());
+
+        materializer.materialize();
+        materializer.materialize();
+        materializer.materialize();
+        verify(recommendationService, times(10)).recommend(anyString(), anyInt(), any());
+
+        // 모두 최신이면 더 계산하지 않음, 요청하지 않은 유저의 변경 이벤트는 무시
+        materializer.onActivityChanged(new UserActivityChangedEvent(99L));
+        materializer.materialize();
+        verify(recommendationService, times(10)).recommend(anyString(), anyInt(), any());
+    }
+
+    @Test
+    void partialResultIsRecomputedNextTick() {
+        when(recommendationService.recommend(anyString(), anyInt(), any()))
+                .thenReturn(new RecommendationService.RecommendationResult(movies(20), List.of("actor:500")))
+                .thenReturn(new RecommendationService.RecommendationResult(movies(20), List.of()));
+        materializer.find("user1@test.com", 5);
+
+        materializer.materialize();
+        assertThat(materializer.find("user1@test.com", 5).partialSources()).containsExactly("actor:500");
+
+        // 부분 결과는 다음 주기에 다시 계산, 전체 결과가 나오면 더 계산하지 않음
+        materializer.materialize();
+        assertThat(materializer.find("user1@test.com", 5).partialSources()).isEmpty();
+        materializer.materialize();
+        verify(recommendationService, times(2)).recommend("user1@test.com", 20, 5000L);
+    }
+
+    private static List<TMDBMovieDto> movies(int count) {
+        List<TMDBMovieDto> movies = new ArrayList<>();
+        for (long id = 1; id <= count; id++) {
+            TMDBMovieDto movie = new TMDBMovieDto();
+            movie.setTmdbId(id);
+            movies.add(movie);
+        }
+        return movies;
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.moviejbackend.service;
+
+import com.example.moviejbackend.dto.request.TMDBMovieDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * RecommendationRanker 상위 K 선택이 전체 정렬 결과와 같은지, 병렬 계산 여부/입력 순서와 무관한지 확인
+ */
+class RecommendationRankerTest {
+
+    private final RecommendationRanker sequential = new RecommendationRanker(1, Integer.MAX_VALUE);
+    private final RecommendationRanker parallel = new RecommendationRanker(4, 1);
+
+    @AfterEach
+    void tearDown() {
+        sequential.shutdown();
+        parallel.shutdown();
+    }
+
+    @Test
+    void topKMatchesFullSortWithDeterministicTies() {
+        Random random = new Random(11);
+        List<TMDBMovieDto> movies = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            TMDBMovieDto movie = new TMDBMovieDto();
+            movie.setTmdbId(random.nextInt(1_000_000) + 1L);
+            // 점수 종류를 적게 해서 동점이 많이 생기도록
+            movie.setRating(random.nextInt(20) / 2.0);
+            movies.add(movie);
+        }
+
+        List<Long> expected = movies.stream()
+                .sorted(Comparator.comparingDouble(TMDBMovieDto::getRating).reversed()
+                        .thenComparing(TMDBMovieDto::getTmdbId))
+                .limit(50)
+                .map(TMDBMovieDto::getTmdbId)
+                .collect(Collectors.toList());
+
+        List<TMDBMovieDto> shuffled = new ArrayList<>(movies);
+        Collections.shuffle(shuffled, random);
+
+        assertThat(rankedIds(sequential, movies, 50)).isEqualTo(expected);
+        assertThat(rankedIds(parallel, movies, 50)).isEqualTo(expected);
+        assertThat(rankedIds(parallel, shuffled, 50)).isEqualTo(expected);
+        assertThat(movies).allSatisfy(movie -> assertThat(movie.getMatchingScore()).isNull());
+    }
+
+    @Test
+    void smallPoolsAndMissingIds() {
+        TMDBMovieDto withoutId = new TMDBMovieDto();
+        withoutId.setRating(9.0);
+        TMDBMovieDto first = new TMDBMovieDto();
+        first.setTmdbId(2L);
+        first.setRating(9.0);
+        TMDBMovieDto second = new TMDBMovieDto();
+        second.setTmdbId(1L);
+        second.setRating(9.0);
+
+        List<RecommendationRanker.Ranked> ranked =
+                sequential.topK(List.of(withoutId, first, second), TMDBMovieDto::getRating, 10);
+
+        assertThat(ranked).extracting(RecommendationRanker.Ranked::movie).containsExactly(second, first, withoutId);
+        assertThat(sequential.topK(List.of(), TMDBMovieDto::getRating, 5)).isEmpty();
+        assertThat(sequential.topK(List.of(first), TMDBMovieDto::getRating, 0)).isEmpty();
+    }
+
+    private static List<Long> rankedIds(RecommendationRanker ranker, List<TMDBMovieDto> movies, int k) {
+        return ranker.topK(movies, TMDBMovieDto::getRating, k).stream()
+                .map(ranked -> ranked.movie().getTmdbId())
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.moviejbackend.service;
+
+import com.example.moviejbackend.dto.request.TMDBMovieDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * RecommendationResponseCache: 버전이 바뀌면 이전 응답을 쓰지 않음, 같은 결과는 같은 ETag
+ */
+class RecommendationResponseCacheTest {
+
+    private TasteProfileCache tasteProfileCache;
+    private RecommendationResponseCache cache;
+
+    @BeforeEach
+    void setUp() {
+        tasteProfileCache = mock(TasteProfileCache.class);
+        cache = new RecommendationResponseCache(tasteProfileCache, new ObjectMapper(), new SimpleMeterRegistry(),
+                "maximumSize=100,expireAfterWrite=5m");
+    }
+
+    @Test
+    void invalidatesOnPreferenceAndActivityChanges() {
+        RecommendationResponseCache.Key key = cache.key(1L, 5);
+        RecommendationResponseCache.Entry entry = cache.put(key, movies(5), Instant.now(), "live", List.of());
+        assertThat(cache.get(cache.key(1L, 5))).isSameAs(entry);
+        assertThat(cache.get(cache.key(1L, 10))).isNull();
+
+        // 리뷰/찜 변경 커밋 → 새 키, 이전 응답 제거
+        when(tasteProfileCache.activityVersion(1L)).thenReturn(1L);
+        cache.onActivityChanged(new UserActivityChangedEvent(1L));
+        assertThat(cache.key(1L, 5)).isNotEqualTo(key);
+        assertThat(cache.get(key)).isNull();
+
+        // 선호도 저장 커밋 → 선호도 버전이 키에 반영
+        RecommendationResponseCache.Key current = cache.key(1L, 5);
+        cache.put(current, movies(5), Instant.now(), "live", List.of());
+        when(tasteProfileCache.version(1L)).thenReturn(1L);
+        cache.onPreferenceChanged(new UserPreferenceChangedEvent(1L));
+        assertThat(cache.get(cache.key(1L, 5))).isNull();
+        assertThat(cache.get(current)).isNull();
+    }
+
+    @Test
+    void eTagDependsOnlyOnContent() {
+        RecommendationResponseCache.Entry first = cache.put(cache.key(1L, 5), movies(5), Instant.now(), "live", List.of());
+        cache.onActivityChanged(new UserActivityChangedEvent(1L));
+        RecommendationResponseCache.Entry same = cache.put(cache.key(1L, 5), movies(5), Instant.now(), "materialized", List.of());
+        RecommendationResponseCache.Entry different = cache.put(cache.key(1L, 4), movies(4), Instant.now(), "live", List.of());
+
+        assertThat(same.eTag()).isEqualTo(first.eTag());
+        assertThat(different.eTag()).isNotEqualTo(first.eTag());
+
+        assertThat(first.matches(first.eTag())).isTrue();
+        assertThat(first.matches("\"other\", W/" + first.eTag())).isTrue();
+        assertThat(first.matches("*")).isTrue();
+        assertThat(first.matches(different.eTag())).isFalse();
+        assertThat(first.matches(null)).isFalse();
+    }
+
+    private static List<TMDBMovieDto> movies(int count) {
+        List<TMDBMovieDto> movies = new ArrayList<>();
+        for (long id = 1; id <= count; id++) {
+            TMDBMovieDto movie = new TMDBMovieDto();
+            movie.setTmdbId(id);
+            movie.setMatchingScore(90.0 - id);
+            movies.add(movie);
+        }
+        return movies;
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.moviejbackend.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * RecommendationSourceExecutor: 대기열이 가득 차면 그 소스는 partial, 기한을 넘긴 소스는 취소(인터럽트)
+ */
+class RecommendationSourceExecutorTest {
+
+    private RecommendationSourceExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void rejectedSourceIsPartial() {
+        executor = new RecommendationSourceExecutor(1, 1);
+        Callable<String> slow = () -> {
+            Thread.sleep(100);
+            return "ok";
+        };
+        Map<String, Callable<String>> sources = new LinkedHashMap<>();
+        sources.put("a", slow);
+        sources.put("b", slow);
+        sources.put("c", slow);
+
+        // 스레드 1 + 대기열 1 → c 는 거절되어 partial
+        RecommendationSourceExecutor.Outcome<String, String> outcome =
+                executor.invokeUntil(sources, System.nanoTime() + TimeUnit.SECONDS.toNanos(2));
+
+        assertThat(outcome.completed()).containsOnlyKeys("a", "b");
+        assertThat(outcome.partial()).containsExactly("c");
+    }
+
+    @Test
+    void cancelsSourcesPastDeadline() throws Exception {
+        executor = new RecommendationSourceExecutor(2, 4);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        Map<String, Callable<String>> sources = new LinkedHashMap<>();
+        sources.put("slow", () -> {
+            try {
+                Thread.sleep(10_000);
+                return "slow";
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                throw e;
+            }
+        });
+        sources.put("fast", () -> "fast");
+
+        RecommendationSourceExecutor.Outcome<String, String> outcome =
+                executor.invokeUntil(sources, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(100));
+
+        assertThat(outcome.completed()).containsOnlyKeys("fast");
+        assertThat(outcome.partial()).containsExactly("slow");
+        assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.moviejbackend.service;
+
+import com.example.moviejbackend.repository.ReviewRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * ReviewLeaderboard: 영화별 1위만 순위에 반영, 1위 공감 수가 줄면 DB 에서 다음 1위 조회(잠금 밖), 재생성 중에도 기존 순위 제공
+ */
+class ReviewLeaderboardTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    private ReviewRepository reviewRepository;
+    private ReviewLeaderboard leaderboard;
+
+    @BeforeEach
+    void setUp() {
+        reviewRepository = mock(ReviewRepository.class);
+        leaderboard = new ReviewLeaderboard(reviewRepository);
+        when(reviewRepository.findBestReviewPerMovie()).thenReturn(List.of(
+                row(1L, "100", 5, 1),
+                row(2L, "200", 3, 2),
+                row(3L, "300", 3, 3)));
+        leaderboard.rebuild();
+    }
+
+    @Test
+    void ordersBestReviewPerMovieByLikesThenCreatedAt() {
+        assertThat(leaderboard.isReady()).isTrue();
+        assertThat(leaderboard.top(2)).containsExactly(1L, 2L);
+
+        // 새 리뷰는 공감 0 → 같은 영화의 1위를 바꾸지 않음, 새 영화면 순위 끝에 추가
+        leaderboard.onLikesChanged(new ReviewLikesChangedEvent(4L, "100", 0, BASE.plusDays(4)));
+        leaderboard.onLikesChanged(new ReviewLikesChangedEvent(5L, "500", 0, BASE.plusDays(5)));
+        assertThat(leaderboard.top(10)).containsExactly(1L, 2L, 3L, 5L);
+
+        // 같은 영화의 다른 리뷰가 1위를 넘으면 교체
+        leaderboard.onLikesChanged(new ReviewLikesChangedEvent(6L, "300", 6, BASE.plusDays(6)));
+        assertThat(leaderboard.top(10)).containsExactly(6L, 1L, 2L, 5L);
+    }
+
+    @Test
+    void reloadsMovieBestWhenBestReviewLosesLikes() {
+        when(reviewRepository.findBestReviewOfMovie("100")).thenReturn(Optional.of(row(7L, "100", 4, 0)));
+
+        leaderboard.onLikesChanged(new ReviewLikesChangedEvent(1L, "100", 4, BASE.plusDays(1)));
+
+        assertThat(leaderboard.top(10)).containsExactly(7L, 2L, 3L);
+    }
+
+    @Test
+    void reloadsBestOutsideLockAndDropsStaleResult() {
+        // DB 조회 중에는 잠금을 잡지 않음 → 그 사이 들어온 변경이 1위를 바꾸면 조회 결과는 버림
+        when(reviewRepository.findBestReviewOfMovie("100")).thenAnswer(invocation -> {
+            assertThat(Thread.holdsLock(leaderboard)).isFalse();
+            leaderboard.onLikesChanged(new ReviewLikesChangedEvent(9L, "100", 8, BASE.plusDays(9)));
+            return Optional.of(row(7L, "100", 4, 0));
+        });
+
+        leaderboard.onLikesChanged(new ReviewLikesChangedEvent(1L, "100", 4, BASE.plusDays(1)));
+
+        assertThat(leaderboard.top(10)).containsExactly(9L, 2L, 3L);
+    }
+
+    @Test
+    void rebuildKeepsServingOldBoardAndReplaysChanges() {
+        // DB 조회 중: 조회는 기존 순위, 그 사이 커밋된 변경은 새 순위에도 반영
+        when(reviewRepository.findBestReviewPerMovie()).thenAnswer(invocation -> {
+            assertThat(leaderboard.top(10)).containsExactly(1L, 2L, 3L);
+            leaderboard.onLikesChanged(new ReviewLikesChangedEvent(8L, "800", 9, BASE.plusDays(8)));
+            return List.of(row(1L, "100", 5, 1), row(2L, "200", 3, 2));
+        });
+
+        leaderboard.rebuild();
+
+        assertThat(leaderboard.top(10)).containsExactly(8L, 1L, 2L);
+    }
+
+    private static ReviewRepository.ReviewLikesRow row(Long id, String tmdbMovieId, int likes, int day) {
+        return new ReviewRepository.ReviewLikesRow() {
+            public Long getId() { return id; }
+            public String getTmdbMovieId() { return tmdbMovieId; }
+            public Integer getLikes() { return likes; }
+            public LocalDateTime getCreatedAt() { return BASE.plusDays(day); }
+        };
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.moviejbackend.service;
+
+import com.example.moviejbackend.domain.User;
+import com.example.moviejbackend.dto.response.ReviewResponseDto;
+import com.example.moviejbackend.repository.ReviewRepository;
+import com.example.moviejbackend.repository.UserRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * ReviewService 스트리밍: JSON 배열/NDJSON 형식, fetch size 단위로 isLiked 일괄 조회, 전체 스트리밍 동시 수 제한
+ */
+class ReviewServiceStreamTest {
+
+    private ReviewRepository reviewRepository;
+    private LikedReviewCache likedReviewCache;
+    private ReviewService reviewService;
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @BeforeEach
+    void setUp() {
+        reviewRepository = mock(ReviewRepository.class);
+        UserRepository userRepository = mock(UserRepository.class);
+        likedReviewCache = mock(LikedReviewCache.class);
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+
+        User user = new User();
+        user.setId(1L);
+        when(userRepository.findByEmail("user@test.com")).thenReturn(Optional.of(user));
+        when(likedReviewCache.likedAmong(eq(1L), anyCollection()))
+                .thenReturn(new LikedReviewCache.LikedReviews(new long[]{2L, 700L}));
+        when(likedReviewCache.likedAmong(eq(null), anyCollection())).thenReturn(LikedReviewCache.LikedReviews.NONE);
+
+        reviewService = new ReviewService(2);
+        ReflectionTestUtils.setField(reviewService, "reviewRepository", reviewRepository);
+        ReflectionTestUtils.setField(reviewService, "userRepository", userRepository);
+        ReflectionTestUtils.setField(reviewService, "likedReviewCache", likedReviewCache);
+        ReflectionTestUtils.setField(reviewService, "objectMapper", objectMapper);
+        ReflectionTestUtils.setField(reviewService, "transactionManager", transactionManager);
+    }
+
+    @Test
+    void streamsJsonArrayInFetchSizeBatches() throws Exception {
+        when(reviewRepository.streamAllResponses()).thenReturn(reviews(1200));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        assertThat(reviewService.tryAcquireFullStream()).isNotNull();
+        reviewService.streamAllReviews("user@test.com", false, false, out);
+
+        JsonNode array = objectMapper.readTree(out.toByteArray());
+        assertThat(array.isArray()).isTrue();
+        assertThat(array).hasSize(1200);
+        assertThat(array.get(1).get("liked").asBoolean()).isTrue();
+        assertThat(array.get(0).get("liked").asBoolean()).isFalse();
+        assertThat(array.get(699).get("liked").asBoolean()).isTrue();
+        // 500 + 500 + 200
+        verify(likedReviewCache, times(3)).likedAmong(eq(1L), anyCollection());
+    }
+
+    @Test
+    void streamsNdjsonOneReviewPerLine() throws Exception {
+        when(reviewRepository.streamSummariesByTmdbMovieId("10")).thenReturn(reviews(3));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        reviewService.streamMovieReviews("10", null, true, true, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(3);
+        assertThat(objectMapper.readTree(lines[2]).get("id").asLong()).isEqualTo(3L);
+
+        when(reviewRepository.streamAllSummaries()).thenReturn(Stream.empty());
+        ByteArrayOutputStream empty = new ByteArrayOutputStream();
+        assertThat(reviewService.tryAcquireFullStream()).isNotNull();
+        reviewService.streamAllReviews(null, true, false, empty);
+        assertThat(empty.toString(StandardCharsets.UTF_8)).isEqualTo("[]");
+    }
+
+    @Test
+    void fullStreamPermitsAreSizedFromPoolAndReleasedOnce() throws Exception {
+
+        // 풀 2 → 전체 스트리밍 1개, 영화별 스트리밍은 허가 없이 동작
+        Runnable release = reviewService.tryAcquireFullStream();
+        assertThat(release).isNotNull();
+        assertThat(reviewService.tryAcquireFullStream()).isNull();
+        when(reviewRepository.streamSummariesByTmdbMovieId("10")).thenReturn(reviews(1));
+        reviewService.streamMovieReviews("10", null, true, true, new ByteArrayOutputStream());
+
+        // 여러 번 반납해도 허가는 하나만 돌아옴
+        release.run();
+        release.run();
+        assertThat(reviewService.tryAcquireFullStream()).isNotNull();
+        assertThat(reviewService.tryAcquireFullStream()).isNull();
+    }
+
+    private static Stream<ReviewResponseDto> reviews(int count) {
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 0, 0);
+        return LongStream.rangeClosed(1, count).mapToObj(id -> new ReviewResponseDto(
+                id, "10", "영화", null, "닉네임", null, 5, 0, now.minusMinutes(id)));
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.moviejbackend.service;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.ratelimiter.RateLimiterConfig;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import io.github.resilience4j.ratelimiter.RequestNotPermitted;
+import io.github.resilience4j.retry.RetryConfig;
+import io.github.resilience4j.retry.RetryRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * TMDBCallGuard: 호출 한도 초과는 서킷 브레이커 실패로 기록되지 않음
+ */
+class TMDBCallGuardTest {
+
+    @Test
+    void rateLimitRejectionsDoNotOpenBreaker() {
+        RateLimiterRegistry rateLimiterRegistry = RateLimiterRegistry.of(RateLimiterConfig.custom()
+                .limitForPeriod(1)
+                .limitRefreshPeriod(Duration.ofMinutes(1))
+                .timeoutDuration(Duration.ZERO)
+                .build());
+        CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                .slidingWindowSize(2)
+                .minimumNumberOfCalls(2)
+                .build());
+        TMDBCallGuard guard = new TMDBCallGuard(rateLimiterRegistry, circuitBreakerRegistry,
+                RetryRegistry.of(RetryConfig.custom().maxAttempts(1).build()));
+
+        assertThat(guard.call(() -> "ok")).isEqualTo("ok");
+        for (int i = 0; i < 5; i++) {
+            assertThatThrownBy(() -> guard.call(() -> "ok")).isInstanceOf(RequestNotPermitted.class);
+        }
+
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker("tmdb");
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(circuitBreaker.getMetrics().getNumberOfFailedCalls()).isZero();
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.moviejbackend.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * TMDBFanOutExecutor: 기한 초과 작업은 인터럽트, 대기열이 가득 차면 즉시 fallback(지표 기록), 기한은 시작 시점부터,
+ * 백그라운드 호출은 나눠 제출해 거절되지 않음
+ */
+class TMDBFanOutExecutorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private TMDBFanOutExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void interruptsTimedOutCall() throws Exception {
+        executor = new TMDBFanOutExecutor(2, 4, 1, 100, meterRegistry);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        Callable<String> slow = () -> {
+            try {
+                Thread.sleep(10_000);
+                return "slow";
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                throw e;
+            }
+        };
+
+        List<String> results = executor.invokeAll(List.of(slow, () -> "fast"), "fallback");
+
+        assertThat(results).containsExactly("fallback", "fast");
+        assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void fallsBackAndCountsWhenQueueIsFull() {
+        executor = new TMDBFanOutExecutor(1, 1, 1, 500, meterRegistry);
+        Callable<String> slow = () -> {
+            Thread.sleep(200);
+            return "ok";
+        };
+
+        // 스레드 1 + 대기열 1 → 세 번째 호출은 거절되어 fallback
+        List<String> results = executor.invokeAll(List.of(slow, slow, slow), "fallback");
+
+        assertThat(results).containsExactly("ok", "ok", "fallback");
+        assertThat(meterRegistry.counter("tmdb.fanout.rejected", "pool", "request", "reason", "queue-full").count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void deadlineStartsWhenCallStarts() {
+        executor = new TMDBFanOutExecutor(1, 4, 1, 300, meterRegistry);
+        Callable<String> call = () -> {
+            Thread.sleep(200);
+            return "ok";
+        };
+
+        // 두 번째 호출은 200ms 기다린 뒤 시작 → 제출 후 400ms 에 끝나도 기한(300ms) 안
+        assertThat(executor.invokeAll(List.of(call, call), "fallback")).containsExactly("ok", "ok");
+    }
+
+    @Test
+    void backgroundCallsAreSubmittedInWindows() {
+        executor = new TMDBFanOutExecutor(1, 1, 2, 1000, meterRegistry);
+        List<Callable<Integer>> calls = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            int value = i;
+            calls.add(() -> value);
+        }
+
+        List<Integer> results = executor.invokeAllInBackground(calls, null);
+
+        assertThat(results).hasSize(50).doesNotContainNull().startsWith(0, 1, 2).endsWith(49);
+    }
+}
@@ -0,0 +1,255 @@
+package com.example.moviejbackend.service;
+
+import com.example.moviejbackend.config.UpstreamHttpConfig;
+import com.example.moviejbackend.domain.ActorInfo;
+import com.example.moviejbackend.domain.CatalogCast;
+import com.example.moviejbackend.domain.CatalogMovie;
+import com.example.moviejbackend.domain.GenreInfo;
+import com.example.moviejbackend.dto.request.TMDBMovieDto;
+import com.example.moviejbackend.repository.CatalogMovieRepository;
+import com.example.moviejbackend.repository.ReviewRepository;
+import com.example.moviejbackend.repository.UserCollectionRepository;
+import com.example.moviejbackend.tmdbstub.TMDBStubServer;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import io.github.resilience4j.retry.RetryConfig;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * TMDB 대체 서버(TMDBStubServer)로 TMDBService 의 캐시/병렬 호출/재시도 동작 확인 (네트워크, DB 불필요)
+ */
+class TMDBServiceStubTest {
+
+    private TMDBStubServer stub;
+    private CloseableHttpClient httpClient;
+    private TMDBService tmdbService;
+    private CatalogMovieRepository catalogMovieRepository;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        stub = new TMDBStubServer().start();
+
+        UpstreamHttpConfig httpConfig = new UpstreamHttpConfig();
+        PoolingHttpClientConnectionManager connectionManager = httpConfig.upstreamConnectionManager(20, 20, 1000, 2500);
+        httpClient = httpConfig.upstreamHttpClient(connectionManager, 500, 2500);
+
+        RetryRegistry retryRegistry = RetryRegistry.of(RetryConfig.custom()
+                .maxAttempts(3)
+                .waitDuration(Duration.ofMillis(10))
+                .retryExceptions(HttpServerErrorException.class, HttpClientErrorException.TooManyRequests.class)
+                .build());
+        TMDBCallGuard callGuard = new TMDBCallGuard(
+                RateLimiterRegistry.ofDefaults(), CircuitBreakerRegistry.ofDefaults(), retryRegistry);
+
+        catalogMovieRepository = mock(CatalogMovieRepository.class);
+
+        tmdbService = new TMDBService(
+                new TMDBFanOutExecutor(8, 64, 4, 3000, new SimpleMeterRegistry()),
+                callGuard,
+                new SimpleMeterRegistry(),
+                httpConfig.tmdbRestTemplate(new RestTemplateBuilder(),
+                        httpConfig.upstreamRequestFactory(httpClient), stub.baseUrl()),
+                new MovieCatalogService(catalogMovieRepository));
+        ReflectionTestUtils.setField(tmdbService, "apiKey", "stub");
+        ReflectionTestUtils.setField(tmdbService, "genreCacheSpec", "maximumSize=100,expireAfterWrite=1h");
+        ReflectionTestUtils.setField(tmdbService, "actorCacheSpec", "maximumSize=100,expireAfterWrite=1h");
+        ReflectionTestUtils.setField(tmdbService, "movieActorsCacheSpec", "maximumSize=1000,expireAfterWrite=1h");
+        ReflectionTestUtils.setField(tmdbService, "movieRecommendationsCacheSpec", "maximumSize=100,expireAfterWrite=1h");
+        ReflectionTestUtils.setField(tmdbService, "staleCacheSpec", "maximumSize=100,expireAfterWrite=1h");
+        ReflectionTestUtils.setField(tmdbService, "maxTrackedKeys", 100);
+        tmdbService.initCaches();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        tmdbService.shutdownCacheRefresh();
+        httpClient.close();
+        stub.stop();
+    }
+
+    @Test
+    void discoverPagesAreFetchedOnceAndCached() {
+        stub.setLatency(20, 10);
+
+        // RecommendationService 와 같은 방식: 소스별 호출을 기한 안에서 동시 실행
+        RecommendationSourceExecutor sourceExecutor = new RecommendationSourceExecutor(8, 64);
+        Map<String, Callable<List<TMDBMovieDto>>> sources = new LinkedHashMap<>();
+        sources.put("genre:28", () -> tmdbService.searchMoviesByGenre(28L, 2));
+        sources.put("genre:35", () -> tmdbService.searchMoviesByGenre(35L, 2));
+        sources.put("actor:500", () -> tmdbService.searchMoviesByActor(500L, 2));
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+
+        RecommendationSourceExecutor.Outcome<String, List<TMDBMovieDto>> outcome;
+        try {
+            outcome = sourceExecutor.invokeUntil(sources, deadline);
+            sourceExecutor.invokeUntil(sources, deadline);
+        } finally {
+            sourceExecutor.shutdown();
+        }
+
+        assertThat(outcome.partial()).isEmpty();
+        assertThat(outcome.completed()).containsOnlyKeys("genre:28", "genre:35", "actor:500");
+        assertThat(outcome.completed().get("genre:28")).hasSize(40);
+        assertThat(stub.requestCount(TMDBStubServer.ENDPOINT_DISCOVER)).isEqualTo(6);
+        assertThat(stub.requestCount(TMDBStubServer.ENDPOINT_CREDITS)).isZero();
+    }
+
+    @Test
+    void creditsAreFetchedOnlyForRequestedMovies() {
+        List<TMDBMovieDto> movies = tmdbService.searchMoviesByGenre(28L, 1).subList(0, 5);
+
+        List<TMDBMovieDto> enriched = tmdbService.withActors(movies);
+        tmdbService.withActors(movies);
+
+        assertThat(enriched).allSatisfy(movie -> assertThat(movie.getActors()).hasSize(5));
+        assertThat(movies).allSatisfy(movie -> assertThat(movie.getActors()).isNull());
+        assertThat(stub.requestCount(TMDBStubServer.ENDPOINT_CREDITS)).isEqualTo(5);
+    }
+
+    @Test
+    void serverErrorsAreRetriedThenReportedAsEmpty() {
+        stub.setErrorRate(1.0);
+
+        assertThat(tmdbService.getPopularMovies(5)).isEmpty();
+        assertThat(stub.requestCount(TMDBStubServer.ENDPOINT_POPULAR)).isEqualTo(3);
+
+        stub.setErrorRate(0);
+        assertThat(tmdbService.getPopularMovies(5)).hasSize(5);
+    }
+
+    @Test
+    void warmerKeepsGenresWarmWithinCallBudget() {
+        for (int i = 0; i < 3; i++) {
+            tmdbService.searchMoviesByActor(500L, 1);
+        }
+        tmdbService.searchMoviesByGenre(28L, 1);
+        assertThat(tmdbService.hotDiscoverQueries(1)).containsExactly(TMDBService.DiscoverQuery.actor(500L, 1));
+        stub.resetCounts();
+
+        TMDBCacheWarmer warmer = new TMDBCacheWarmer(tmdbService);
+        ReflectionTestUtils.setField(warmer, "enabled", true);
+        ReflectionTestUtils.setField(warmer, "genrePageCount", 1);
+        ReflectionTestUtils.setField(warmer, "hotKeys", 10);
+        ReflectionTestUtils.setField(warmer, "callBudget", 5);
+
+        warmer.warm();
+        assertThat(stub.requestCount(TMDBStubServer.ENDPOINT_DISCOVER)).isEqualTo(5);
+
+        ReflectionTestUtils.setField(warmer, "callBudget", 100);
+        warmer.warm();
+        warmer.warm();
+        // 장르 19개 중 28 은 이미 캐시에 있음, 두 번째 예열은 모두 최신이라 호출 없음
+        assertThat(stub.requestCount(TMDBStubServer.ENDPOINT_DISCOVER)).isEqualTo(18);
+        assertThat(TMDBService.genreIds()).allSatisfy(genreId ->
+                assertThat(tmdbService.needsRefresh(TMDBService.DiscoverQuery.genre(genreId, 1))).isFalse());
+    }
+
+    @Test
+    void catalogCastIsUsedBeforeCallingTmdb() {
+        List<TMDBMovieDto> movies = tmdbService.searchMoviesByGenre(28L, 1).subList(0, 3);
+        // 검색 결과의 카탈로그 저장(별도 스레드)이 끝난 뒤 stub 설정
+        verify(catalogMovieRepository, timeout(1000)).saveAll(any());
+        CatalogMovie cataloged = CatalogMovie.builder()
+                .tmdbId(movies.get(0).getTmdbId())
+                .title(movies.get(0).getTitle())
+                .cast(new ArrayList<>(List.of(new CatalogCast(500L, "톰 크루즈"))))
+                .castLoaded(true)
+                .build();
+        when(catalogMovieRepository.findAllById(any())).thenReturn(List.of(cataloged));
+
+        List<TMDBMovieDto> enriched = tmdbService.withActors(movies);
+
+        assertThat(enriched.get(0).getActors()).extracting(ActorInfo::getActorId).containsExactly(500L);
+        assertThat(enriched.get(1).getActors()).hasSize(5);
+        assertThat(stub.requestCount(TMDBStubServer.ENDPOINT_CREDITS)).isEqualTo(2);
+    }
+
+    @Test
+    void changedMoviesAndDetailsAreReadFromTmdb() {
+        List<Long> changedIds = tmdbService.fetchChangedMovieIds(LocalDate.now().minusDays(1), LocalDate.now());
+        List<TMDBMovieDto> details = tmdbService.fetchMovieDetails(changedIds.subList(0, 2));
+
+        assertThat(changedIds).hasSize(10).startsWith(299534L, 27205L);
+        assertThat(details).extracting(TMDBMovieDto::getTmdbId).containsExactly(299534L, 27205L);
+        assertThat(details.get(0).getGenres()).extracting(GenreInfo::getGenreName).containsExactly("액션", "모험", "SF");
+        assertThat(details.get(0).getActors()).hasSize(5);
+    }
+
+    @Test
+    void recommendationsUseWhatArrivesWithinBudget() {
+        RecommendationSourceExecutor sourceExecutor = new RecommendationSourceExecutor(8, 64);
+        RecommendationRanker ranker = new RecommendationRanker(1, Integer.MAX_VALUE);
+        TasteProfileCache tasteProfileCache = mock(TasteProfileCache.class);
+        TasteProfile profile = TasteProfile.of(
+                List.of(GenreInfo.builder().genreId(28L).build()), List.of(ActorInfo.builder().actorId(500L).build()));
+        when(tasteProfileCache.get("a@test.com"))
+                .thenReturn(new TasteProfileCache.CachedProfile(1L, 0L, profile, List.of(603L)));
+
+        MovieCatalogIndex catalogIndex = new MovieCatalogIndex(new MovieCatalogService(catalogMovieRepository));
+        RecommendationService recommendationService = new RecommendationService(
+                tmdbService, tasteProfileCache, ranker, sourceExecutor,
+                catalogIndex,
+                new ItemSimilarityIndex(mock(ReviewRepository.class), mock(UserCollectionRepository.class)),
+                new MovieEmbeddingIndex(catalogIndex),
+                new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(recommendationService, "shortlistFactor", 3);
+        ReflectionTestUtils.setField(recommendationService, "maxIndexCandidates", 5000);
+        ReflectionTestUtils.setField(recommendationService, "maxAnnCandidates", 500);
+        ReflectionTestUtils.setField(recommendationService, "maxSearchGenres", 3);
+        ReflectionTestUtils.setField(recommendationService, "maxSearchActors", 3);
+        ReflectionTestUtils.setField(recommendationService, "maxSeedMovies", 3);
+        ReflectionTestUtils.setField(recommendationService, "defaultBudgetMs", 3000L);
+        ReflectionTestUtils.setField(recommendationService, "maxBudgetMs", 5000L);
+        ReflectionTestUtils.setField(recommendationService, "candidateRatio", 0.6);
+        try {
+            // 장르 검색만 캐시에 있고 TMDB 가 느린 경우: 장르 후보와 1단계 점수만으로 응답
+            tmdbService.searchMoviesByGenre(28L, 1);
+            stub.setLatency(700, 0);
+
+            long start = System.nanoTime();
+            RecommendationService.RecommendationResult partial = recommendationService.recommend("a@test.com", 5, 300L);
+            long elapsedMs = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+            assertThat(elapsedMs).isLessThan(600);
+            assertThat(partial.partialSources()).containsExactly("actor:500", "movie:603", RecommendationService.SOURCE_CREDITS);
+            assertThat(partial.movies()).hasSize(5)
+                    .allSatisfy(movie -> assertThat(movie.getMatchingScore()).isNotNull());
+
+            // 예산이 충분하면 모든 소스 사용
+            stub.setLatency(0, 0);
+            RecommendationService.RecommendationResult full = recommendationService.recommend("a@test.com", 5, null);
+            assertThat(full.partialSources()).isEmpty();
+            assertThat(full.movies()).hasSize(5)
+                    .allSatisfy(movie -> assertThat(movie.getActors()).hasSize(5));
+            assertThat(stub.requestCount(TMDBStubServer.ENDPOINT_RECOMMENDATIONS)).isEqualTo(1);
+        } finally {
+            sourceExecutor.shutdown();
+            ranker.shutdown();
+        }
+    }
+}
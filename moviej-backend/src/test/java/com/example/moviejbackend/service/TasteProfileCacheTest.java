@@ -0,0 +1,84 @@
+package com.example.moviejbackend.service;
+
+import com.example.moviejbackend.domain.ActorInfo;
+import com.example.moviejbackend.domain.GenreInfo;
+import com.example.moviejbackend.domain.User;
+import com.example.moviejbackend.domain.UserPreference;
+import com.example.moviejbackend.repository.UserPreferenceRepository;
+import com.example.moviejbackend.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * TasteProfileCache: 선호도 변경 전에는 DB를 다시 조회하지 않고, 변경 이벤트 후에는 새 버전으로 다시 불러오는지 확인
+ */
+class TasteProfileCacheTest {
+
+    private UserRepository userRepository;
+    private UserPreferenceRepository userPreferenceRepository;
+    private TasteProfileCache cache;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        userPreferenceRepository = mock(UserPreferenceRepository.class);
+        cache = new TasteProfileCache(userRepository, userPreferenceRepository,
+                mock(PlatformTransactionManager.class), new SimpleMeterRegistry(), "maximumSize=100");
+
+        User user = new User();
+        user.setId(1L);
+        user.setEmail("a@test.com");
+        when(userRepository.findByEmail("a@test.com")).thenReturn(Optional.of(user));
+    }
+
+    @Test
+    void profileIsCachedUntilPreferenceChanges() {
+        when(userPreferenceRepository.findByUserId(1L)).thenReturn(List.of(preference(28L)));
+
+        TasteProfileCache.CachedProfile first = cache.get("a@test.com");
+        cache.get("a@test.com");
+
+        assertThat(first.version()).isZero();
+        assertThat(first.profile().preferredGenreIds()).containsExactly(28L);
+        verify(userRepository, times(1)).findByEmail("a@test.com");
+        verify(userPreferenceRepository, times(1)).findByUserId(1L);
+
+        when(userPreferenceRepository.findByUserId(1L)).thenReturn(List.of(preference(28L), preference(35L)));
+        cache.onPreferenceChanged(new UserPreferenceChangedEvent(1L));
+
+        TasteProfileCache.CachedProfile second = cache.get("a@test.com");
+        assertThat(second.version()).isEqualTo(1L);
+        assertThat(cache.version(1L)).isEqualTo(1L);
+        assertThat(second.profile().preferredGenreIds()).containsExactly(28L, 35L);
+        verify(userPreferenceRepository, times(2)).findByUserId(1L);
+    }
+
+    @Test
+    void userWithoutPreferencesHasNoProfile() {
+        when(userPreferenceRepository.findByUserId(1L)).thenReturn(List.of());
+
+        assertThat(cache.get("a@test.com").profile()).isNull();
+        assertThatThrownBy(() -> cache.get("none@test.com")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static UserPreference preference(long genreId) {
+        UserPreference preference = new UserPreference();
+        preference.setGenres(new ArrayList<>(List.of(GenreInfo.builder().genreId(genreId).build())));
+        preference.setActors(new ArrayList<ActorInfo>());
+        preference.setMovies(new ArrayList<>());
+        return preference;
+    }
+}
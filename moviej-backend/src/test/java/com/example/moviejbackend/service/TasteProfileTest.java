@@ -0,0 +1,87 @@
+package com.example.moviejbackend.service;
+
+import com.example.moviejbackend.domain.ActorInfo;
+import com.example.moviejbackend.domain.GenreInfo;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * TasteProfile 점수가 기존 stream 기반 계산식과 같은지 무작위 입력으로 확인
+ * (중복 선호, 매핑에 없는 장르 ID, ID 없음, 배우 정보 없음, 평점 없음 포함)
+ */
+class TasteProfileTest {
+
+    private static final long[] GENRE_IDS = {28, 12, 16, 35, 80, 99, 18, 10751, 14, 36, 27, 10402, 9648, 10749, 878, 10770, 53, 10752, 37, 4242, 7777};
+
+    @Test
+    void scoresMatchLegacyFormula() {
+        Random random = new Random(7);
+        for (int run = 0; run < 20_000; run++) {
+            List<GenreInfo> userGenres = genres(random, random.nextInt(8));
+            List<ActorInfo> userActors = actors(random, random.nextInt(8));
+            List<GenreInfo> movieGenres = random.nextInt(20) == 0 ? null : genres(random, random.nextInt(5));
+            List<ActorInfo> movieActors = random.nextInt(5) == 0 ? null : actors(random, random.nextInt(7));
+            Double rating = switch (random.nextInt(6)) {
+                case 0 -> null;
+                case 1 -> 0.0;
+                default -> random.nextInt(101) / 10.0;
+            };
+
+            double expected = legacyScore(userGenres, userActors, movieGenres, movieActors, rating);
+            double actual = TasteProfile.of(userGenres, userActors).score(movieGenres, movieActors, rating);
+            assertThat(actual).as("run %d", run).isEqualTo(expected);
+        }
+    }
+
+    private static List<GenreInfo> genres(Random random, int count) {
+        List<GenreInfo> genres = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            GenreInfo genre = new GenreInfo();
+            genre.setGenreId(random.nextInt(30) == 0 ? null : GENRE_IDS[random.nextInt(GENRE_IDS.length)]);
+            genres.add(genre);
+        }
+        return genres;
+    }
+
+    private static List<ActorInfo> actors(Random random, int count) {
+        List<ActorInfo> actors = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            ActorInfo actor = new ActorInfo();
+            actor.setActorId(random.nextInt(30) == 0 ? null : 500L + random.nextInt(12));
+            actors.add(actor);
+        }
+        return actors;
+    }
+
+    /**
+     * 기존 MatchingScoreService.score 구현
+     */
+    private static double legacyScore(List<GenreInfo> allGenres, List<ActorInfo> allActors,
+                                      List<GenreInfo> movieGenres, List<ActorInfo> movieActors, Double rating) {
+        List<GenreInfo> genres = movieGenres != null ? movieGenres : List.of();
+        List<ActorInfo> actors = movieActors != null ? movieActors : List.of();
+
+        long matchGenreCount = allGenres.stream()
+                .filter(g -> genres.stream()
+                        .anyMatch(mg -> mg.getGenreId() != null && mg.getGenreId().equals(g.getGenreId())))
+                .count();
+        double genreScore = allGenres.isEmpty() ? 0.0 : (matchGenreCount * 100.0 / allGenres.size());
+
+        long matchActorCount = allActors.stream()
+                .filter(a -> actors.stream()
+                        .anyMatch(ma -> ma.getActorId() != null && ma.getActorId().equals(a.getActorId())))
+                .count();
+        double actorScore = allActors.isEmpty() ? 0.0 : (matchActorCount * 100.0 / allActors.size());
+
+        double publicScore = (rating == null || rating == 0.0) ? 65.0 : rating * 10.0;
+        double matchingScore = (genreScore * 1.4) + (actorScore * 1.5);
+        double finalScore = (20.0 * 0.15) + (publicScore * 0.6) + (matchingScore * 0.25);
+        if (finalScore > 100.0) finalScore = 100.0;
+        return Math.round(finalScore);
+    }
+}
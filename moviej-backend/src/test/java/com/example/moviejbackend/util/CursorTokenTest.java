@@ -0,0 +1,41 @@
+package com.example.moviejbackend.util;
+
+import com.example.moviejbackend.dto.response.CursorPageResponseDto;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * CursorToken: 인코딩/디코딩 왕복, 빈 토큰은 첫 페이지, 잘못된 토큰은 IllegalArgumentException
+ */
+class CursorTokenTest {
+
+    @Test
+    void roundTripsPosition() {
+        LocalDateTime createdAt = LocalDateTime.of(2025, 3, 1, 12, 30, 15, 123_456_000);
+        String token = CursorToken.encode(createdAt, 42L);
+
+        assertThat(token).doesNotContain("|", "=", "/", "+");
+        assertThat(CursorToken.decode(token)).isEqualTo(new CursorToken.Position(createdAt, 42L));
+        assertThat(CursorToken.decode(null)).isEqualTo(CursorToken.FIRST);
+        assertThat(CursorToken.decode("")).isEqualTo(CursorToken.FIRST);
+        assertThatThrownBy(() -> CursorToken.decode("not-a-cursor")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void pageUsesExtraRowOnlyToDetectNextPage() {
+        CursorPageResponseDto<Long> page = CursorPageResponseDto.of(List.of(5L, 4L, 3L), 2, String::valueOf, null, false);
+        assertThat(page.getContent()).containsExactly(5L, 4L);
+        assertThat(page.isHasNext()).isTrue();
+        assertThat(page.getNextCursor()).isEqualTo("4");
+
+        CursorPageResponseDto<Long> last = CursorPageResponseDto.of(List.of(2L, 1L), 2, String::valueOf, 2L, false);
+        assertThat(last.getContent()).containsExactly(2L, 1L);
+        assertThat(last.isHasNext()).isFalse();
+        assertThat(last.getNextCursor()).isNull();
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.moviejbackend.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * HnswIndex: 전체 비교(brute force) 대비 재현율, 같은 ID 교체, 파일 저장/복원
+ */
+class HnswIndexTest {
+
+    private static final int DIMENSIONS = 32;
+
+    @Test
+    void findsMostOfTheExactNearestNeighbours() {
+        Random random = new Random(11);
+        float[][] vectors = new float[3000][];
+        HnswIndex index = new HnswIndex(DIMENSIONS, 16, 100);
+        for (int i = 0; i < vectors.length; i++) {
+            vectors[i] = randomUnitVector(random);
+            index.add(i, vectors[i]);
+        }
+
+        int k = 10;
+        int hits = 0;
+        int queries = 100;
+        for (int q = 0; q < queries; q++) {
+            float[] query = randomUnitVector(random);
+            Set<Long> exact = exactTopK(vectors, query, k);
+            for (HnswIndex.Result result : index.search(query, k, 100)) {
+                if (exact.contains(result.id())) hits++;
+            }
+        }
+        assertThat((double) hits / (queries * k)).isGreaterThan(0.9);
+    }
+
+    @Test
+    void replacedItemsAreSearchedWithNewVectorAndSurviveReload(@TempDir Path dir) throws Exception {
+        Random random = new Random(3);
+        HnswIndex index = new HnswIndex(DIMENSIONS, 8, 50);
+        for (int i = 0; i < 200; i++) {
+            index.add(i, randomUnitVector(random));
+        }
+        float[] target = randomUnitVector(random);
+        index.add(7, target);
+
+        assertThat(index.size()).isEqualTo(200);
+        assertThat(index.deletedRatio()).isGreaterThan(0.0);
+        assertThat(index.search(target, 1, 50)).extracting(HnswIndex.Result::id).containsExactly(7L);
+
+        Path file = dir.resolve("index.hnsw");
+        index.save(file);
+        HnswIndex loaded = HnswIndex.load(file, DIMENSIONS);
+        assertThat(loaded.size()).isEqualTo(200);
+        assertThat(loaded.vector(7)).containsExactly(target);
+        assertThat(loaded.search(target, 5, 50)).extracting(HnswIndex.Result::id)
+                .isEqualTo(index.search(target, 5, 50).stream().map(HnswIndex.Result::id).toList());
+
+        // 불러온 색인에도 계속 추가 가능
+        loaded.add(1000, target);
+        assertThat(loaded.search(target, 2, 50)).extracting(HnswIndex.Result::id).containsExactlyInAnyOrder(7L, 1000L);
+    }
+
+    private static Set<Long> exactTopK(float[][] vectors, float[] query, int k) {
+        double[] scores = new double[vectors.length];
+        long[] ids = new long[vectors.length];
+        for (int i = 0; i < vectors.length; i++) {
+            ids[i] = i;
+            for (int d = 0; d < DIMENSIONS; d++) {
+                scores[i] += vectors[i][d] * query[d];
+            }
+        }
+        Set<Long> exact = new HashSet<>();
+        for (int index : TopK.select(scores, ids, k)) {
+            exact.add(ids[index]);
+        }
+        return exact;
+    }
+
+    private static float[] randomUnitVector(Random random) {
+        float[] vector = new float[DIMENSIONS];
+        double norm = 0;
+        for (int d = 0; d < DIMENSIONS; d++) {
+            vector[d] = (float) random.nextGaussian();
+            norm += vector[d] * vector[d];
+        }
+        for (int d = 0; d < DIMENSIONS; d++) {
+            vector[d] /= (float) Math.sqrt(norm);
+        }
+        return vector;
+    }
+}
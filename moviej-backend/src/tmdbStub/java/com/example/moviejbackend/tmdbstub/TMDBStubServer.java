@@ -0,0 +1,402 @@
+package com.example.moviejbackend.tmdbstub;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * TMDB API 대체 서버 (네트워크/API 키 없이 TMDBService 실행·테스트·부하 테스트용)
+ * - GET /movie/popular, /discover/movie, /movie/{id}/credits, /movie/{id}/recommendations, /movie/{id}, /movie/changes 를
+ *   녹화된 fixture 로 응답
+ * - 지연(latency + jitter), 오류율(500), 호출 제한(429) 주입
+ * - 경로별 호출 수 기록 (캐시/요청 합치기 검증용)
+ *
+ * 단독 실행: ./gradlew tmdbStub --args="--port=8090 --latency-ms=80 --error-rate=0.05"
+ *           또는 java -jar build/libs/tmdb-stub.jar --port=8090
+ * 백엔드 연결: TMDB_API_BASE_URL=http://localhost:8090 TMDB_API_KEY=stub
+ *
+ * fixture 조회 순서: --fixtures 디렉터리 → 클래스패스 tmdb-fixtures/
+ * - movie-popular.json
+ * - discover-movie-{with_genres|with_cast}-{id}-{page}.json, 없으면 discover-movie.json
+ * - movie-credits-{id}.json, 없으면 movie-credits.json
+ * - movie-details-{id}.json, 없으면 movie-details.json (append_to_response=credits 형태)
+ * - movie-recommendations-{id}.json, 없으면 discover-movie.json
+ * - movie-changes.json
+ * 기본 fixture 의 {{page}}, {{idBase}}, {{genreId}}, {{movieId}} 는 요청 값으로 치환
+ * (검색마다 다른 영화 ID 가 나오도록)
+ */
+public class TMDBStubServer {
+
+    public static final String ENDPOINT_POPULAR = "popular";
+    public static final String ENDPOINT_DISCOVER = "discover";
+    public static final String ENDPOINT_CREDITS = "credits";
+    public static final String ENDPOINT_DETAILS = "details";
+    public static final String ENDPOINT_CHANGES = "changes";
+    public static final String ENDPOINT_RECOMMENDATIONS = "recommendations";
+
+    private static final Pattern CREDITS_PATH = Pattern.compile("^/movie/(\\d+)/credits$");
+    private static final Pattern DETAILS_PATH = Pattern.compile("^/movie/(\\d+)$");
+    private static final Pattern RECOMMENDATIONS_PATH = Pattern.compile("^/movie/(\\d+)/recommendations$");
+    private static final String CLASSPATH_FIXTURES = "tmdb-fixtures/";
+    private static final long DEFAULT_GENRE_ID = 18;
+
+    private final int requestedPort;
+    private final Path fixtureDir;
+    private final Map<String, String> fixtureCache = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> requestCounts = new ConcurrentHashMap<>();
+
+    // 장애 주입 설정 (실행 중 변경 가능)
+    private volatile long latencyMs;
+    private volatile long jitterMs;
+    private volatile double errorRate;
+    private volatile double throttleRate;
+    private volatile int maxRequestsPerSecond;
+
+    // 초당 호출 수 제한용 (현재 초, 해당 초의 호출 수)
+    private final AtomicLong currentSecond = new AtomicLong();
+    private final AtomicInteger requestsInSecond = new AtomicInteger();
+
+    private HttpServer server;
+    private ExecutorService executor;
+
+    public TMDBStubServer(int port, Path fixtureDir) {
+        this.requestedPort = port;
+        this.fixtureDir = fixtureDir;
+    }
+
+    /**
+     * 임의 포트, 클래스패스 fixture 사용 (테스트용)
+     */
+    public TMDBStubServer() {
+        this(0, null);
+    }
+
+    public static void main(String[] args) throws IOException {
+        Map<String, String> options = parseArgs(args);
+        TMDBStubServer stub = new TMDBStubServer(
+                Integer.parseInt(options.getOrDefault("port", "8090")),
+                options.containsKey("fixtures") ? Path.of(options.get("fixtures")) : null);
+        stub.setLatency(Long.parseLong(options.getOrDefault("latency-ms", "0")),
+                Long.parseLong(options.getOrDefault("jitter-ms", "0")));
+        stub.setErrorRate(Double.parseDouble(options.getOrDefault("error-rate", "0")));
+        stub.setThrottleRate(Double.parseDouble(options.getOrDefault("throttle-rate", "0")));
+        stub.setMaxRequestsPerSecond(Integer.parseInt(options.getOrDefault("max-rps", "0")));
+        stub.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(stub::stop));
+        System.out.println("🎬 TMDB 대체 서버 실행: " + stub.baseUrl() + " " + options);
+    }
+
+    public synchronized TMDBStubServer start() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", requestedPort), 256);
+        executor = Executors.newFixedThreadPool(32, runnable -> {
+            Thread thread = new Thread(runnable, "tmdb-stub");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+        server.start();
+        return this;
+    }
+
+    public synchronized void stop() {
+        if (server != null) {
+            server.stop(0);
+            executor.shutdownNow();
+            server = null;
+        }
+    }
+
+    public int port() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * tmdb.api.base-url 에 넣을 주소
+     */
+    public String baseUrl() {
+        return "http://127.0.0.1:" + port();
+    }
+
+    /**
+     * 응답마다 latencyMs + [0, jitterMs) 만큼 지연
+     */
+    public void setLatency(long latencyMs, long jitterMs) {
+        this.latencyMs = latencyMs;
+        this.jitterMs = jitterMs;
+    }
+
+    /**
+     * 해당 비율만큼 500 응답
+     */
+    public void setErrorRate(double errorRate) {
+        this.errorRate = errorRate;
+    }
+
+    /**
+     * 해당 비율만큼 429 응답
+     */
+    public void setThrottleRate(double throttleRate) {
+        this.throttleRate = throttleRate;
+    }
+
+    /**
+     * 초당 호출 수를 넘으면 429 응답 (0 이면 제한 없음)
+     */
+    public void setMaxRequestsPerSecond(int maxRequestsPerSecond) {
+        this.maxRequestsPerSecond = maxRequestsPerSecond;
+    }
+
+    /**
+     * 엔드포인트별 호출 수 (ENDPOINT_* 상수, 실패 응답 포함)
+     */
+    public int requestCount(String endpoint) {
+        AtomicInteger count = requestCounts.get(endpoint);
+        return count != null ? count.get() : 0;
+    }
+
+    public void resetCounts() {
+        requestCounts.clear();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            String path = exchange.getRequestURI().getPath();
+            Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                sendError(exchange, 405, 3, "Invalid request method.");
+                return;
+            }
+
+            String endpoint;
+            Matcher credits = CREDITS_PATH.matcher(path);
+            Matcher details = DETAILS_PATH.matcher(path);
+            Matcher recommendations = RECOMMENDATIONS_PATH.matcher(path);
+            if ("/movie/popular".equals(path)) {
+                endpoint = ENDPOINT_POPULAR;
+            } else if ("/discover/movie".equals(path)) {
+                endpoint = ENDPOINT_DISCOVER;
+            } else if ("/movie/changes".equals(path)) {
+                endpoint = ENDPOINT_CHANGES;
+            } else if (credits.matches()) {
+                endpoint = ENDPOINT_CREDITS;
+            } else if (details.matches()) {
+                endpoint = ENDPOINT_DETAILS;
+            } else if (recommendations.matches()) {
+                endpoint = ENDPOINT_RECOMMENDATIONS;
+            } else {
+                sendError(exchange, 404, 34, "The resource you requested could not be found.");
+                return;
+            }
+            requestCounts.computeIfAbsent(endpoint, key -> new AtomicInteger()).incrementAndGet();
+
+            if (query.getOrDefault("api_key", "").isEmpty()) {
+                sendError(exchange, 401, 7, "Invalid API key: You must be granted a valid key.");
+                return;
+            }
+
+            delay();
+
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            if (overRateLimit() || random.nextDouble() < throttleRate) {
+                exchange.getResponseHeaders().set("Retry-After", "1");
+                sendError(exchange, 429, 25, "Your request count is over the allowed limit.");
+                return;
+            }
+            if (random.nextDouble() < errorRate) {
+                sendError(exchange, 500, 11, "Internal error: Something went wrong, contact TMDB.");
+                return;
+            }
+
+            String body = switch (endpoint) {
+                case ENDPOINT_POPULAR -> fixture("movie-popular.json", Map.of());
+                case ENDPOINT_DISCOVER -> discover(query);
+                case ENDPOINT_CHANGES -> fixture("movie-changes.json", Map.of());
+                case ENDPOINT_DETAILS -> byMovieId("movie-details", Long.parseLong(details.group(1)));
+                case ENDPOINT_RECOMMENDATIONS -> recommendations(Long.parseLong(recommendations.group(1)));
+                default -> byMovieId("movie-credits", Long.parseLong(credits.group(1)));
+            };
+            if (body == null) {
+                sendError(exchange, 404, 34, "The resource you requested could not be found.");
+                return;
+            }
+            send(exchange, 200, body);
+        } catch (RuntimeException e) {
+            System.err.println("TMDB 대체 서버 처리 실패: " + e.getMessage());
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private String discover(Map<String, String> query) throws IOException {
+        String filter = query.containsKey("with_genres") ? "with_genres"
+                : query.containsKey("with_cast") ? "with_cast" : null;
+        long id = filter != null ? parseLong(query.get(filter), 0) : 0;
+        long page = Math.max(1, parseLong(query.get("page"), 1));
+
+        if (filter != null) {
+            String recorded = fixture("discover-movie-" + filter + "-" + id + "-" + page + ".json", Map.of());
+            if (recorded != null) {
+                return recorded;
+            }
+        }
+
+        return movieList(filter + ":" + id, page, "with_genres".equals(filter) ? id : DEFAULT_GENRE_ID);
+    }
+
+    private String recommendations(long movieId) throws IOException {
+        String recorded = fixture("movie-recommendations-" + movieId + ".json", Map.of());
+        if (recorded != null) {
+            return recorded;
+        }
+        return movieList("recommendations:" + movieId, 1, DEFAULT_GENRE_ID);
+    }
+
+    /**
+     * 기본 영화 목록 fixture (검색 키, 페이지마다 다른 영화 ID 대역 사용)
+     */
+    private String movieList(String searchKey, long page, long genreId) throws IOException {
+        long idBase = (Math.floorMod(searchKey.hashCode(), 9000) + 1000) * 100 + page;
+        Map<String, String> variables = new HashMap<>();
+        variables.put("page", String.valueOf(page));
+        variables.put("idBase", String.valueOf(idBase));
+        variables.put("genreId", String.valueOf(genreId));
+        return fixture("discover-movie.json", variables);
+    }
+
+    /**
+     * 영화별 fixture ({name}-{id}.json) 가 없으면 기본 fixture 에 movieId 치환
+     */
+    private String byMovieId(String name, long movieId) throws IOException {
+        String recorded = fixture(name + "-" + movieId + ".json", Map.of());
+        if (recorded != null) {
+            return recorded;
+        }
+        return fixture(name + ".json", Map.of("movieId", String.valueOf(movieId)));
+    }
+
+    /**
+     * fixture 파일을 읽어 {{name}} 자리표시자 치환 (없으면 null)
+     */
+    private String fixture(String name, Map<String, String> variables) throws IOException {
+        String template = fixtureCache.get(name);
+        if (template == null) {
+            template = loadFixture(name);
+            if (template == null) {
+                return null;
+            }
+            fixtureCache.put(name, template);
+        }
+        String body = template;
+        for (Map.Entry<String, String> variable : variables.entrySet()) {
+            body = body.replace("{{" + variable.getKey() + "}}", variable.getValue());
+        }
+        return body;
+    }
+
+    private String loadFixture(String name) throws IOException {
+        if (fixtureDir != null) {
+            Path file = fixtureDir.resolve(name);
+            if (Files.isRegularFile(file)) {
+                return Files.readString(file);
+            }
+        }
+        try (InputStream in = TMDBStubServer.class.getClassLoader().getResourceAsStream(CLASSPATH_FIXTURES + name)) {
+            return in != null ? new String(in.readAllBytes(), StandardCharsets.UTF_8) : null;
+        }
+    }
+
+    private void delay() {
+        long delayMs = latencyMs + (jitterMs > 0 ? ThreadLocalRandom.current().nextLong(jitterMs) : 0);
+        if (delayMs <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(delayMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private boolean overRateLimit() {
+        int limit = maxRequestsPerSecond;
+        if (limit <= 0) {
+            return false;
+        }
+        long second = System.currentTimeMillis() / 1000;
+        long previous = currentSecond.get();
+        if (previous != second && currentSecond.compareAndSet(previous, second)) {
+            requestsInSecond.set(0);
+        }
+        return requestsInSecond.incrementAndGet() > limit;
+    }
+
+    private static void sendError(HttpExchange exchange, int status, int code, String message) throws IOException {
+        send(exchange, status, "{\"success\":false,\"status_code\":" + code
+                + ",\"status_message\":\"" + message + "\"}");
+    }
+
+    private static void send(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json;charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> query = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return query;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int eq = pair.indexOf('=');
+            String key = eq >= 0 ? pair.substring(0, eq) : pair;
+            String value = eq >= 0 ? pair.substring(eq + 1) : "";
+            query.put(URLDecoder.decode(key, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return query;
+    }
+
+    /**
+     * --name=value 형식 인자 파싱
+     */
+    private static Map<String, String> parseArgs(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (arg.startsWith("--") && arg.contains("=")) {
+                int eq = arg.indexOf('=');
+                options.put(arg.substring(2, eq), arg.substring(eq + 1));
+            }
+        }
+        return options;
+    }
+
+    private static long parseLong(String value, long fallback) {
+        try {
+            return value != null ? Long.parseLong(value.split(",")[0]) : fallback;
+        } catch (NumberFormatException e) {
+            return fallback;
+        }
+    }
+}
@@ -29,7 +29,25 @@ export default function BoxOffice({ isLoggedIn }: { isLoggedIn: boolean }) {
   const [loadingScores, setLoadingScores] = useState<{
     [key: number]: boolean;
   }>({});
-  const PRELOAD_COUNT = 5; // 초기 로딩 시 미리 가져올 영화 개수
+
+  // 취향 점수 요청 본문 (TMDB 검색 결과 → TMDBMovieDto)
+  const toMatchingScoreRequest = (
+    info: { [x: string]: any },
+    fallbackTitle: string
+  ) => ({
+    tmdbId: info.id,
+    title: info.title || fallbackTitle,
+    overview: info.overview || "",
+    posterPath: info.poster_path || "",
+    releaseDate: info.release_date || "",
+    rating: info.vote_average || 0,
+    genres: (info.genre_ids || []).map((gid: number) => ({
+      id: 0,
+      genreId: gid,
+      genreName: "",
+    })),
+    actors: [],
+  });
 
   useEffect(() => {
     async function fetchPostersAndInfos() {
@@ -62,46 +80,33 @@ export default function BoxOffice({ isLoggedIn }: { isLoggedIn: boolean }) {
       );
       setTmdbInfos(infoResults);
 
-      // 취향 점수 조회 - 앞 5개만 미리 로드
+      // 취향 점수 조회 - 전체 영화를 한 번의 요청으로 (응답: tmdbId → 점수)
       const userEmail = localStorage.getItem("userEmail");
       if (userEmail) {
-        const scores: { [key: number]: number } = {};
-        await Promise.all(
-          infoResults.slice(0, PRELOAD_COUNT).map(async (info, index) => {
-            if (info && info.id) {
-              try {
-                const response = await api.post(
-                  "/users/matching-score",
-                  {
-                    tmdbId: info.id,
-                    title: info.title || boxOffice[index].movieNm,
-                    overview: info.overview || "",
-                    posterPath: info.poster_path || "",
-                    releaseDate: info.release_date || "",
-                    rating: info.vote_average || 0,
-                    genres: (info.genre_ids || []).map((gid: number) => ({
-                      id: 0,
-                      genreId: gid,
-                      genreName: "",
-                    })),
-                    actors: [],
-                  },
-                  {
-                    params: { email: userEmail },
-                  }
-                );
-                scores[index] = response.data.score || 0;
-              } catch (err) {
-                console.log(
-                  `취향 점수 조회 실패 (${boxOffice[index].movieNm}):`,
-                  err
-                );
-                scores[index] = 0;
+        const scoredMovies = infoResults
+          .map((info, index) => ({ info, index }))
+          .filter(({ info }) => info && info.id);
+        if (scoredMovies.length > 0) {
+          try {
+            const response = await api.post(
+              "/users/matching-score/batch",
+              scoredMovies.map(({ info, index }) =>
+                toMatchingScoreRequest(info, boxOffice[index].movieNm)
+              ),
+              {
+                params: { email: userEmail },
               }
-            }
-          })
-        );
-        setMatchingScores(scores);
+            );
+            const scores: { [key: number]: number } = {};
+            scoredMovies.forEach(({ info, index }) => {
+              scores[index] = response.data[info.id] || 0;
+            });
+            setMatchingScores(scores);
+          } catch (err) {
+            // 실패하면 hover 시 개별 조회
+            console.log("취향 점수 일괄 조회 실패:", err);
+          }
+        }
       }
     }
     fetchPostersAndInfos();
@@ -125,20 +130,7 @@ export default function BoxOffice({ isLoggedIn }: { isLoggedIn: boolean }) {
     try {
       const response = await api.post(
         "/users/matching-score",
-        {
-          tmdbId: info.id,
-          title: info.title || boxOffice[actualIdx].movieNm,
-          overview: info.overview || "",
-          posterPath: info.poster_path || "",
-          releaseDate: info.release_date || "",
-          rating: info.vote_average || 0,
-          genres: (info.genre_ids || []).map((gid: number) => ({
-            id: 0,
-            genreId: gid,
-            genreName: "",
-          })),
-          actors: [],
-        },
+        toMatchingScoreRequest(info, boxOffice[actualIdx].movieNm),
         {
           params: { email: userEmail },
         }
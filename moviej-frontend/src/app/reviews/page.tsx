@@ -37,7 +37,8 @@ function ReviewsPage() {
   const [sortBy, setSortBy] = useState<"latest" | "popular">("latest");
   const [movie, setMovie] = useState<MovieDetail | null>(null);
   const [posters, setPosters] = useState<{ [key: string]: string }>({});
-  const [page, setPage] = useState(0);
+  // 다음 페이지 커서 (서버가 준 nextCursor, 마지막 페이지면 null)
+  const [cursor, setCursor] = useState<string | null>(null);
   const [hasMore, setHasMore] = useState(true);
   const [loading, setLoading] = useState(false);
 
@@ -59,7 +60,7 @@ function ReviewsPage() {
   // 초기 데이터 로드
   useEffect(() => {
     setReviews([]);
-    setPage(0);
+    setCursor(null);
     setHasMore(true);
     fetchInitialData();
   }, [movieId]);
@@ -78,32 +79,30 @@ function ReviewsPage() {
       if (movieId) {
         const responses = await api.get(`/reviews/movie/${movieId}`, {
           params: {
-            page: 0,
+            cursor: "",
             size: 5,
             email: userEmail,
           },
         });
-        const reviewData = responses.data.content || responses.data;
+        const reviewData = responses.data.content;
         setReviews(reviewData);
-        setHasMore(
-          responses.data.content ? !responses.data.last : reviewData.length >= 5
-        );
+        setCursor(responses.data.nextCursor);
+        setHasMore(responses.data.hasNext);
 
         const movieData = await getMovieDetails(movieId);
         setMovie(movieData);
       } else {
         const responses = await api.get("/reviews", {
           params: {
-            page: 0,
+            cursor: "",
             size: 3,
             email: userEmail,
           },
         });
-        const reviewData = responses.data.content || responses.data;
+        const reviewData = responses.data.content;
         setReviews(reviewData);
-        setHasMore(
-          responses.data.content ? !responses.data.last : reviewData.length >= 3
-        );
+        setCursor(responses.data.nextCursor);
+        setHasMore(responses.data.hasNext);
 
         await fetchPostersForReviews(reviewData);
       }
@@ -116,30 +115,22 @@ function ReviewsPage() {
   };
 
   const fetchMoreData = async () => {
-    if (loading) return;
-    const nextPage = page + 1;
+    if (loading || !cursor) return;
     setLoading(true);
     try {
       const userEmail = localStorage.getItem("userEmail");
-      let newReviews: Review[] = [];
-      if (movieId) {
-        const responses = await api.get(`/reviews/movie/${movieId}`, {
-          params: {
-            page: nextPage,
-            size: 3,
-            email: userEmail,
-          },
-        });
-        newReviews = responses.data.content || responses.data;
-      } else {
-        const responses = await api.get("/reviews", {
+      const responses = await api.get(
+        movieId ? `/reviews/movie/${movieId}` : "/reviews",
+        {
           params: {
-            page: nextPage,
+            cursor,
             size: 3,
             email: userEmail,
           },
-        });
-        newReviews = responses.data.content || responses.data;
+        }
+      );
+      const newReviews: Review[] = responses.data.content;
+      if (!movieId) {
         await fetchPostersForReviews(newReviews);
       }
 
@@ -149,8 +140,8 @@ function ReviewsPage() {
         return [...prev, ...filtered];
       });
 
-      setHasMore(newReviews.length >= 3);
-      setPage(nextPage);
+      setCursor(responses.data.nextCursor);
+      setHasMore(responses.data.hasNext);
     } catch {
       setHasMore(false);
     } finally {